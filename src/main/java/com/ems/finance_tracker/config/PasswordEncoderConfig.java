@@ -0,0 +1,27 @@
+package com.ems.finance_tracker.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * Configures the password encoder with the BCrypt cost factor from {@code password-hashing.bcrypt-strength}.
+ * <p>
+ * Each increment doubles the hashing time. The cost is stored in every hash, so raising it only
+ * affects passwords hashed afterwards.
+ * </p>
+ *
+ * @author Evandro Machado
+ * @see com.ems.finance_tracker.service.PasswordHashingService
+ */
+@Configuration
+public class PasswordEncoderConfig {
+
+    @Bean
+    public PasswordEncoder passwordEncoder(@Value("${password-hashing.bcrypt-strength:10}") int strength) {
+        return new BCryptPasswordEncoder(strength);
+    }
+
+}
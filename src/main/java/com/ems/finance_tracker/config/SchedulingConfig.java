@@ -0,0 +1,21 @@
+package com.ems.finance_tracker.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables Spring's scheduled task execution for background maintenance jobs.
+ * <p>
+ * With {@code spring.threads.virtual.enabled}, request handling, asynchronous MVC responses and
+ * scheduled jobs all run on virtual threads, and blocking JDBC calls unmount them instead of holding
+ * a platform thread. The Hikari pool then becomes the only bound on concurrent database work, which
+ * is why its size and connection timeout are set explicitly. Our code takes no {@code synchronized}
+ * monitor around blocking calls, so virtual threads are never pinned to their carrier; CPU-bound
+ * work such as password hashing and the authorization partitions keeps dedicated platform threads.
+ * </p>
+ *
+ * @author Evandro Machado
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {}
@@ -0,0 +1,45 @@
+package com.ems.finance_tracker.controller;
+
+import com.ems.finance_tracker.dto.AuthorizationDTO;
+import com.ems.finance_tracker.service.authorization.AuthorizationEngine;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * REST controller responsible for purchase authorizations through the in-memory
+ * {@link AuthorizationEngine}. Only registered when the engine is enabled.
+ *
+ * @author Evandro Machado
+ */
+@RestController
+@RequestMapping("/credit-cards/{creditCardId}/authorizations")
+@RequiredArgsConstructor
+@CrossOrigin(origins = "${cors.allowed-origins}")
+@ConditionalOnProperty(prefix = "authorization-engine", name = "enabled", havingValue = "true")
+public class AuthorizationController {
+
+    private final AuthorizationEngine authorizationEngine;
+
+    /**
+     * Authorizes a purchase against the available limit of a credit card.
+     * A declined purchase is a regular outcome and is answered with {@code approved = false}.
+     *
+     * @param creditCardId the credit card identifier
+     * @param dto the authorization request data
+     * @return HTTP 200 OK with an {@link AuthorizationDTO.Response} containing the decision, once it is durable
+     * @throws com.ems.finance_tracker.exception.ResourceNotFoundException if the credit card does not exist
+     */
+    @PostMapping
+    public CompletableFuture<ResponseEntity<AuthorizationDTO.Response>> authorize(
+            @PathVariable Long creditCardId,
+            @Valid @RequestBody AuthorizationDTO.Request dto) {
+        return authorizationEngine.authorize(creditCardId, dto.amount())
+                .thenApply(ResponseEntity::ok);
+    }
+
+}
@@ -1,13 +1,17 @@
 package com.ems.finance_tracker.controller;
 
 import com.ems.finance_tracker.dto.CategoryDTO;
+import com.ems.finance_tracker.dto.PageDTO;
 import com.ems.finance_tracker.service.CategoryService;
+import com.ems.finance_tracker.service.CategorySpendingService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.YearMonth;
 import java.util.List;
 
 /**
@@ -24,15 +28,41 @@ import java.util.List;
 public class CategoryController {
 
     private final CategoryService categoryService;
+    private final CategorySpendingService categorySpendingService;
 
     /**
-     * Retrieves all categories.
+     * Retrieves one page of categories, in identifier order.
      *
-     * @return HTTP 200 OK with a list of {@link CategoryDTO.Response} representing all categories
+     * @param cursor the {@code nextCursor} of the previous page, omitted for the first page
+     * @param size the requested page size
+     * @return HTTP 200 OK with a {@link PageDTO.Response} of {@link CategoryDTO.Response} and the next page cursor,
+     * written from pre-serialized bytes
+     * @throws com.ems.finance_tracker.exception.BusinessException if the cursor or size is invalid
      */
-    @GetMapping
-    public ResponseEntity<List<CategoryDTO.Response>> findAllCategories() {
-        return ResponseEntity.ok(categoryService.findAllCategories());
+    @GetMapping(produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<byte[]> findAllCategories(@RequestParam(required = false) String cursor,
+                                                    @RequestParam(required = false) Integer size) {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(categoryService.findAllCategories(cursor, size));
+    }
+
+    /**
+     * Retrieves the spending of a user per category and month, read from the monthly spending rollup.
+     *
+     * @param userId the identifier of the user
+     * @param from the first month, in {@code yyyy-MM} format
+     * @param to the last month, inclusive, in {@code yyyy-MM} format
+     * @return HTTP 200 OK with a list of {@link CategoryDTO.MonthlySpendingResponse} ordered by month and category
+     * @throws com.ems.finance_tracker.exception.ResourceNotFoundException if the user does not exist
+     * @throws com.ems.finance_tracker.exception.BusinessException if the month range is invalid
+     */
+    @GetMapping("/spending")
+    public ResponseEntity<List<CategoryDTO.MonthlySpendingResponse>> findMonthlySpending(@RequestParam Long userId,
+                                                                                       @RequestParam YearMonth from,
+                                                                                       @RequestParam YearMonth to) {
+        // TODO: Take the user from the authenticated principal once Spring Security is fully configured.
+        return ResponseEntity.ok(categorySpendingService.findMonthlySpending(userId, from, to));
     }
 
     /**
@@ -1,14 +1,17 @@
 package com.ems.finance_tracker.controller;
 
 import com.ems.finance_tracker.dto.CreditCardDTO;
+import com.ems.finance_tracker.dto.PageDTO;
 import com.ems.finance_tracker.service.CreditCardService;
+import com.ems.finance_tracker.service.CreditLimitLedgerService;
+import com.ems.finance_tracker.service.StatementForecastService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
+import java.time.Instant;
 
 /**
  * REST controller responsible for handling {@link com.ems.finance_tracker.model.entity.CreditCard}
@@ -24,16 +27,39 @@ import java.util.List;
 public class CreditCardController {
 
     private final CreditCardService creditCardService;
+    private final CreditLimitLedgerService creditLimitLedgerService;
+    private final StatementForecastService statementForecastService;
 
     /**
-     * Retrieves all credit cards.
+     * Retrieves one page of credit cards, in identifier order.
      * Intended for administrative or internal usage.
      *
-     * @return HTTP 200 OK with a list of {@link CreditCardDTO.Response} representing all credit cards
+     * @param cursor the {@code nextCursor} of the previous page, omitted for the first page
+     * @param size the requested page size
+     * @return HTTP 200 OK with a {@link PageDTO.Response} of {@link CreditCardDTO.Response} and the next page cursor
+     * @throws com.ems.finance_tracker.exception.BusinessException if the cursor or size is invalid
      */
     @GetMapping
-    public ResponseEntity<List<CreditCardDTO.Response>> findAll() {
-        return ResponseEntity.ok(creditCardService.findAllCreditCards());
+    public ResponseEntity<PageDTO.Response<CreditCardDTO.Response>> findAll(@RequestParam(required = false) String cursor,
+                                                                            @RequestParam(required = false) Integer size) {
+        return ResponseEntity.ok(creditCardService.findAllCreditCards(cursor, size));
+    }
+
+    /**
+     * Forecasts the statements of a user's credit cards for the next months, starting with the
+     * current one, including every installment already scheduled.
+     *
+     * @param userId the identifier of the user whose statements are forecast
+     * @param months the number of months to forecast
+     * @return HTTP 200 OK with a {@link CreditCardDTO.ForecastResponse} with the monthly amounts per card and in total
+     * @throws com.ems.finance_tracker.exception.ResourceNotFoundException if the user does not exist
+     * @throws com.ems.finance_tracker.exception.BusinessException if the number of months is out of range
+     */
+    @GetMapping("/forecast")
+    public ResponseEntity<CreditCardDTO.ForecastResponse> forecast(@RequestParam Long userId,
+                                                                   @RequestParam(defaultValue = "6") int months) {
+        // TODO: Take the user from the authenticated principal once Spring Security is fully configured.
+        return ResponseEntity.ok(statementForecastService.forecast(userId, months));
     }
 
     /**
@@ -48,6 +74,20 @@ public class CreditCardController {
         return ResponseEntity.ok(creditCardService.findCreditCardById(id));
     }
 
+    /**
+     * Retrieves the credit and available limits of a credit card at a point in time,
+     * reconstructed from the credit limit ledger.
+     *
+     * @param id the credit card identifier
+     * @param at the point in time, in ISO-8601 format
+     * @return HTTP 200 OK with a {@link CreditCardDTO.LimitAtResponse} containing the limits at that time
+     * @throws com.ems.finance_tracker.exception.ResourceNotFoundException if the credit card or its history does not exist
+     */
+    @GetMapping("/{id}/limits")
+    public ResponseEntity<CreditCardDTO.LimitAtResponse> findLimitAt(@PathVariable Long id, @RequestParam Instant at) {
+        return ResponseEntity.ok(creditLimitLedgerService.findLimitAt(id, at));
+    }
+
     /**
      * Creates a new credit card.
      *
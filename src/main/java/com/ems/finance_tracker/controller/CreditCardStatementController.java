@@ -1,7 +1,9 @@
 package com.ems.finance_tracker.controller;
 
 import com.ems.finance_tracker.dto.CreditCardStatementDTO;
+import com.ems.finance_tracker.dto.PageDTO;
 import com.ems.finance_tracker.service.CreditCardStatementService;
+import com.ems.finance_tracker.service.StatementReminderService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
@@ -24,15 +26,31 @@ import java.util.List;
 public class CreditCardStatementController {
 
     private final CreditCardStatementService creditCardStatementService;
+    private final StatementReminderService statementReminderService;
 
     /**
-     * Retrieves all credit card statements.
+     * Retrieves one page of statements, in identifier order.
      *
-     * @return HTTP 200 OK with a list of {@link CreditCardStatementDTO.Response} representing all statements
+     * @param cursor the {@code nextCursor} of the previous page, omitted for the first page
+     * @param size the requested page size
+     * @return HTTP 200 OK with a {@link PageDTO.Response} of {@link CreditCardStatementDTO.Response} and the next page cursor
+     * @throws com.ems.finance_tracker.exception.BusinessException if the cursor or size is invalid
      */
     @GetMapping
-    public ResponseEntity<List<CreditCardStatementDTO.Response>> findAll() {
-        return ResponseEntity.ok(creditCardStatementService.findAllCreditCardStatements());
+    public ResponseEntity<PageDTO.Response<CreditCardStatementDTO.Response>> findAll(@RequestParam(required = false) String cursor,
+                                                                                     @RequestParam(required = false) Integer size) {
+        return ResponseEntity.ok(creditCardStatementService.findAllCreditCardStatements(cursor, size));
+    }
+
+    /**
+     * Retrieves the due-date reminders of a user's closed statements not yet due.
+     *
+     * @param userId the identifier of the user whose reminders are retrieved
+     * @return HTTP 200 OK with a list of {@link CreditCardStatementDTO.DueReminder}, soonest due first
+     */
+    @GetMapping("/reminders")
+    public ResponseEntity<List<CreditCardStatementDTO.DueReminder>> findReminders(@RequestParam Long userId) {
+        return ResponseEntity.ok(statementReminderService.findPendingReminders(userId));
     }
 
     /**
@@ -79,6 +97,7 @@ public class CreditCardStatementController {
      * @param id the identifier of the statement to be deleted
      * @return HTTP 204 No Content if deletion is successful
      * @throws com.ems.finance_tracker.exception.ResourceNotFoundException if the statement does not exist
+     * @throws com.ems.finance_tracker.exception.BusinessException if the statement still has transactions
      */
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> delete(@PathVariable Long id) {
@@ -1,12 +1,20 @@
 package com.ems.finance_tracker.controller;
 
 import com.ems.finance_tracker.dto.CreditCardTransactionDTO;
+import com.ems.finance_tracker.dto.PageDTO;
+import com.ems.finance_tracker.model.enums.CreditCardTransactionOrder;
+import com.ems.finance_tracker.service.CreditCardTransactionExportService;
+import com.ems.finance_tracker.service.CreditCardTransactionSearchService;
 import com.ems.finance_tracker.service.CreditCardTransactionService;
+import com.ems.finance_tracker.service.IdempotencyService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -24,15 +32,81 @@ import java.util.List;
 public class CreditCardTransactionController {
 
     private final CreditCardTransactionService creditCardTransactionService;
+    private final CreditCardTransactionExportService creditCardTransactionExportService;
+    private final CreditCardTransactionSearchService creditCardTransactionSearchService;
+    private final IdempotencyService idempotencyService;
 
     /**
-     * Retrieves all credit card transactions.
+     * Retrieves one page of credit card transactions.
      *
-     * @return HTTP 200 OK with a list of {@link CreditCardTransactionDTO.Response} representing all transactions
+     * @param order the ordering of the pages, by identifier or by purchase date
+     * @param cursor the {@code nextCursor} of the previous page, omitted for the first page
+     * @param size the requested page size
+     * @return HTTP 200 OK with a {@link PageDTO.Response} of {@link CreditCardTransactionDTO.Response} and the next page cursor
+     * @throws com.ems.finance_tracker.exception.BusinessException if the cursor or size is invalid
      */
     @GetMapping
-    public ResponseEntity<List<CreditCardTransactionDTO.Response>> findAll() {
-        return ResponseEntity.ok(creditCardTransactionService.findAllCreditCardTransactions());
+    public ResponseEntity<PageDTO.Response<CreditCardTransactionDTO.Response>> findAll(@RequestParam(defaultValue = "ID") CreditCardTransactionOrder order,
+                                                                                       @RequestParam(required = false) String cursor,
+                                                                                       @RequestParam(required = false) Integer size) {
+        return ResponseEntity.ok(creditCardTransactionService.findAllCreditCardTransactions(order, cursor, size));
+    }
+
+    /**
+     * Retrieves one page of the credit card transactions matching the given criteria.
+     * Every criterion is optional; amount and purchase date ranges are inclusive.
+     *
+     * @param filter the {@link CreditCardTransactionDTO.Filter} bound from the query parameters
+     * @param order the ordering of the pages, by identifier or by purchase date
+     * @param direction the direction of the ordering
+     * @param cursor the {@code nextCursor} of the previous page, omitted for the first page
+     * @param size the requested page size
+     * @return HTTP 200 OK with a {@link PageDTO.Response} of {@link CreditCardTransactionDTO.Response} and the next page cursor
+     * @throws com.ems.finance_tracker.exception.BusinessException if the cursor or size is invalid
+     */
+    @GetMapping("/filter")
+    public ResponseEntity<PageDTO.Response<CreditCardTransactionDTO.Response>> filter(@Valid CreditCardTransactionDTO.Filter filter,
+                                                                                      @RequestParam(defaultValue = "PURCHASE_DATE") CreditCardTransactionOrder order,
+                                                                                      @RequestParam(defaultValue = "DESC") Sort.Direction direction,
+                                                                                      @RequestParam(required = false) String cursor,
+                                                                                      @RequestParam(required = false) Integer size) {
+        return ResponseEntity.ok(creditCardTransactionService.filterCreditCardTransactions(filter, order, direction, cursor, size));
+    }
+
+    /**
+     * Streams every transaction of a user as newline-delimited JSON, one transaction per line.
+     *
+     * @param userId the identifier of the user whose transactions are exported
+     * @return HTTP 200 OK with an {@code application/x-ndjson} body written while rows are read
+     * @throws com.ems.finance_tracker.exception.ResourceNotFoundException if the user does not exist
+     */
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> export(@RequestParam Long userId) {
+        // TODO: Take the user from the authenticated principal once Spring Security is fully configured.
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(creditCardTransactionExportService.exportCreditCardTransactions(userId));
+    }
+
+    /**
+     * Searches a user's transactions by description and comment, with prefix and typo-tolerant
+     * matching, most relevant first.
+     *
+     * @param userId the identifier of the user whose transactions are searched
+     * @param q the search term
+     * @param cursor the {@code nextCursor} of the previous page, omitted for the first page
+     * @param size the requested page size
+     * @return HTTP 200 OK with a {@link PageDTO.Response} of {@link CreditCardTransactionDTO.Response} and the next page cursor
+     * @throws com.ems.finance_tracker.exception.ResourceNotFoundException if the user does not exist
+     * @throws com.ems.finance_tracker.exception.BusinessException if the term, cursor or size is invalid
+     */
+    @GetMapping("/search")
+    public ResponseEntity<PageDTO.Response<CreditCardTransactionDTO.Response>> search(@RequestParam Long userId,
+                                                                                      @RequestParam String q,
+                                                                                      @RequestParam(required = false) String cursor,
+                                                                                      @RequestParam(required = false) Integer size) {
+        // TODO: Take the user from the authenticated principal once Spring Security is fully configured.
+        return ResponseEntity.ok(creditCardTransactionSearchService.searchCreditCardTransactions(userId, q, cursor, size));
     }
 
     /**
@@ -49,15 +123,39 @@ public class CreditCardTransactionController {
 
     /**
      * Creates a new credit card transaction.
+     * When an {@code Idempotency-Key} header is sent, a retry with the same key returns the
+     * original response instead of creating the transaction again.
      *
+     * @param idempotencyKey the optional client-generated key identifying this request
      * @param dto the {@link CreditCardTransactionDTO.Request} containing transaction creation data
      * @return HTTP 201 Created with a {@link CreditCardTransactionDTO.Response} representing the persisted transaction
      * @throws com.ems.finance_tracker.exception.ResourceNotFoundException if the credit card, category or statement is not found
+     * @throws com.ems.finance_tracker.exception.BusinessException if the key was already used for a different request
      */
     @PostMapping
-    public ResponseEntity<CreditCardTransactionDTO.Response> create(@Valid @RequestBody CreditCardTransactionDTO.Request dto) {
+    public ResponseEntity<CreditCardTransactionDTO.Response> create(
+            @RequestHeader(name = "Idempotency-Key", required = false) String idempotencyKey,
+            @Valid @RequestBody CreditCardTransactionDTO.Request dto) {
+        CreditCardTransactionDTO.Response response = idempotencyKey == null
+                ? creditCardTransactionService.saveCreditCardTransaction(dto)
+                : idempotencyService.execute(idempotencyKey, dto, CreditCardTransactionDTO.Response.class,
+                        () -> creditCardTransactionService.saveCreditCardTransaction(dto));
+
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+
+    /**
+     * Creates a batch of credit card transactions in a single request.
+     *
+     * @param dto the {@link CreditCardTransactionDTO.BatchRequest} containing the transactions to be created
+     * @return HTTP 201 Created with a list of {@link CreditCardTransactionDTO.Response} representing the persisted transactions
+     * @throws com.ems.finance_tracker.exception.ResourceNotFoundException if any credit card, category or statement is not found
+     * @throws com.ems.finance_tracker.exception.BusinessException if the net impact exceeds a credit card's limit
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<List<CreditCardTransactionDTO.Response>> createAll(@Valid @RequestBody CreditCardTransactionDTO.BatchRequest dto) {
         return ResponseEntity.status(HttpStatus.CREATED)
-                .body(creditCardTransactionService.saveCreditCardTransaction(dto));
+                .body(creditCardTransactionService.saveAllCreditCardTransactions(dto));
     }
 
     /**
@@ -0,0 +1,74 @@
+package com.ems.finance_tracker.controller;
+
+import com.ems.finance_tracker.dto.StatementImportDTO;
+import com.ems.finance_tracker.model.enums.StatementImportFormat;
+import com.ems.finance_tracker.service.StatementImportService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.InputStream;
+
+/**
+ * REST controller responsible for handling {@link com.ems.finance_tracker.model.entity.StatementImport}
+ * related HTTP requests.
+ * Statement files are sent as the raw request body and streamed into the import.
+ *
+ * @author Evandro Machado
+ */
+@RestController
+@RequestMapping("/statement-imports")
+@RequiredArgsConstructor
+@CrossOrigin(origins = "${cors.allowed-origins}")
+public class StatementImportController {
+
+    private final StatementImportService statementImportService;
+
+    /**
+     * Retrieves the progress of a statement import by ID.
+     *
+     * @param id the import identifier
+     * @return HTTP 200 OK with a {@link StatementImportDTO.Response} containing the import progress
+     * @throws com.ems.finance_tracker.exception.ResourceNotFoundException if the import does not exist
+     */
+    @GetMapping("/{id}")
+    public ResponseEntity<StatementImportDTO.Response> findById(@PathVariable Long id) {
+        return ResponseEntity.ok(statementImportService.findStatementImportById(id));
+    }
+
+    /**
+     * Imports a CSV or OFX statement file into a credit card statement.
+     *
+     * @param statementId the identifier of the target statement
+     * @param categoryId the identifier of the category assigned to the imported transactions
+     * @param format the statement file format
+     * @param content the raw statement file sent as the request body
+     * @return HTTP 201 Created with a {@link StatementImportDTO.Response} containing the import result
+     * @throws com.ems.finance_tracker.exception.ResourceNotFoundException if the statement or category is not found
+     * @throws com.ems.finance_tracker.exception.BusinessException if the file is malformed or exceeds the credit card limit
+     */
+    @PostMapping
+    public ResponseEntity<StatementImportDTO.Response> create(@RequestParam Long statementId,
+                                                              @RequestParam Long categoryId,
+                                                              @RequestParam StatementImportFormat format,
+                                                              InputStream content) {
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(statementImportService.startStatementImport(statementId, categoryId, format, content));
+    }
+
+    /**
+     * Resumes a failed or interrupted statement import by re-sending the same file.
+     *
+     * @param id the import identifier
+     * @param content the raw statement file sent as the request body
+     * @return HTTP 200 OK with a {@link StatementImportDTO.Response} containing the import result
+     * @throws com.ems.finance_tracker.exception.ResourceNotFoundException if the import does not exist
+     * @throws com.ems.finance_tracker.exception.BusinessException if the import is already completed
+     */
+    @PostMapping("/{id}/resume")
+    public ResponseEntity<StatementImportDTO.Response> resume(@PathVariable Long id, InputStream content) {
+        return ResponseEntity.ok(statementImportService.resumeStatementImport(id, content));
+    }
+
+}
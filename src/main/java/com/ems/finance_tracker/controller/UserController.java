@@ -1,6 +1,7 @@
 package com.ems.finance_tracker.controller;
 
 import com.ems.finance_tracker.dto.UserDTO;
+import com.ems.finance_tracker.dto.PageDTO;
 import com.ems.finance_tracker.service.UserService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -8,8 +9,6 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
-
 /**
  * REST controller responsible for handling {@link com.ems.finance_tracker.model.entity.User}
  * related HTTP requests.
@@ -26,13 +25,17 @@ public class UserController {
     private final UserService userService;
 
     /**
-     * Retrieves all users.
+     * Retrieves one page of users, in identifier order.
      *
-     * @return HTTP 200 OK with a list of {@link UserDTO.Response} representing all users
+     * @param cursor the {@code nextCursor} of the previous page, omitted for the first page
+     * @param size the requested page size
+     * @return HTTP 200 OK with a {@link PageDTO.Response} of {@link UserDTO.Response} and the next page cursor
+     * @throws com.ems.finance_tracker.exception.BusinessException if the cursor or size is invalid
      */
     @GetMapping
-    public ResponseEntity<List<UserDTO.Response>> findAll() {
-        return ResponseEntity.ok(userService.findAllUsers());
+    public ResponseEntity<PageDTO.Response<UserDTO.Response>> findAll(@RequestParam(required = false) String cursor,
+                                                                      @RequestParam(required = false) Integer size) {
+        return ResponseEntity.ok(userService.findAllUsers(cursor, size));
     }
 
     /**
@@ -53,6 +56,8 @@ public class UserController {
      * @param dto the {@link UserDTO.Request} containing user creation data
      * @return HTTP 201 Created with a {@link UserDTO.Response} representing the persisted user
      * @throws com.ems.finance_tracker.exception.BusinessException if the email is already in use
+     * @throws com.ems.finance_tracker.exception.ServiceOverloadedException with HTTP 503 and {@code Retry-After}
+     * if too many registrations are being hashed
      */
     @PostMapping
     public ResponseEntity<UserDTO.Response> create(@Valid @RequestBody UserDTO.Request dto) {
@@ -0,0 +1,41 @@
+package com.ems.finance_tracker.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Digits;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+
+import java.math.BigDecimal;
+
+/**
+ * Interface encapsulating purchase authorization Data Transfer Objects (DTOs).
+ *
+ * @author Evandro Machado
+ * @see com.ems.finance_tracker.service.authorization.AuthorizationEngine
+ */
+public interface AuthorizationDTO {
+
+    /**
+     * DTO used for purchase authorization requests.
+     */
+    @Schema(name = "AuthorizationRequest")
+    record Request(
+            @NotNull
+            @Positive
+            @Digits(integer = 13, fraction = 2)
+            BigDecimal amount
+    ) {}
+
+    /**
+     * DTO used in API responses representing an authorization decision.
+     * The sequence identifies an approval in the authorization journal and is {@code null} when declined.
+     */
+    @Schema(name = "AuthorizationResponse")
+    record Response(
+            Long creditCardId,
+            boolean approved,
+            Long sequence,
+            BigDecimal availableLimit
+    ) {}
+
+}
@@ -4,6 +4,8 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Size;
 
+import java.math.BigDecimal;
+import java.time.YearMonth;
 import java.util.Optional;
 
 /**
@@ -42,4 +44,17 @@ public interface CategoryDTO {
             Optional<@NotBlank String> name
     ) {}
 
+    /**
+     * DTO used in API responses, exposing the spending of a user in a category during one month.
+     * The total amount is purchases minus refunds.
+     */
+    @Schema(name = "CategoryMonthlySpendingResponse")
+    record MonthlySpendingResponse(
+            Long categoryId,
+            String categoryName,
+            YearMonth month,
+            BigDecimal totalAmount,
+            long transactionCount
+    ) {}
+
 }
@@ -5,6 +5,9 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.*;
 
 import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.YearMonth;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 
@@ -88,6 +91,47 @@ public interface CreditCardDTO {
             UserRef user
     ) {}
 
+    /**
+     * DTO used in API responses representing the credit card limits at a point in time.
+     */
+    @Schema(name = "CreditCardLimitAtResponse")
+    record LimitAtResponse(
+            Long creditCardId,
+            Instant at,
+            BigDecimal creditLimit,
+            BigDecimal availableLimit
+    ) {}
+
+    /**
+     * DTO representing the amount billed in one month, purchases minus refunds.
+     */
+    @Schema(name = "CreditCardMonthlyAmount")
+    record MonthlyAmount(
+            YearMonth month,
+            BigDecimal amount
+    ) {}
+
+    /**
+     * DTO representing the forecast of one credit card's upcoming statements.
+     */
+    @Schema(name = "CreditCardForecast")
+    record CardForecast(
+            Long creditCardId,
+            String creditCardName,
+            List<MonthlyAmount> months
+    ) {}
+
+    /**
+     * DTO used in API responses representing the forecast of a user's upcoming statements,
+     * per credit card and in total, starting with the current month.
+     */
+    @Schema(name = "CreditCardForecastResponse")
+    record ForecastResponse(
+            Long userId,
+            List<MonthlyAmount> total,
+            List<CardForecast> creditCards
+    ) {}
+
     /**
      * DTO used for updating basic credit card information,
      * excluding available limit and owner's user.
@@ -1,5 +1,6 @@
 package com.ems.finance_tracker.dto;
 
+import com.ems.finance_tracker.model.enums.CreditCardStatementStatus;
 import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import com.fasterxml.jackson.datatype.jsr310.deser.YearMonthDeserializer;
@@ -7,6 +8,8 @@ import com.fasterxml.jackson.datatype.jsr310.ser.YearMonthSerializer;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.validation.constraints.*;
 
+import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.time.YearMonth;
 import java.util.Objects;
 import java.util.Optional;
@@ -58,6 +61,10 @@ public interface CreditCardStatementDTO {
             YearMonth referenceMonth,
             Integer closingDay,
             Integer dueDay,
+            CreditCardStatementStatus status,
+            BigDecimal totalPurchases,
+            BigDecimal totalRefunds,
+            long transactionCount,
             CreditCardRef creditCard
     ) {}
 
@@ -80,4 +87,19 @@ public interface CreditCardStatementDTO {
         }
     }
 
+    /**
+     * DTO representing the reminder of a closed statement about to fall due.
+     */
+    @Schema(name = "CreditCardStatementDueReminder")
+    record DueReminder(
+            Long statementId,
+            Long creditCardId,
+            @JsonSerialize(using = YearMonthSerializer.class)
+            @JsonDeserialize(using = YearMonthDeserializer.class)
+            @Schema(type = "string", example = "2025-01")
+            YearMonth referenceMonth,
+            LocalDate dueDate,
+            BigDecimal balance
+    ) {}
+
 }
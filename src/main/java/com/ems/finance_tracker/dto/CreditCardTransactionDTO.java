@@ -2,11 +2,14 @@ package com.ems.finance_tracker.dto;
 
 import com.ems.finance_tracker.model.enums.CreditCardTransactionType;
 import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
 import jakarta.validation.constraints.*;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
 
 /**
  * Interface encapsulating {@link com.ems.finance_tracker.model.entity.CreditCardTransaction}-related
@@ -33,6 +36,7 @@ public interface CreditCardTransactionDTO {
 
     /**
      * DTO used for credit card transaction creation requests.
+     * When the statement is omitted, it is resolved from the purchase date and the card's closing day.
      */
     @Schema(name = "CreditCardTransactionRequest")
     record Request(
@@ -69,7 +73,6 @@ public interface CreditCardTransactionDTO {
             @NotNull
             CategoryRef category,
 
-            @NotNull
             CreditCardStatementRef statement
     )
     {
@@ -101,6 +104,51 @@ public interface CreditCardTransactionDTO {
         }
     }
 
+    /**
+     * DTO used for bulk credit card transaction creation requests.
+     */
+    @Schema(name = "CreditCardTransactionBatchRequest")
+    record BatchRequest(
+            @NotEmpty
+            @Size(max = 10000)
+            List<@Valid @NotNull Request> transactions
+    ) {}
+
+    /**
+     * DTO holding the optional criteria of a transaction filter, bound from query parameters.
+     * Omitted criteria do not restrict the result; ranges are inclusive.
+     */
+    @Schema(name = "CreditCardTransactionFilter")
+    record Filter(
+            Long creditCardId,
+
+            Long statementId,
+
+            Long categoryId,
+
+            CreditCardTransactionType type,
+
+            @PositiveOrZero
+            BigDecimal minAmount,
+
+            @PositiveOrZero
+            BigDecimal maxAmount,
+
+            LocalDate purchasedFrom,
+
+            LocalDate purchasedTo
+    ) {
+        @AssertTrue(message = "minAmount cannot be greater than maxAmount.")
+        public boolean isAmountRangeValid() {
+            return minAmount == null || maxAmount == null || minAmount.compareTo(maxAmount) <= 0;
+        }
+
+        @AssertTrue(message = "purchasedFrom cannot be after purchasedTo.")
+        public boolean isPurchaseDateRangeValid() {
+            return purchasedFrom == null || purchasedTo == null || !purchasedFrom.isAfter(purchasedTo);
+        }
+    }
+
     /**
      * DTO used in API responses representing the credit card transaction data.
      */
@@ -113,6 +161,7 @@ public interface CreditCardTransactionDTO {
             boolean isInstallment,
             Integer currentInstallment,
             Integer totalInstallments,
+            UUID installmentGroupId,
             LocalDate purchaseDate,
             String comment,
             CreditCardRef creditCard,
@@ -0,0 +1,25 @@
+package com.ems.finance_tracker.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+/**
+ * Interface encapsulating keyset pagination Data Transfer Objects (DTOs).
+ *
+ * @author Evandro Machado
+ */
+public interface PageDTO {
+
+    /**
+     * DTO used in API responses representing one page of a list endpoint.
+     * The next page is requested by sending {@code nextCursor} back as the {@code cursor}
+     * parameter; it is {@code null} on the last page.
+     */
+    @Schema(name = "PageResponse")
+    record Response<T>(
+            List<T> content,
+            String nextCursor
+    ) {}
+
+}
@@ -0,0 +1,41 @@
+package com.ems.finance_tracker.dto;
+
+import com.ems.finance_tracker.model.enums.StatementImportFormat;
+import com.ems.finance_tracker.model.enums.StatementImportStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * Interface encapsulating {@link com.ems.finance_tracker.model.entity.StatementImport}-related
+ * Data Transfer Objects (DTOs).
+ *
+ * @author Evandro Machado
+ */
+public interface StatementImportDTO {
+
+    /**
+     * Reference DTO representing a {@link com.ems.finance_tracker.model.entity.CreditCardStatement} by its identifier.
+     */
+    record CreditCardStatementRef(Long id) {}
+
+    /**
+     * Reference DTO representing a {@link com.ems.finance_tracker.model.entity.Category} by its identifier.
+     */
+    record CategoryRef(Long id) {}
+
+    /**
+     * DTO used in API responses representing the progress and result of a statement import.
+     */
+    @Schema(name = "StatementImportResponse")
+    record Response(
+            Long id,
+            StatementImportFormat format,
+            StatementImportStatus status,
+            long rowsStaged,
+            long rowsImported,
+            long rowsRejected,
+            String failureReason,
+            CreditCardStatementRef statement,
+            CategoryRef category
+    ) {}
+
+}
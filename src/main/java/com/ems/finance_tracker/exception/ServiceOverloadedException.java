@@ -0,0 +1,26 @@
+package com.ems.finance_tracker.exception;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.ErrorResponseException;
+
+import java.time.Duration;
+
+/**
+ * Exception thrown when a bounded resource rejects work instead of queueing it indefinitely.
+ * <p>
+ * Rendered as HTTP 503 Service Unavailable with a {@code Retry-After} header, so clients back off
+ * instead of retrying immediately.
+ * </p>
+ *
+ * @author Evandro Machado
+ */
+public class ServiceOverloadedException extends ErrorResponseException {
+
+    public ServiceOverloadedException(String message, Duration retryAfter) {
+        super(HttpStatus.SERVICE_UNAVAILABLE);
+        setDetail(message);
+        getHeaders().set(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, retryAfter.toSeconds())));
+    }
+
+}
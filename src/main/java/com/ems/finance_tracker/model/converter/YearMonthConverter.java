@@ -0,0 +1,31 @@
+package com.ems.finance_tracker.model.converter;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+import java.time.YearMonth;
+
+/**
+ * Stores {@link YearMonth} attributes as {@code yyyy-MM} text.
+ * <p>
+ * Hibernate has no built-in mapping for {@code YearMonth} and would otherwise serialize it into
+ * {@code bytea}. The text form sorts chronologically, so range comparisons on reference months
+ * and the indexes that serve them follow calendar order.
+ * </p>
+ *
+ * @author Evandro Machado
+ */
+@Converter(autoApply = true)
+public class YearMonthConverter implements AttributeConverter<YearMonth, String> {
+
+    @Override
+    public String convertToDatabaseColumn(YearMonth attribute) {
+        return attribute == null ? null : attribute.toString();
+    }
+
+    @Override
+    public YearMonth convertToEntityAttribute(String dbData) {
+        return dbData == null ? null : YearMonth.parse(dbData);
+    }
+
+}
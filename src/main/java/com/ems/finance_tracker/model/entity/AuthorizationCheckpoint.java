@@ -0,0 +1,46 @@
+package com.ems.finance_tracker.model.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+/**
+ * Last journal sequence of an authorization engine partition whose effects are already
+ * persisted in the database.
+ * <p>
+ * Journal records up to {@code lastSequence} are skipped when the journal is replayed at startup.
+ * Rows are only written through
+ * {@link com.ems.finance_tracker.repository.AuthorizationCheckpointRepository#advance(int, long)}.
+ * </p>
+ *
+ * @author Evandro Machado
+ */
+@Entity
+@Table(name = "authorization_checkpoints")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@ToString
+public class AuthorizationCheckpoint {
+
+    @Id
+    @Column(name = "partition_id")
+    private Integer partitionId;
+
+    @Column(name = "last_sequence", nullable = false)
+    private long lastSequence;
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof AuthorizationCheckpoint other)) return false;
+        return partitionId != null && partitionId.equals(other.partitionId);
+    }
+
+    @Override
+    public int hashCode() {
+        return getClass().hashCode();
+    }
+
+}
@@ -0,0 +1,66 @@
+package com.ems.finance_tracker.model.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+import org.hibernate.annotations.Immutable;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Rollup of the spending of one user in one {@link Category} during one month.
+ * <p>
+ * {@code totalAmount} is the sum of purchases minus refunds whose purchase date falls in the month,
+ * which is stored as its first day. Rows are only written by atomic upserts issued next to every
+ * transaction write, and rebuilt set-wise by the backfill job. The unique key leads with the user
+ * and the month, so a range of months for one user is a single index range scan.
+ * </p>
+ *
+ * @author Evandro Machado
+ * @see com.ems.finance_tracker.model.entity.CreditCardTransaction
+ */
+@Entity
+@Immutable
+@Table(name = "category_monthly_spending",
+        uniqueConstraints = @UniqueConstraint(name = "uk_category_monthly_spending_user_month_category",
+                columnNames = {"user_id", "month", "category_id"}))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@ToString
+public class CategoryMonthlySpending {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "category_id", nullable = false)
+    private Long categoryId;
+
+    @Column(nullable = false)
+    private LocalDate month;
+
+    @Column(name = "total_amount", nullable = false, precision = 15, scale = 2)
+    private BigDecimal totalAmount;
+
+    @Column(name = "transaction_count", nullable = false)
+    private long transactionCount;
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof CategoryMonthlySpending other)) return false;
+        return id != null && id.equals(other.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return getClass().hashCode();
+    }
+
+}
@@ -4,6 +4,9 @@ import com.ems.finance_tracker.exception.BusinessException;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.math.BigDecimal;
 import java.util.Objects;
@@ -14,13 +17,26 @@ import java.util.Objects;
  * This class manages credit card details including limits, billing cycles (closing and due days),
  * and tracks the available limit. Each credit card must be associated with a valid {@link User}.
  * </p>
+ * <p>
+ * The available limit is changed through atomic conditional updates in
+ * {@link com.ems.finance_tracker.repository.CreditCardRepository}; dynamic updates keep
+ * entity flushes from writing a stale {@code available_limit} over a concurrent change.
+ * </p>
+ * <p>
+ * Cards are kept in the {@code credit-cards} second-level cache region. The atomic updates do not
+ * invalidate the region; each one evicts only the card it changed, at once and after its transaction
+ * commits, through {@link com.ems.finance_tracker.service.CreditCardCache}.
+ * </p>
  *
  * @author Evandro Machado
  * @see com.ems.finance_tracker.model.entity.User
  */
 @Entity
+@DynamicUpdate
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "credit-cards")
 @Table(name = "credit_cards",
-        uniqueConstraints = @UniqueConstraint(columnNames = {"name", "user_id"}))
+        uniqueConstraints = @UniqueConstraint(columnNames = {"name", "user_id"}),
+        indexes = @Index(name = "idx_credit_cards_user_id", columnList = "user_id"))
 @Getter
 @Setter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -107,47 +123,6 @@ public class CreditCard {
         }
     }
 
-    private void validateAmount(BigDecimal amount) {
-        Objects.requireNonNull(amount, "Amount must not be null.");
-        if (amount.compareTo(BigDecimal.ZERO) <= 0) {
-            throw new BusinessException("Amount must be greater than zero.");
-        }
-    }
-
-    public void addDebit(BigDecimal amount) {
-        validateAmount(amount);
-
-        if (amount.compareTo(availableLimit) > 0) {
-            throw new BusinessException("Amount must not be greater than available limit.");
-        }
-
-        this.availableLimit = this.availableLimit.subtract(amount);
-    }
-
-    public void addCredit(BigDecimal amount) {
-        validateAmount(amount);
-        BigDecimal usedLimit = creditLimit.subtract(availableLimit);
-
-        if (amount.compareTo(usedLimit) > 0) {
-            throw new BusinessException("Amount exceeds used credit.");
-        }
-
-        this.availableLimit = this.availableLimit.add(amount);
-    }
-
-    public void updateCreditLimit(BigDecimal newLimit) {
-        validateAmount(newLimit);
-        BigDecimal usedLimit = creditLimit.subtract(availableLimit);
-
-        if (newLimit.compareTo(usedLimit) < 0) {
-            throw new BusinessException("Cannot reduce credit limit below used amount.");
-        }
-
-        BigDecimal difference = newLimit.subtract(creditLimit);
-        this.availableLimit = this.availableLimit.add(difference);
-        this.creditLimit = newLimit;
-    }
-
     public void updateBillingCycle(Integer closingDay, Integer dueDay) {
         if (closingDay == null || dueDay == null) {
             throw new BusinessException("Closing day and due day are required.");
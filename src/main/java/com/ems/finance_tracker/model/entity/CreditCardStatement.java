@@ -1,16 +1,23 @@
 package com.ems.finance_tracker.model.entity;
 
 import com.ems.finance_tracker.exception.BusinessException;
+import com.ems.finance_tracker.model.enums.CreditCardStatementStatus;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
 import lombok.*;
+import org.hibernate.Hibernate;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.DynamicUpdate;
 
+import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.time.YearMonth;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 
 /**
  * Entity representing a Credit Card Statement in the financial tracking system.
@@ -18,13 +25,35 @@ import java.util.Objects;
  * Each statement is associated with a {@link CreditCard} and a reference month,
  * grouping all transactions within that billing cycle.
  * </p>
+ * <p>
+ * Purchase and refund totals and the transaction count are kept on the statement itself,
+ * so summaries are read without loading its transactions. Updates only write changed columns,
+ * so saving a statement never overwrites totals changed concurrently.
+ * </p>
+ * <p>
+ * The transactions collection is never loaded to add or remove a transaction: membership is decided by
+ * the transaction's own statement reference, and the collection is only kept in sync once initialized.
+ * </p>
+ * <p>
+ * Statements are closed after their closing day, and their due-date reminders sent, by
+ * {@link com.ems.finance_tracker.service.CreditCardStatementLifecycleService}.
+ * </p>
  *
  * @author Evandro Machado
  * @see com.ems.finance_tracker.model.entity.CreditCardTransaction
  */
 @Entity
+@DynamicUpdate
 @Table(name = "credit_card_statements",
-        uniqueConstraints = @UniqueConstraint(columnNames = {"reference_month", "credit_card_id"}))
+        uniqueConstraints = @UniqueConstraint(columnNames = {"reference_month", "credit_card_id"}),
+        indexes = {
+                @Index(name = "idx_credit_card_statements_status_reference_month_closing_day",
+                        columnList = "status, reference_month, closing_day"),
+                @Index(name = "idx_credit_card_statements_due_day_reference_month",
+                        columnList = "due_day, reference_month"),
+                @Index(name = "idx_credit_card_statements_credit_card_id_reference_month",
+                        columnList = "credit_card_id, reference_month")
+        })
 @Getter
 @Setter
 @NoArgsConstructor
@@ -59,10 +88,94 @@ public class CreditCardStatement {
     @JoinColumn(name = "credit_card_id", nullable = false)
     private CreditCard creditCard;
 
+    @Builder.Default
+    @Setter(AccessLevel.NONE)
+    @Enumerated(EnumType.STRING)
+    @ColumnDefault("'OPEN'")
+    @Column(nullable = false, length = 10)
+    private CreditCardStatementStatus status = CreditCardStatementStatus.OPEN;
+
+    /**
+     * Whether the due-date reminder of the statement was already sent, so it is sent once.
+     */
+    @Builder.Default
+    @Setter(AccessLevel.NONE)
+    @ColumnDefault("false")
+    @Column(name = "due_reminder_sent", nullable = false)
+    private boolean dueReminderSent = false;
+
+    /**
+     * Sum of the purchase amounts of the statement. Maintained with atomic updates through
+     * {@link com.ems.finance_tracker.repository.CreditCardStatementRepository#addToTotals}.
+     */
+    @Builder.Default
+    @Setter(AccessLevel.NONE)
+    @ColumnDefault("0")
+    @Column(name = "total_purchases", nullable = false, precision = 15, scale = 2)
+    private BigDecimal totalPurchases = BigDecimal.ZERO;
+
+    /**
+     * Sum of the refund amounts of the statement, maintained alongside {@link #totalPurchases}.
+     */
+    @Builder.Default
+    @Setter(AccessLevel.NONE)
+    @ColumnDefault("0")
+    @Column(name = "total_refunds", nullable = false, precision = 15, scale = 2)
+    private BigDecimal totalRefunds = BigDecimal.ZERO;
+
+    /**
+     * Number of transactions of the statement, maintained alongside {@link #totalPurchases}.
+     */
+    @Builder.Default
+    @Setter(AccessLevel.NONE)
+    @ColumnDefault("0")
+    @Column(name = "transaction_count", nullable = false)
+    private long transactionCount = 0;
+
     @Builder.Default
     @OneToMany(mappedBy = "creditCardStatement", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<CreditCardTransaction> transactions = new ArrayList<>();
 
+    /**
+     * Creates the statement of a month with its credit card's billing cycle, the closing and due
+     * days capped to the length of the month.
+     *
+     * @param creditCard the credit card of the statement
+     * @param referenceMonth the reference month of the statement
+     * @return the new statement, or empty if the card's due day does not fall after its closing day
+     * within the month, which a statement cannot represent yet
+     */
+    public static Optional<CreditCardStatement> forBillingCycle(CreditCard creditCard, YearMonth referenceMonth) {
+        int closingDay = Math.min(creditCard.getClosingDay(), referenceMonth.lengthOfMonth());
+        int dueDay = Math.min(creditCard.getDueDay(), referenceMonth.lengthOfMonth());
+        if (dueDay <= closingDay) {
+            return Optional.empty();
+        }
+
+        return Optional.of(CreditCardStatement.builder()
+                .referenceMonth(referenceMonth)
+                .closingDay(closingDay)
+                .dueDay(dueDay)
+                .creditCard(creditCard)
+                .build());
+    }
+
+    /**
+     * Resolves the reference month of the statement a purchase belongs to: purchases up to the card's
+     * closing day, capped to the length of the month, fall in the statement of their own month, and
+     * later ones in the statement of the following month.
+     *
+     * @param creditCard the credit card of the purchase
+     * @param purchaseDate the purchase date
+     * @return the reference month of the purchase's statement
+     */
+    public static YearMonth referenceMonthOf(CreditCard creditCard, LocalDate purchaseDate) {
+        YearMonth purchaseMonth = YearMonth.from(purchaseDate);
+        int closingDay = Math.min(creditCard.getClosingDay(), purchaseMonth.lengthOfMonth());
+
+        return purchaseDate.getDayOfMonth() > closingDay ? purchaseMonth.plusMonths(1) : purchaseMonth;
+    }
+
     @PrePersist
     @PreUpdate
     private void validate() {
@@ -90,6 +203,20 @@ public class CreditCardStatement {
         }
     }
 
+    /**
+     * Closes the statement once its billing cycle has ended.
+     */
+    public void close() {
+        status = CreditCardStatementStatus.CLOSED;
+    }
+
+    /**
+     * Records that the due-date reminder of the statement was sent.
+     */
+    public void markDueReminderSent() {
+        dueReminderSent = true;
+    }
+
     /**
      * Checks whether the given transaction already belongs to this statement.
      *
@@ -97,7 +224,7 @@ public class CreditCardStatement {
      * @return {@code true} if the transaction belongs to this statement, {@code false} otherwise
      */
     private boolean belongsToThisStatement(CreditCardTransaction transaction) {
-        return this.equals(transaction.getCreditCardStatement());
+        return CreditCardTransaction.isSameStatement(this, transaction.getCreditCardStatement());
     }
 
     /**
@@ -105,6 +232,7 @@ public class CreditCardStatement {
      * <p>
      * If the transaction is already in this statement, the operation is ignored.
      * If the transaction belongs to a different statement, an {@link IllegalStateException} is thrown.
+     * The transactions collection is only updated if it is already initialized.
      * </p>
      *
      * @param transaction the transaction to add
@@ -114,27 +242,21 @@ public class CreditCardStatement {
     public void addTransaction(CreditCardTransaction transaction) {
         Objects.requireNonNull(transaction, "Transaction must not be null.");
 
-        if (transactions.contains(transaction)) {
+        if (belongsToThisStatement(transaction)) {
             return;
         }
 
-        if (transaction.getCreditCardStatement() != null &&
-        !belongsToThisStatement(transaction)) {
-            throw new IllegalStateException(
-                    String.format("Transaction %d already belongs to statement %d.",
-                            transaction.getId(),
-                            transaction.getCreditCardStatement().getId())
-            );
+        transaction.assignTo(this);
+        if (Hibernate.isInitialized(transactions)) {
+            transactions.add(transaction);
         }
-
-        transaction.setCreditCardStatement(this);
-        transactions.add(transaction);
     }
 
     /**
      * Removes a transaction from this statement, clearing the bidirectional relationship.
      * <p>
      * If the transaction is not in this statement, the operation is ignored.
+     * The transactions collection is only updated if it is already initialized.
      * </p>
      *
      * @param transaction the transaction to remove
@@ -143,19 +265,22 @@ public class CreditCardStatement {
     public void removeTransaction(CreditCardTransaction transaction) {
         Objects.requireNonNull(transaction, "Transaction must not be null.");
 
-        if (!transactions.contains(transaction)) {
+        if (!belongsToThisStatement(transaction)) {
             return;
         }
 
-        transaction.setCreditCardStatement(null);
-        transactions.remove(transaction);
+        transaction.unassign();
+        if (Hibernate.isInitialized(transactions)) {
+            transactions.remove(transaction);
+        }
     }
 
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
         if (!(o instanceof CreditCardStatement other)) return false;
-        return id != null && id.equals(other.id);
+        // The identifier is read through its getter, which uninitialized proxies answer without loading.
+        return id != null && id.equals(other.getId());
     }
 
     @Override
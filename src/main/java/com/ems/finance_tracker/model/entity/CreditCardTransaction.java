@@ -8,9 +8,12 @@ import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Positive;
 import jakarta.validation.constraints.Size;
 import lombok.*;
+import org.hibernate.annotations.DynamicUpdate;
 
         import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.Objects;
+import java.util.UUID;
 
 /**
  * Entity representing a Credit Card Transaction in the financial tracking system.
@@ -19,12 +22,32 @@ import java.time.LocalDate;
  * and a {@link CreditCardStatement}, and may represent either a purchase or an income,
  * with optional installment support.
  * </p>
+ * <p>
+ * An installment purchase created through the API is expanded into one row per remaining
+ * installment, each in the statement of its month. The rows share an {@code installmentGroupId}
+ * and always carry the same description, type, amount, purchase date, comment and category,
+ * so updates and deletes are applied to the whole group with set-based statements.
+ * </p>
+ * <p>
+ * Updates only write changed columns.
+ * </p>
  *
  * @author Evandro Machado
  * @see com.ems.finance_tracker.model.enums.CreditCardTransactionType
  */
 @Entity
-@Table(name = "credit_card_transactions")
+@DynamicUpdate
+@Table(name = "credit_card_transactions",
+        indexes = {
+                @Index(name = "idx_credit_card_transactions_purchase_date_id", columnList = "purchase_date, id"),
+                @Index(name = "idx_credit_card_transactions_card_purchase_date_id",
+                        columnList = "credit_card_id, purchase_date, id"),
+                @Index(name = "idx_credit_card_transactions_statement_id", columnList = "statement_id, id"),
+                @Index(name = "idx_credit_card_transactions_category_purchase_date_id",
+                        columnList = "category_id, purchase_date, id"),
+                @Index(name = "idx_credit_card_transactions_installment_group_id",
+                        columnList = "installment_group_id")
+        })
 @Getter
 @Setter
 @NoArgsConstructor
@@ -33,10 +56,18 @@ import java.time.LocalDate;
 @Builder
 public class CreditCardTransaction {
 
-    private static final LocalDate MIN_PURCHASE_DATE = LocalDate.of(2020, 1, 1);
+    public static final LocalDate MIN_PURCHASE_DATE = LocalDate.of(2020, 1, 1);
 
+    public static final int MAX_PURCHASE_DAYS_AHEAD = 365;
+
+    /**
+     * Sequence-based identifier so Hibernate can batch inserts; identity columns force
+     * one round trip per row. The allocation size is kept in line with the JDBC batch size.
+     */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "credit_card_transactions_seq")
+    @SequenceGenerator(name = "credit_card_transactions_seq", sequenceName = "credit_card_transactions_seq",
+            allocationSize = 50)
     @Setter(AccessLevel.NONE)
     private Long id;
 
@@ -86,10 +117,24 @@ public class CreditCardTransaction {
     @JoinColumn(name = "category_id", nullable = false)
     private Category category;
 
+    /**
+     * Statement of the transaction, changed only through {@link #assignTo(CreditCardStatement)}
+     * or {@link CreditCardStatement#addTransaction(CreditCardTransaction)} so a transaction never
+     * moves between statements.
+     */
+    @Setter(AccessLevel.NONE)
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "statement_id", nullable = false)
     private CreditCardStatement creditCardStatement;
 
+    /**
+     * Identifier shared by the installment rows of one expanded purchase, or {@code null}
+     * for transactions that were not expanded.
+     */
+    @Setter(AccessLevel.NONE)
+    @Column(name = "installment_group_id")
+    private UUID installmentGroupId;
+
     // TODO: Restrict setters on installment fields (isInstallment, currentInstallment, totalInstallments)
     // and expose explicit domain methods (e.g. configureAsInstallment, configureAsSingleInstallment)
     // to prevent invalid state mutations and align with the rich domain model adopted in CreditCard.
@@ -126,11 +171,11 @@ public class CreditCardTransaction {
      * Validates the purchase date against the allowed date range.
      * <p>
      * The minimum allowed date is {@link #MIN_PURCHASE_DATE}.
-     * The maximum allowed date is 365 days from today.
+     * The maximum allowed date is {@link #MAX_PURCHASE_DAYS_AHEAD} days from today.
      * </p>
      */
     private void validatePurchaseDate() {
-        LocalDate maxReasonableDate = LocalDate.now().plusDays(365);
+        LocalDate maxReasonableDate = LocalDate.now().plusDays(MAX_PURCHASE_DAYS_AHEAD);
 
         if (purchaseDate.isBefore(MIN_PURCHASE_DATE)) {
             throw new BusinessException(
@@ -149,29 +194,132 @@ public class CreditCardTransaction {
     }
 
     /**
-     * Applies the financial impact of this transaction to the associated credit card.
-     * <p>
-     * The behavior depends on the transaction type — purchases reduce the available limit,
-     * while refunds restore it.
-     * </p>
+     * Returns the signed amount this transaction adds to its category spending.
      *
-     * @see CreditCardTransactionType#apply(BigDecimal, CreditCard)
+     * @return the amount for a purchase, the negated amount for a refund
      */
-    public void applyImpact() {
-        type.apply(amount, creditCard);
+    public BigDecimal spentAmount() {
+        return purchasedAmount().subtract(refundedAmount());
     }
 
     /**
-     * Reverts the financial impact of this transaction on the associated credit card.
-     * <p>
-     * Used before updating or deleting a transaction to restore the credit card's
-     * available limit to its previous state.
-     * </p>
+     * Returns the month this transaction is accounted in by the spending rollup.
+     *
+     * @return the first day of the purchase month
+     */
+    public LocalDate spendingMonth() {
+        return purchaseDate.withDayOfMonth(1);
+    }
+
+    /**
+     * Returns the amount this transaction adds to its statement's purchase total.
+     *
+     * @return the amount for a purchase, zero otherwise
+     */
+    public BigDecimal purchasedAmount() {
+        return type == CreditCardTransactionType.PURCHASE ? amount : BigDecimal.ZERO;
+    }
+
+    /**
+     * Returns the amount this transaction adds to its statement's refund total.
+     *
+     * @return the amount for a refund, zero otherwise
+     */
+    public BigDecimal refundedAmount() {
+        return type == CreditCardTransactionType.REFUND ? amount : BigDecimal.ZERO;
+    }
+
+    /**
+     * Returns the signed effect of this transaction on the credit card's available limit.
+     *
+     * @return the limit delta of this transaction
+     * @see CreditCardTransactionType#limitDelta(BigDecimal)
+     */
+    public BigDecimal limitDelta() {
+        return type.limitDelta(amount);
+    }
+
+    /**
+     * Checks whether this transaction has installments left to be expanded into later statements.
+     *
+     * @return {@code true} for an installment that is not the last one and does not belong to a group yet
+     */
+    public boolean hasInstallmentsToExpand() {
+        return isInstallment && installmentGroupId == null && currentInstallment < totalInstallments;
+    }
+
+    /**
+     * Starts a new installment group with this transaction as its first row.
+     */
+    public void startInstallmentGroup() {
+        installmentGroupId = UUID.randomUUID();
+    }
+
+    /**
+     * Creates the installment following this one by the given offset, in the same group and
+     * with the same purchase data.
+     *
+     * @param offset how many installments after this one, starting at 1
+     * @param statement the statement of the month the installment is charged in
+     * @return a new, not yet persisted, installment row
+     */
+    public CreditCardTransaction nextInstallment(int offset, CreditCardStatement statement) {
+        return CreditCardTransaction.builder()
+                .description(description)
+                .type(type)
+                .amount(amount)
+                .isInstallment(true)
+                .currentInstallment(currentInstallment + offset)
+                .totalInstallments(totalInstallments)
+                .purchaseDate(purchaseDate)
+                .comment(comment)
+                .creditCard(creditCard)
+                .category(category)
+                .creditCardStatement(statement)
+                .installmentGroupId(installmentGroupId)
+                .build();
+    }
+
+    /**
+     * Assigns the transaction to a statement. Only the statement's identifier is read, so a reference
+     * obtained with {@code getReferenceById} is not initialized, and the statement's transactions
+     * collection is left untouched.
+     *
+     * @param statement the statement of the transaction
+     * @throws IllegalArgumentException if the statement is null
+     * @throws IllegalStateException if the transaction already belongs to another statement
+     */
+    public void assignTo(CreditCardStatement statement) {
+        Objects.requireNonNull(statement, "Statement must not be null.");
+
+        if (creditCardStatement != null && !isSameStatement(creditCardStatement, statement)) {
+            throw new IllegalStateException(
+                    String.format("Transaction %d already belongs to statement %d.",
+                            id, creditCardStatement.getId()));
+        }
+
+        creditCardStatement = statement;
+    }
+
+    /**
+     * Clears the statement of the transaction, as it is removed from it.
+     */
+    void unassign() {
+        creditCardStatement = null;
+    }
+
+    /**
+     * Checks whether two statement instances, either of which may be an uninitialized proxy,
+     * represent the same statement.
      *
-     * @see CreditCardTransactionType#revert(BigDecimal, CreditCard)
+     * @param statement a statement
+     * @param other another statement, or {@code null}
+     * @return {@code true} if both are the same instance or share an identifier
      */
-    public void revertImpact() {
-        type.revert(amount, creditCard);
+    static boolean isSameStatement(CreditCardStatement statement, CreditCardStatement other) {
+        if (statement == other) return true;
+        if (other == null || statement.getId() == null) return false;
+        return statement.getId().equals(other.getId());
     }
 
     @Override
@@ -0,0 +1,91 @@
+package com.ems.finance_tracker.model.entity;
+
+import com.ems.finance_tracker.model.enums.CreditLimitEntryType;
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotNull;
+import lombok.*;
+import org.hibernate.annotations.Immutable;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+/**
+ * Immutable entry of the append-only credit limit ledger.
+ * <p>
+ * Each entry records a signed change of a credit card's available and credit limits. Entries
+ * keep a plain card identifier instead of a foreign key, so the history outlives the card and
+ * appending never touches the {@code credit_cards} row.
+ * </p>
+ *
+ * @author Evandro Machado
+ * @see com.ems.finance_tracker.model.entity.CreditLimitSnapshot
+ */
+@Entity
+@Immutable
+@Table(name = "credit_limit_entries",
+        indexes = @Index(name = "idx_credit_limit_entries_card_entry", columnList = "credit_card_id, id"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@ToString
+@Builder(builderClassName = "CreditLimitEntryBuilder", access = AccessLevel.PRIVATE)
+public class CreditLimitEntry {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @NotNull
+    @Column(name = "credit_card_id", nullable = false)
+    private Long creditCardId;
+
+    @NotNull
+    @Enumerated(EnumType.STRING)
+    @Column(name = "entry_type", nullable = false, length = 30)
+    private CreditLimitEntryType type;
+
+    @NotNull
+    @Column(name = "available_limit_delta", nullable = false, precision = 15, scale = 2)
+    private BigDecimal availableLimitDelta;
+
+    @NotNull
+    @Column(name = "credit_limit_delta", nullable = false, precision = 15, scale = 2)
+    private BigDecimal creditLimitDelta;
+
+    @Column(name = "transaction_id")
+    private Long transactionId;
+
+    @NotNull
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+
+    public static CreditLimitEntry of(
+            Long creditCardId,
+            CreditLimitEntryType type,
+            BigDecimal availableLimitDelta,
+            BigDecimal creditLimitDelta,
+            Long transactionId
+    ) {
+        return CreditLimitEntry.builder()
+                .creditCardId(creditCardId)
+                .type(type)
+                .availableLimitDelta(availableLimitDelta)
+                .creditLimitDelta(creditLimitDelta)
+                .transactionId(transactionId)
+                .createdAt(Instant.now())
+                .build();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof CreditLimitEntry other)) return false;
+        return id != null && id.equals(other.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return getClass().hashCode();
+    }
+
+}
@@ -0,0 +1,65 @@
+package com.ems.finance_tracker.model.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+import org.hibernate.annotations.Immutable;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+/**
+ * Compacted state of the credit limit ledger for one credit card.
+ * <p>
+ * A snapshot holds the limits after every entry up to {@code lastEntryId}, whose latest
+ * {@code createdAt} is stored as {@code asOf}. Snapshots are only written set-wise by the
+ * ledger compaction job.
+ * </p>
+ *
+ * @author Evandro Machado
+ * @see com.ems.finance_tracker.model.entity.CreditLimitEntry
+ */
+@Entity
+@Immutable
+@Table(name = "credit_limit_snapshots",
+        uniqueConstraints = @UniqueConstraint(columnNames = {"credit_card_id", "last_entry_id"}),
+        indexes = @Index(name = "idx_credit_limit_snapshots_card_as_of", columnList = "credit_card_id, as_of"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@ToString
+public class CreditLimitSnapshot {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "credit_card_id", nullable = false)
+    private Long creditCardId;
+
+    @Column(name = "last_entry_id", nullable = false)
+    private Long lastEntryId;
+
+    @Column(name = "available_limit", nullable = false, precision = 15, scale = 2)
+    private BigDecimal availableLimit;
+
+    @Column(name = "credit_limit", nullable = false, precision = 15, scale = 2)
+    private BigDecimal creditLimit;
+
+    @Column(name = "as_of", nullable = false)
+    private Instant asOf;
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof CreditLimitSnapshot other)) return false;
+        return id != null && id.equals(other.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return getClass().hashCode();
+    }
+
+}
@@ -0,0 +1,87 @@
+package com.ems.finance_tracker.model.entity;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.*;
+
+import java.time.Instant;
+
+/**
+ * Entity representing an idempotency key sent by a client, together with the
+ * response of the request that first used it.
+ * <p>
+ * The unique constraint on the key is what serializes concurrent retries: the key is inserted
+ * in the same transaction as the write it guards, so only one of them can commit.
+ * </p>
+ *
+ * @author Evandro Machado
+ */
+@Entity
+@Table(name = "idempotency_keys",
+        indexes = @Index(name = "idx_idempotency_keys_created_at", columnList = "created_at"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@ToString(exclude = "response")
+@Builder(builderClassName = "IdempotencyKeyBuilder", access = AccessLevel.PRIVATE)
+public class IdempotencyKey {
+
+    public static final int MAX_KEY_LENGTH = 100;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @NotNull
+    @Size(max = MAX_KEY_LENGTH)
+    @Column(name = "idempotency_key", nullable = false, unique = true, length = MAX_KEY_LENGTH)
+    private String key;
+
+    /**
+     * SHA-256 hash of the request body, used to reject a key reused for a different request.
+     */
+    @NotNull
+    @Column(name = "request_hash", nullable = false, length = 64)
+    private String requestHash;
+
+    /**
+     * JSON response of the original request, set before the guarded transaction commits.
+     */
+    @Column(columnDefinition = "text")
+    private String response;
+
+    @NotNull
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private Instant createdAt;
+
+    public static IdempotencyKey of(String key, String requestHash) {
+        return IdempotencyKey.builder()
+                .key(key)
+                .requestHash(requestHash)
+                .createdAt(Instant.now())
+                .build();
+    }
+
+    /**
+     * Stores the response of the original request.
+     *
+     * @param response the serialized response
+     */
+    public void complete(String response) {
+        this.response = response;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof IdempotencyKey other)) return false;
+        return id != null && id.equals(other.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return getClass().hashCode();
+    }
+
+}
@@ -0,0 +1,151 @@
+package com.ems.finance_tracker.model.entity;
+
+import com.ems.finance_tracker.exception.BusinessException;
+import com.ems.finance_tracker.model.enums.StatementImportFormat;
+import com.ems.finance_tracker.model.enums.StatementImportStatus;
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.*;
+
+import java.time.Instant;
+
+/**
+ * Entity representing the import of a bank statement file into a {@link CreditCardStatement}.
+ * <p>
+ * Rows are staged in chunks and {@code rowsStaged} is the checkpoint of the last committed chunk,
+ * which allows a failed upload to be resumed without staging the same rows twice.
+ * </p>
+ *
+ * @author Evandro Machado
+ * @see com.ems.finance_tracker.model.entity.StatementImportRow
+ */
+@Entity
+@Table(name = "statement_imports")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@ToString(exclude = {"creditCardStatement", "category"})
+@Builder(builderClassName = "StatementImportBuilder", access = AccessLevel.PRIVATE)
+public class StatementImport {
+
+    private static final int MAX_FAILURE_REASON_LENGTH = 200;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @NotNull
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private StatementImportFormat format;
+
+    @NotNull
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private StatementImportStatus status;
+
+    @Column(name = "rows_staged", nullable = false)
+    private long rowsStaged;
+
+    @Column(name = "rows_imported", nullable = false)
+    private long rowsImported;
+
+    @Column(name = "rows_rejected", nullable = false)
+    private long rowsRejected;
+
+    @Size(max = MAX_FAILURE_REASON_LENGTH)
+    @Column(name = "failure_reason", length = MAX_FAILURE_REASON_LENGTH)
+    private String failureReason;
+
+    @NotNull
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "statement_id", nullable = false)
+    private CreditCardStatement creditCardStatement;
+
+    /**
+     * Category assigned to every imported transaction, since bank files carry no category.
+     */
+    @NotNull
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "category_id", nullable = false)
+    private Category category;
+
+    @NotNull
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private Instant createdAt;
+
+    public static StatementImport of(
+            StatementImportFormat format,
+            CreditCardStatement creditCardStatement,
+            Category category
+    ) {
+        return StatementImport.builder()
+                .format(format)
+                .status(StatementImportStatus.STAGING)
+                .creditCardStatement(creditCardStatement)
+                .category(category)
+                .createdAt(Instant.now())
+                .build();
+    }
+
+    /**
+     * Puts a failed or interrupted import back into staging so it can be resumed.
+     *
+     * @throws BusinessException if the import has already been completed
+     */
+    public void resume() {
+        if (status == StatementImportStatus.COMPLETED) {
+            throw new BusinessException("Statement import " + id + " is already completed.");
+        }
+
+        this.status = StatementImportStatus.STAGING;
+        this.failureReason = null;
+    }
+
+    /**
+     * Advances the staging checkpoint after a chunk of rows has been committed.
+     *
+     * @param recordNumber the number of the last staged record
+     */
+    public void checkpoint(long recordNumber) {
+        this.rowsStaged = recordNumber;
+    }
+
+    /**
+     * Marks the import as completed after its staged rows have been merged.
+     *
+     * @param rowsImported the number of rows merged into the statement
+     * @param rowsRejected the number of rows rejected by validation
+     */
+    public void complete(long rowsImported, long rowsRejected) {
+        this.status = StatementImportStatus.COMPLETED;
+        this.rowsImported = rowsImported;
+        this.rowsRejected = rowsRejected;
+    }
+
+    /**
+     * Marks the import as failed, keeping the staging checkpoint intact.
+     *
+     * @param reason the failure description
+     */
+    public void fail(String reason) {
+        this.status = StatementImportStatus.FAILED;
+        this.failureReason = (reason == null || reason.length() <= MAX_FAILURE_REASON_LENGTH)
+                ? reason
+                : reason.substring(0, MAX_FAILURE_REASON_LENGTH);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof StatementImport other)) return false;
+        return id != null && id.equals(other.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return getClass().hashCode();
+    }
+
+}
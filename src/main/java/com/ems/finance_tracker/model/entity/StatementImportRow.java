@@ -0,0 +1,67 @@
+package com.ems.finance_tracker.model.entity;
+
+import com.ems.finance_tracker.model.enums.CreditCardTransactionType;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Staging row of a {@link StatementImport}.
+ * <p>
+ * Rows are written exclusively through PostgreSQL {@code COPY} and merged set-wise into
+ * {@code credit_card_transactions}; the entity exists so the staging table is part of the
+ * mapped schema. Rows rejected by validation are kept with their {@code error}.
+ * </p>
+ *
+ * @author Evandro Machado
+ */
+@Entity
+@Table(name = "statement_import_rows",
+        uniqueConstraints = @UniqueConstraint(columnNames = {"import_id", "record_number"}))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@ToString(exclude = "statementImport")
+public class StatementImportRow {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "import_id", nullable = false)
+    private StatementImport statementImport;
+
+    @Column(name = "record_number", nullable = false)
+    private long recordNumber;
+
+    @Column(name = "purchase_date", nullable = false)
+    private LocalDate purchaseDate;
+
+    @Column(nullable = false, length = 200)
+    private String description;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "transaction_type", nullable = false)
+    private CreditCardTransactionType type;
+
+    @Column(precision = 10, scale = 2, nullable = false)
+    private BigDecimal amount;
+
+    @Column(name = "current_installment", nullable = false)
+    private Integer currentInstallment;
+
+    @Column(name = "total_installments", nullable = false)
+    private Integer totalInstallments;
+
+    @Column(length = 200)
+    private String comment;
+
+    @Column(length = 100)
+    private String error;
+
+}
@@ -0,0 +1,98 @@
+package com.ems.finance_tracker.model.entity;
+
+import jakarta.persistence.*;
+import jakarta.validation.constraints.NotNull;
+import lombok.*;
+import org.hibernate.annotations.Immutable;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.YearMonth;
+
+/**
+ * Immutable due-date reminder of a credit card statement, queued for its card holder.
+ * <p>
+ * Reminders keep plain identifiers instead of foreign keys, so they outlive the statement and
+ * queueing them never touches the statement or card rows.
+ * </p>
+ *
+ * @author Evandro Machado
+ * @see com.ems.finance_tracker.service.StatementDueReminder
+ */
+@Entity
+@Immutable
+@Table(name = "statement_reminders",
+        uniqueConstraints = @UniqueConstraint(columnNames = "statement_id"),
+        indexes = @Index(name = "idx_statement_reminders_user_id_due_date", columnList = "user_id, due_date"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@ToString
+@Builder(builderClassName = "StatementReminderBuilder", access = AccessLevel.PRIVATE)
+public class StatementReminder {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @NotNull
+    @Column(name = "statement_id", nullable = false)
+    private Long statementId;
+
+    @NotNull
+    @Column(name = "credit_card_id", nullable = false)
+    private Long creditCardId;
+
+    @NotNull
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @NotNull
+    @Column(name = "reference_month", nullable = false, length = 7)
+    private YearMonth referenceMonth;
+
+    @NotNull
+    @Column(name = "due_date", nullable = false)
+    private LocalDate dueDate;
+
+    @NotNull
+    @Column(nullable = false, precision = 15, scale = 2)
+    private BigDecimal balance;
+
+    @NotNull
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+
+    public static StatementReminder of(
+            Long statementId,
+            Long creditCardId,
+            Long userId,
+            YearMonth referenceMonth,
+            LocalDate dueDate,
+            BigDecimal balance
+    ) {
+        return StatementReminder.builder()
+                .statementId(statementId)
+                .creditCardId(creditCardId)
+                .userId(userId)
+                .referenceMonth(referenceMonth)
+                .dueDate(dueDate)
+                .balance(balance)
+                .createdAt(Instant.now())
+                .build();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof StatementReminder other)) return false;
+        return id != null && id.equals(other.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return getClass().hashCode();
+    }
+
+}
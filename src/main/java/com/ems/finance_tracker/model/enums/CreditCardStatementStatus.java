@@ -0,0 +1,21 @@
+package com.ems.finance_tracker.model.enums;
+
+/**
+ * Enum representing the lifecycle of a credit card statement.
+ *
+ * @author Evandro Machado
+ * @see com.ems.finance_tracker.model.entity.CreditCardStatement
+ */
+public enum CreditCardStatementStatus {
+
+    /**
+     * The billing cycle is running and the statement still receives transactions.
+     */
+    OPEN,
+
+    /**
+     * The closing day has passed and the statement awaits payment on its due day.
+     */
+    CLOSED
+
+}
@@ -0,0 +1,20 @@
+package com.ems.finance_tracker.model.enums;
+
+/**
+ * Enum representing the orderings in which credit card transactions can be paginated.
+ *
+ * @author Evandro Machado
+ */
+public enum CreditCardTransactionOrder {
+
+    /**
+     * Creation order, by identifier.
+     */
+    ID,
+
+    /**
+     * Purchase date, ties broken by identifier.
+     */
+    PURCHASE_DATE
+
+}
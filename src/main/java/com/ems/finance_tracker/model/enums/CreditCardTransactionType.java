@@ -1,14 +1,13 @@
 package com.ems.finance_tracker.model.enums;
 
-import com.ems.finance_tracker.model.entity.CreditCard;
-
 import java.math.BigDecimal;
 
 /**
  * Enum representing the types of credit card transactions in the financial tracking system.
  * <p>
- * Each type encapsulates its own financial behavior, defining how it affects
- * the credit card's available limit when applied or reverted.
+ * Each type encapsulates its own financial behavior, defining the signed effect it has
+ * on the credit card's available limit when applied. Reverting a transaction applies the
+ * negated effect.
  * </p>
  *
  * @author Evandro Machado
@@ -22,12 +21,8 @@ public enum CreditCardTransactionType {
      */
     PURCHASE {
         @Override
-        public void apply(BigDecimal amount, CreditCard creditCard) {
-            creditCard.addDebit(amount);
-        }
-        @Override
-        public void revert(BigDecimal amount, CreditCard creditCard) {
-            creditCard.addCredit(amount);
+        public BigDecimal limitDelta(BigDecimal amount) {
+            return amount.negate();
         }
     },
 
@@ -37,29 +32,17 @@ public enum CreditCardTransactionType {
      */
     REFUND {
         @Override
-        public void apply(BigDecimal amount, CreditCard creditCard) {
-            creditCard.addCredit(amount);
-        }
-        @Override
-        public void revert(BigDecimal amount, CreditCard creditCard) {
-            creditCard.addDebit(amount);
+        public BigDecimal limitDelta(BigDecimal amount) {
+            return amount;
         }
     };
 
     /**
-     * Applies the financial impact of this transaction type to the given credit card.
-     *
-     * @param amount the transaction amount
-     * @param creditCard the credit card to be affected
-     */
-    public abstract void apply(BigDecimal amount, CreditCard creditCard);
-
-    /**
-     * Reverts the financial impact of this transaction type on the given credit card.
+     * Returns the signed effect of this transaction type on a credit card's available limit.
      *
      * @param amount the transaction amount
-     * @param creditCard the credit card to be restored
+     * @return a negative value when the available limit is reduced, a positive value when it is restored
      */
-    public abstract void revert(BigDecimal amount, CreditCard creditCard);
+    public abstract BigDecimal limitDelta(BigDecimal amount);
 
 }
@@ -0,0 +1,41 @@
+package com.ems.finance_tracker.model.enums;
+
+/**
+ * Enum representing the origin of a movement in the credit limit ledger.
+ *
+ * @author Evandro Machado
+ * @see com.ems.finance_tracker.model.entity.CreditLimitEntry
+ */
+public enum CreditLimitEntryType {
+
+    /**
+     * Initial credit and available limit of a credit card.
+     */
+    OPENING,
+
+    /**
+     * Financial impact of a transaction being applied.
+     */
+    TRANSACTION_APPLIED,
+
+    /**
+     * Financial impact of a transaction being reverted on update or deletion.
+     */
+    TRANSACTION_REVERTED,
+
+    /**
+     * Change of the credit limit, which shifts the available limit by the same difference.
+     */
+    CREDIT_LIMIT_UPDATED,
+
+    /**
+     * Net impact of a statement file import.
+     */
+    STATEMENT_IMPORTED,
+
+    /**
+     * Net impact of purchases authorized by the in-memory authorization engine.
+     */
+    AUTHORIZATIONS_SETTLED
+
+}
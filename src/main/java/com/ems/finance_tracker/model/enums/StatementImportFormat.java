@@ -0,0 +1,24 @@
+package com.ems.finance_tracker.model.enums;
+
+/**
+ * Enum representing the bank statement file formats accepted by the statement import.
+ *
+ * @author Evandro Machado
+ * @see com.ems.finance_tracker.model.entity.StatementImport
+ */
+public enum StatementImportFormat {
+
+    /**
+     * Comma or semicolon separated values with one transaction per line:
+     * {@code purchase_date, description, amount[, installment[, comment]]}.
+     * Positive amounts are purchases and negative amounts are refunds.
+     */
+    CSV,
+
+    /**
+     * Open Financial Exchange statement, either SGML (1.x) or XML (2.x).
+     * Negative {@code TRNAMT} values are purchases and positive values are refunds.
+     */
+    OFX
+
+}
@@ -0,0 +1,27 @@
+package com.ems.finance_tracker.model.enums;
+
+/**
+ * Enum representing the lifecycle of a statement import.
+ *
+ * @author Evandro Machado
+ * @see com.ems.finance_tracker.model.entity.StatementImport
+ */
+public enum StatementImportStatus {
+
+    /**
+     * Rows are being copied into the staging table. Interrupted imports stay in this
+     * state and can be resumed from the last committed chunk.
+     */
+    STAGING,
+
+    /**
+     * Staged rows were validated and merged into the statement.
+     */
+    COMPLETED,
+
+    /**
+     * The import stopped with an error. Already staged rows are kept, so the import can be resumed.
+     */
+    FAILED
+
+}
@@ -2,8 +2,11 @@ package com.ems.finance_tracker.model.mapper;
 
 import com.ems.finance_tracker.dto.CategoryDTO;
 import com.ems.finance_tracker.model.entity.Category;
+import com.ems.finance_tracker.repository.projection.CategorySpendingView;
 import org.springframework.stereotype.Component;
 
+import java.time.YearMonth;
+
 /**
  * Mapper responsible for converting {@link CategoryDTO} to {@link Category} entities
  * and vice versa.
@@ -38,6 +41,22 @@ public class CategoryMapper {
         );
     }
 
+    /**
+     * Converts a monthly category spending projection into a response DTO.
+     *
+     * @param spending the projected rollup row
+     * @return a response DTO exposing the monthly spending
+     */
+    public CategoryDTO.MonthlySpendingResponse toResponse(CategorySpendingView spending) {
+        return new CategoryDTO.MonthlySpendingResponse(
+                spending.getCategoryId(),
+                spending.getCategoryName(),
+                YearMonth.from(spending.getMonth()),
+                spending.getTotalAmount(),
+                spending.getTransactionCount()
+        );
+    }
+
     /**
      * Updates mutable fields of an existing Category entity
      * using data from an update DTO.
@@ -57,12 +57,14 @@ public class CreditCardMapper {
     /**
      * Updates mutable fields of an existing Credit Card entity
      * using data from an update DTO.
+     * <p>
+     * The credit limit is not mapped here; it is changed atomically by the service layer.
+     * </p>
      *
      * @param creditCard the existing credit card entity to be updated
      * @param dto the DTO containing updated profile information
      */
     public void updateEntity(CreditCard creditCard, CreditCardDTO.Update dto) {
         dto.name().ifPresent(creditCard::setName);
-        dto.creditLimit().ifPresent(creditCard::updateCreditLimit);
     }
 }
@@ -3,6 +3,7 @@ package com.ems.finance_tracker.model.mapper;
 import com.ems.finance_tracker.dto.CreditCardStatementDTO;
 import com.ems.finance_tracker.model.entity.CreditCard;
 import com.ems.finance_tracker.model.entity.CreditCardStatement;
+import com.ems.finance_tracker.repository.projection.CreditCardStatementView;
 import org.springframework.stereotype.Component;
 
 /**
@@ -47,6 +48,10 @@ public class CreditCardStatementMapper {
                 statement.getReferenceMonth(),
                 statement.getClosingDay(),
                 statement.getDueDay(),
+                statement.getStatus(),
+                statement.getTotalPurchases(),
+                statement.getTotalRefunds(),
+                statement.getTransactionCount(),
                 new CreditCardStatementDTO.CreditCardRef(
                         statement.getCreditCard().getId(),
                         statement.getCreditCard().getName()
@@ -54,6 +59,26 @@ public class CreditCardStatementMapper {
         );
     }
 
+    /**
+     * Converts a {@link CreditCardStatementView} projection into a {@link CreditCardStatementDTO.Response}.
+     *
+     * @param view the projection to convert
+     * @return the corresponding response DTO
+     */
+    public CreditCardStatementDTO.Response toResponse(CreditCardStatementView view) {
+        return new CreditCardStatementDTO.Response(
+                view.getId(),
+                view.getReferenceMonth(),
+                view.getClosingDay(),
+                view.getDueDay(),
+                view.getStatus(),
+                view.getTotalPurchases(),
+                view.getTotalRefunds(),
+                view.getTransactionCount(),
+                new CreditCardStatementDTO.CreditCardRef(view.getCreditCardId(), view.getCreditCardName())
+        );
+    }
+
     /**
      * Applies the fields present in {@link CreditCardStatementDTO.Update} to an existing
      * {@link CreditCardStatement} entity.
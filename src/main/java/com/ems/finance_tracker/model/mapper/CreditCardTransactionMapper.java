@@ -4,6 +4,7 @@ import com.ems.finance_tracker.dto.CreditCardTransactionDTO;
 import com.ems.finance_tracker.model.entity.Category;
 import com.ems.finance_tracker.model.entity.CreditCard;
 import com.ems.finance_tracker.model.entity.CreditCardTransaction;
+import com.ems.finance_tracker.repository.projection.CreditCardTransactionView;
 import org.springframework.stereotype.Component;
 
 import java.util.Optional;
@@ -59,6 +60,7 @@ public class CreditCardTransactionMapper {
                 transaction.isInstallment(),
                 transaction.getCurrentInstallment(),
                 transaction.getTotalInstallments(),
+                transaction.getInstallmentGroupId(),
                 transaction.getPurchaseDate(),
                 transaction.getComment(),
                 new CreditCardTransactionDTO.CreditCardRef(transaction.getCreditCard().getId()),
@@ -67,6 +69,30 @@ public class CreditCardTransactionMapper {
         );
     }
 
+    /**
+     * Converts a CreditCardTransactionView projection into a response DTO.
+     *
+     * @param view the credit card transaction projection
+     * @return a response DTO exposing credit card transaction data
+     */
+    public CreditCardTransactionDTO.Response toResponse(CreditCardTransactionView view) {
+        return new CreditCardTransactionDTO.Response(
+                view.getId(),
+                view.getDescription(),
+                view.getType(),
+                view.getAmount(),
+                view.getIsInstallment(),
+                view.getCurrentInstallment(),
+                view.getTotalInstallments(),
+                view.getInstallmentGroupId(),
+                view.getPurchaseDate(),
+                view.getComment(),
+                new CreditCardTransactionDTO.CreditCardRef(view.getCreditCardId()),
+                new CreditCardTransactionDTO.CategoryRef(view.getCategoryId()),
+                new CreditCardTransactionDTO.CreditCardStatementRef(view.getStatementId())
+        );
+    }
+
     /**
      * Updates mutable fields of an existing CreditCardTransaction entity
      * using data from an update DTO.
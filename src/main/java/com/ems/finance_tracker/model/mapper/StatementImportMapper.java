@@ -0,0 +1,35 @@
+package com.ems.finance_tracker.model.mapper;
+
+import com.ems.finance_tracker.dto.StatementImportDTO;
+import com.ems.finance_tracker.model.entity.StatementImport;
+import org.springframework.stereotype.Component;
+
+/**
+ * Mapper responsible for converting {@link StatementImport} entities into {@link StatementImportDTO} records.
+ *
+ * @author Evandro Machado
+ */
+@Component
+public class StatementImportMapper {
+
+    /**
+     * Converts a StatementImport entity into a response DTO.
+     *
+     * @param statementImport the persisted statement import entity
+     * @return a response DTO exposing the import progress
+     */
+    public StatementImportDTO.Response toResponse(StatementImport statementImport) {
+        return new StatementImportDTO.Response(
+                statementImport.getId(),
+                statementImport.getFormat(),
+                statementImport.getStatus(),
+                statementImport.getRowsStaged(),
+                statementImport.getRowsImported(),
+                statementImport.getRowsRejected(),
+                statementImport.getFailureReason(),
+                new StatementImportDTO.CreditCardStatementRef(statementImport.getCreditCardStatement().getId()),
+                new StatementImportDTO.CategoryRef(statementImport.getCategory().getId())
+        );
+    }
+
+}
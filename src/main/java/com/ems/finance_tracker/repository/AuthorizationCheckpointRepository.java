@@ -0,0 +1,38 @@
+package com.ems.finance_tracker.repository;
+
+import com.ems.finance_tracker.model.entity.AuthorizationCheckpoint;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+
+/**
+ * Repository interface for the {@link AuthorizationCheckpoint} entity.
+ *
+ * <p>Handles database persistence operations using Spring Data JPA.</p>
+ *
+ * @author Evandro Machado
+ */
+public interface AuthorizationCheckpointRepository extends JpaRepository<AuthorizationCheckpoint, Integer> {
+
+    /**
+     * Moves the checkpoint of a partition forward, creating it if needed.
+     * A checkpoint never moves backwards.
+     *
+     * @param partitionId the partition identifier
+     * @param lastSequence the last journal sequence persisted in the database
+     * @return the number of inserted or updated rows
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "authorization_checkpoints"))
+    @Query(value = """
+            INSERT INTO authorization_checkpoints (partition_id, last_sequence)
+            VALUES (:partitionId, :lastSequence)
+            ON CONFLICT (partition_id) DO UPDATE
+            SET last_sequence = greatest(authorization_checkpoints.last_sequence, excluded.last_sequence)""",
+            nativeQuery = true)
+    int advance(int partitionId, long lastSequence);
+
+}
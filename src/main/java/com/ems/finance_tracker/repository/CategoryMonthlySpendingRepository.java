@@ -0,0 +1,141 @@
+package com.ems.finance_tracker.repository;
+
+import com.ems.finance_tracker.model.entity.CategoryMonthlySpending;
+import com.ems.finance_tracker.repository.projection.CategorySpendingView;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Repository interface for the {@link CategoryMonthlySpending} entity.
+ *
+ * <p>Handles database persistence operations using Spring Data JPA.</p>
+ *
+ * @author Evandro Machado
+ */
+public interface CategoryMonthlySpendingRepository extends JpaRepository<CategoryMonthlySpending, Long> {
+
+    /**
+     * Atomically adds signed amounts to the rollup row of a user, category and month,
+     * creating the row if it does not exist.
+     *
+     * @param userId the user identifier
+     * @param categoryId the category identifier
+     * @param month the first day of the month
+     * @param amount the change of the spent amount
+     * @param count the change of the transaction count
+     * @return the number of inserted or updated rows
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "category_monthly_spending"))
+    @Query(value = """
+            INSERT INTO category_monthly_spending (user_id, category_id, month, total_amount, transaction_count)
+            VALUES (:userId, :categoryId, :month, :amount, :count)
+            ON CONFLICT (user_id, month, category_id) DO UPDATE
+            SET total_amount = category_monthly_spending.total_amount + EXCLUDED.total_amount,
+                transaction_count = category_monthly_spending.transaction_count + EXCLUDED.transaction_count""",
+            nativeQuery = true)
+    int addToSpending(Long userId, Long categoryId, LocalDate month, BigDecimal amount, long count);
+
+    /**
+     * Retrieves the spending of a user per category and month within a range of months,
+     * served by one range scan of the {@code (user_id, month, category_id)} unique index.
+     *
+     * @param userId the user identifier
+     * @param from the first day of the first month
+     * @param to the first day of the last month
+     * @return the rollup rows with transactions, ordered by month and category
+     */
+    @Query("""
+            SELECT s.categoryId AS categoryId, c.name AS categoryName, s.month AS month,
+                   s.totalAmount AS totalAmount, s.transactionCount AS transactionCount
+            FROM CategoryMonthlySpending s
+            JOIN Category c ON c.id = s.categoryId
+            WHERE s.userId = :userId AND s.month BETWEEN :from AND :to AND s.transactionCount > 0
+            ORDER BY s.month, s.categoryId""")
+    List<CategorySpendingView> findViewsByUserIdAndMonthBetween(Long userId, LocalDate from, LocalDate to);
+
+    /**
+     * Checks whether the rollup holds any row, without counting the table.
+     *
+     * @return {@code true} if at least one row exists
+     */
+    @Query(value = "SELECT EXISTS (SELECT 1 FROM category_monthly_spending)", nativeQuery = true)
+    boolean existsAny();
+
+    /**
+     * Locks the rollup against concurrent upserts until the end of the transaction, while still allowing reads.
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "category_monthly_spending"))
+    @Query(value = "LOCK TABLE category_monthly_spending IN EXCLUSIVE MODE", nativeQuery = true)
+    void lockForRebuild();
+
+    /**
+     * Removes every rollup row.
+     *
+     * @return the number of deleted rows
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "category_monthly_spending"))
+    @Query(value = "DELETE FROM category_monthly_spending", nativeQuery = true)
+    int deleteAllRows();
+
+    /**
+     * Removes the rollup rows from the given month onwards.
+     *
+     * @param month the first day of the first month to remove
+     * @return the number of deleted rows
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "category_monthly_spending"))
+    @Query(value = "DELETE FROM category_monthly_spending WHERE month >= :month", nativeQuery = true)
+    int deleteRowsFrom(LocalDate month);
+
+    /**
+     * Rebuilds the rollup from every credit card transaction.
+     *
+     * @return the number of inserted rows
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "category_monthly_spending"))
+    @Query(value = """
+            INSERT INTO category_monthly_spending (user_id, category_id, month, total_amount, transaction_count)
+            SELECT c.user_id, t.category_id, date_trunc('month', t.purchase_date)::date,
+                   sum(CASE WHEN t.transaction_type = 'REFUND' THEN -t.amount ELSE t.amount END),
+                   count(*)
+            FROM credit_card_transactions t
+            JOIN credit_cards c ON c.id = t.credit_card_id
+            GROUP BY c.user_id, t.category_id, date_trunc('month', t.purchase_date)::date""",
+            nativeQuery = true)
+    int insertFromTransactions();
+
+    /**
+     * Rebuilds the rollup from the credit card transactions purchased from the given month onwards.
+     * Only the partitions of those months are scanned when the transactions table is partitioned.
+     *
+     * @param month the first day of the first month to rebuild
+     * @return the number of inserted rows
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "category_monthly_spending"))
+    @Query(value = """
+            INSERT INTO category_monthly_spending (user_id, category_id, month, total_amount, transaction_count)
+            SELECT c.user_id, t.category_id, date_trunc('month', t.purchase_date)::date,
+                   sum(CASE WHEN t.transaction_type = 'REFUND' THEN -t.amount ELSE t.amount END),
+                   count(*)
+            FROM credit_card_transactions t
+            JOIN credit_cards c ON c.id = t.credit_card_id
+            WHERE t.purchase_date >= :month
+            GROUP BY c.user_id, t.category_id, date_trunc('month', t.purchase_date)::date""",
+            nativeQuery = true)
+    int insertFromTransactionsFrom(LocalDate month);
+
+}
@@ -1,8 +1,10 @@
 package com.ems.finance_tracker.repository;
 
 import com.ems.finance_tracker.model.entity.Category;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -14,5 +16,14 @@ import java.util.Optional;
  */
 public interface CategoryRepository extends JpaRepository<Category, Long> {
 
+    /**
+     * Retrieves the categories following the given identifier, in identifier order.
+     *
+     * @param id the last identifier already read, or {@code 0} for the first page
+     * @param limit the maximum number of rows to read
+     * @return the next categories in identifier order
+     */
+    List<Category> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
+
     Optional<Category> findByName(String name);
 }
@@ -1,7 +1,22 @@
 package com.ems.finance_tracker.repository;
 
 import com.ems.finance_tracker.model.entity.CreditCard;
+import com.ems.finance_tracker.repository.projection.CreditCardWithStatement;
+import com.ems.finance_tracker.repository.projection.StatementForecastView;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Optional;
 
 /**
  * Repository interface for the {@link CreditCard} entity.
@@ -9,6 +24,174 @@ import org.springframework.data.jpa.repository.JpaRepository;
  * <p>Handles database persistence operations using Spring Data JPA for optimized
  * and secure queries.</p>
  *
+ * <p>Limit changes are applied with conditional {@code UPDATE} statements instead of
+ * read-modify-write on the entity, so concurrent writers on the same card can neither
+ * lose an update nor overdraw the limit. Each method returns the number of updated rows,
+ * which is {@code 0} when the condition does not hold.</p>
+ *
+ * <p>The limit updates are native statements whose query space is {@link #LIMITS_QUERY_SPACE} rather than
+ * {@code credit_cards}, so they do not invalidate the whole {@code credit-cards} cache region. Callers evict
+ * the updated card through {@link com.ems.finance_tracker.service.CreditCardCache}.</p>
+ *
  * @author Evandro Machado
  */
-public interface CreditCardRepository extends JpaRepository<CreditCard, Long> {}
+public interface CreditCardRepository extends JpaRepository<CreditCard, Long> {
+
+    /**
+     * Query space of the limit updates. No cached entity or query reads it.
+     */
+    String LIMITS_QUERY_SPACE = "credit_card_limits";
+
+    /**
+     * Retrieves the credit cards following the given identifier, in identifier order.
+     *
+     * @param id the last identifier already read, or {@code 0} for the first page
+     * @param limit the maximum number of rows to read
+     * @return the next credit cards in identifier order
+     */
+    List<CreditCard> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
+
+    /**
+     * Retrieves a credit card and one of its statements with a single query, validating both
+     * references of a new transaction in one round trip.
+     *
+     * @param creditCardId the credit card identifier
+     * @param statementId the statement identifier
+     * @return an {@link Optional} containing the credit card and, if it belongs to that card, the statement
+     */
+    @Query("""
+            SELECT c AS creditCard, s AS statement
+            FROM CreditCard c
+            LEFT JOIN CreditCardStatement s ON s.id = :statementId AND s.creditCard = c
+            WHERE c.id = :creditCardId""")
+    Optional<CreditCardWithStatement> findWithStatement(Long creditCardId, Long statementId);
+
+    /**
+     * Retrieves every credit card of a user with the net totals of its statements within a range
+     * of months, in a single query. The totals are the denormalized ones kept on each statement,
+     * so no transaction is read.
+     *
+     * @param userId the user identifier
+     * @param from the first reference month
+     * @param to the last reference month, inclusive
+     * @return one row per card and statement, or one row with no statement for cards without any in the range
+     */
+    @Query("""
+            SELECT c.id AS creditCardId, c.name AS creditCardName, s.referenceMonth AS referenceMonth,
+                   s.totalPurchases - s.totalRefunds AS amount
+            FROM CreditCard c
+            LEFT JOIN CreditCardStatement s ON s.creditCard = c AND s.referenceMonth BETWEEN :from AND :to
+            WHERE c.user.id = :userId
+            ORDER BY c.id""")
+    List<StatementForecastView> findForecastViewsByUserId(Long userId, YearMonth from, YearMonth to);
+
+    /**
+     * Reads the available limit of a credit card from the database, bypassing the second-level cache.
+     *
+     * @param id the credit card identifier
+     * @return an {@link Optional} containing the available limit, if the card exists
+     */
+    @Query("SELECT c.availableLimit FROM CreditCard c WHERE c.id = :id")
+    Optional<BigDecimal> findAvailableLimitById(Long id);
+
+    /**
+     * Retrieves a credit card by its identifier, locking its row until the end of the transaction.
+     *
+     * @param id the credit card identifier
+     * @return an {@link Optional} containing the locked credit card, if found
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT c FROM CreditCard c WHERE c.id = :id")
+    Optional<CreditCard> findByIdForUpdate(Long id);
+
+    /**
+     * Atomically debits the available limit, provided it covers the amount.
+     *
+     * @param id the credit card identifier
+     * @param amount the amount to debit
+     * @return the number of updated rows
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = LIMITS_QUERY_SPACE))
+    @Query(value = """
+            UPDATE credit_cards
+            SET available_limit = available_limit - :amount
+            WHERE id = :id AND available_limit >= :amount""",
+            nativeQuery = true)
+    int debitAvailableLimit(Long id, BigDecimal amount);
+
+    /**
+     * Atomically credits the available limit, provided the amount does not exceed the used credit.
+     *
+     * @param id the credit card identifier
+     * @param amount the amount to credit
+     * @return the number of updated rows
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = LIMITS_QUERY_SPACE))
+    @Query(value = """
+            UPDATE credit_cards
+            SET available_limit = available_limit + :amount
+            WHERE id = :id AND credit_limit - available_limit >= :amount""",
+            nativeQuery = true)
+    int creditAvailableLimit(Long id, BigDecimal amount);
+
+    /**
+     * Atomically applies a signed net change to the available limit, provided the result
+     * stays between zero and the credit limit.
+     *
+     * @param id the credit card identifier
+     * @param delta the net change, negative for debits and positive for credits
+     * @return the number of updated rows
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = LIMITS_QUERY_SPACE))
+    @Query(value = """
+            UPDATE credit_cards
+            SET available_limit = available_limit + :delta
+            WHERE id = :id
+              AND available_limit + :delta >= 0
+              AND available_limit + :delta <= credit_limit""",
+            nativeQuery = true)
+    int applyLimitDelta(Long id, BigDecimal delta);
+
+    /**
+     * Applies a signed net change to the available limit without checking its bounds.
+     * <p>
+     * Only used to settle purchases that were already approved by the in-memory authorization
+     * engine, which is the authority for the limits of the cards it serves.
+     * </p>
+     *
+     * @param id the credit card identifier
+     * @param delta the net change, negative for debits and positive for credits
+     * @return the number of updated rows
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = LIMITS_QUERY_SPACE))
+    @Query(value = "UPDATE credit_cards SET available_limit = available_limit + :delta WHERE id = :id",
+            nativeQuery = true)
+    int settleLimitDelta(Long id, BigDecimal delta);
+
+    /**
+     * Atomically replaces the credit limit, shifting the available limit by the same difference,
+     * provided the new limit still covers the used credit.
+     * <p>
+     * Pending changes are flushed before and the persistence context is cleared after the update,
+     * so the card must be reloaded to observe the new values.
+     * </p>
+     *
+     * @param id the credit card identifier
+     * @param creditLimit the new credit limit
+     * @return the number of updated rows
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = LIMITS_QUERY_SPACE))
+    @Query(value = """
+            UPDATE credit_cards
+            SET credit_limit = :creditLimit,
+                available_limit = available_limit + (:creditLimit - credit_limit)
+            WHERE id = :id AND credit_limit - available_limit <= :creditLimit""",
+            nativeQuery = true)
+    int updateCreditLimit(Long id, BigDecimal creditLimit);
+
+}
@@ -1,7 +1,26 @@
 package com.ems.finance_tracker.repository;
 
 import com.ems.finance_tracker.model.entity.CreditCardStatement;
+import com.ems.finance_tracker.model.enums.CreditCardStatementStatus;
+import com.ems.finance_tracker.repository.projection.CreditCardStatementView;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.hibernate.jpa.SpecHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
 
 /**
  * Repository interface for the {@link CreditCardStatement} entity.
@@ -11,6 +30,245 @@ import org.springframework.data.jpa.repository.JpaRepository;
  * @author Evandro Machado
  */
 public interface CreditCardStatementRepository extends JpaRepository<CreditCardStatement, Long> {
+
+    /**
+     * Lock timeout hint value that makes Hibernate skip rows locked by other transactions
+     * ({@code FOR UPDATE SKIP LOCKED}), i.e. {@link org.hibernate.LockOptions#SKIP_LOCKED}.
+     */
+    String SKIP_LOCKED = "-2";
+
+    /**
+     * Select clause of {@link CreditCardStatementView}, joining the credit card for its name.
+     */
+    String VIEW_SELECT = """
+            SELECT s.id AS id, s.referenceMonth AS referenceMonth, s.closingDay AS closingDay,
+                   s.dueDay AS dueDay, s.status AS status, s.totalPurchases AS totalPurchases, s.totalRefunds AS totalRefunds,
+                   s.transactionCount AS transactionCount, c.id AS creditCardId, c.name AS creditCardName
+            FROM CreditCardStatement s
+            JOIN s.creditCard c
+            """;
+
+    /**
+     * Retrieves a statement view by its identifier.
+     *
+     * @param id the statement identifier
+     * @return an {@link Optional} containing the statement view, if found
+     */
+    @Query(VIEW_SELECT + "WHERE s.id = :id")
+    Optional<CreditCardStatementView> findViewById(Long id);
+
+    /**
+     * Retrieves a statement by its identifier, locking its row until the end of the transaction,
+     * so no transaction can be added to it meanwhile.
+     *
+     * @param id the statement identifier
+     * @return an {@link Optional} containing the locked statement, if found
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM CreditCardStatement s WHERE s.id = :id")
+    Optional<CreditCardStatement> findByIdForUpdate(Long id);
+
+    /**
+     * Retrieves the statements following the given identifier, in identifier order.
+     *
+     * @param id the last identifier already read, or {@code 0} for the first page
+     * @param limit the maximum number of rows to read
+     * @return the next statement views in identifier order
+     */
+    @Query(VIEW_SELECT + "WHERE s.id > :id ORDER BY s.id")
+    List<CreditCardStatementView> findViewsAfter(Long id, Limit limit);
+
+    /**
+     * Atomically adds signed amounts to the totals of a statement.
+     *
+     * @param id the statement identifier
+     * @param purchases the change of the purchase total
+     * @param refunds the change of the refund total
+     * @param count the change of the transaction count
+     * @return the number of updated rows
+     */
+    @Modifying
+    @Query("""
+            UPDATE CreditCardStatement s
+            SET s.totalPurchases = s.totalPurchases + :purchases,
+                s.totalRefunds = s.totalRefunds + :refunds,
+                s.transactionCount = s.transactionCount + :count
+            WHERE s.id = :id""")
+    int addToTotals(Long id, BigDecimal purchases, BigDecimal refunds, long count);
+
+    /**
+     * Atomically adds signed amounts to the totals of every statement holding a row of an installment
+     * group, with one statement. Each row of a group is in a different statement and all rows share
+     * their type and amount, so every statement changes by the amounts of a single row.
+     *
+     * @param installmentGroupId the installment group identifier
+     * @param purchases the change of the purchase total of each statement
+     * @param refunds the change of the refund total of each statement
+     * @param count the change of the transaction count of each statement
+     * @return the number of updated statements
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "credit_card_statements"))
+    @Query(value = """
+            UPDATE credit_card_statements
+            SET total_purchases = total_purchases + :purchases,
+                total_refunds = total_refunds + :refunds,
+                transaction_count = transaction_count + :count
+            WHERE id IN (SELECT statement_id FROM credit_card_transactions
+                         WHERE installment_group_id = :installmentGroupId)""", nativeQuery = true)
+    int addToTotalsOfInstallmentGroup(UUID installmentGroupId, BigDecimal purchases, BigDecimal refunds, long count);
+
+    /**
+     * Retrieves the statements of a credit card for the given reference months.
+     *
+     * @param creditCardId the credit card identifier
+     * @param months the reference months
+     * @return the existing statements among those months
+     */
+    @Query("SELECT s FROM CreditCardStatement s WHERE s.creditCard.id = :creditCardId AND s.referenceMonth IN :months")
+    List<CreditCardStatement> findByCreditCardIdAndReferenceMonths(Long creditCardId, Collection<YearMonth> months);
+
+    /**
+     * Retrieves the identifier of the statement of a credit card for a reference month.
+     *
+     * @param creditCardId the credit card identifier
+     * @param referenceMonth the reference month
+     * @return an {@link Optional} containing the statement identifier, if the statement exists
+     */
+    @Query("SELECT s.id FROM CreditCardStatement s WHERE s.creditCard.id = :creditCardId AND s.referenceMonth = :referenceMonth")
+    Optional<Long> findIdByCreditCardIdAndReferenceMonth(Long creditCardId, YearMonth referenceMonth);
+
+    /**
+     * Inserts an open, empty statement unless the credit card already has one for the reference month.
+     * A concurrent insert of the same statement makes this one wait for it and then do nothing, so
+     * the statement is created once without a unique constraint violation.
+     *
+     * @param referenceMonth the reference month, in the {@code yyyy-MM} form stored by
+     * {@link com.ems.finance_tracker.model.converter.YearMonthConverter}
+     * @param closingDay the closing day
+     * @param dueDay the due day
+     * @param creditCardId the credit card identifier
+     * @return the number of inserted rows
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "credit_card_statements"))
+    @Query(value = """
+            INSERT INTO credit_card_statements (reference_month, closing_day, due_day, credit_card_id, status,
+                                                due_reminder_sent, total_purchases, total_refunds, transaction_count)
+            VALUES (:referenceMonth, :closingDay, :dueDay, :creditCardId, 'OPEN', false, 0, 0, 0)
+            ON CONFLICT (reference_month, credit_card_id) DO NOTHING""", nativeQuery = true)
+    int insertIfAbsent(String referenceMonth, int closingDay, int dueDay, Long creditCardId);
+
+    /**
+     * Locks the next batch of statements in identifier order until the end of the transaction.
+     *
+     * @param id the last identifier already processed, or {@code 0} for the first batch
+     * @param batchSize the maximum number of statements to lock
+     * @return the identifiers of the locked statements
+     */
+    @Query(value = """
+            SELECT id FROM credit_card_statements
+            WHERE id > :id
+            ORDER BY id
+            LIMIT :batchSize
+            FOR UPDATE""", nativeQuery = true)
+    List<Long> lockIdsAfter(Long id, int batchSize);
+
+    /**
+     * Recomputes the totals of the given statements from their transactions, writing only
+     * the rows whose stored totals drifted.
+     * <p>
+     * The statements must already be locked by the current transaction. Writers update the totals
+     * while holding the same lock, so the recomputed values cannot overwrite a concurrent change.
+     * Statements without any visible transaction can be skipped, for when their transactions may
+     * live in detached partitions.
+     * </p>
+     *
+     * @param ids the identifiers of the locked statements
+     * @param includeEmpty whether statements without visible transactions are repaired too
+     * @return the number of repaired statements
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "credit_card_statements"))
+    @Query(value = """
+            UPDATE credit_card_statements s
+            SET total_purchases = x.total_purchases,
+                total_refunds = x.total_refunds,
+                transaction_count = x.transaction_count
+            FROM (SELECT st.id,
+                         coalesce(sum(t.amount) FILTER (WHERE t.transaction_type = 'PURCHASE'), 0) AS total_purchases,
+                         coalesce(sum(t.amount) FILTER (WHERE t.transaction_type = 'REFUND'), 0) AS total_refunds,
+                         count(t.id) AS transaction_count
+                  FROM credit_card_statements st
+                  LEFT JOIN credit_card_transactions t ON t.statement_id = st.id
+                  WHERE st.id IN (:ids)
+                  GROUP BY st.id) x
+            WHERE s.id = x.id
+              AND (:includeEmpty OR x.transaction_count > 0)
+              AND (s.total_purchases, s.total_refunds, s.transaction_count)
+                  IS DISTINCT FROM (x.total_purchases, x.total_refunds, x.transaction_count)""",
+            nativeQuery = true)
+    int repairTotals(Collection<Long> ids, boolean includeEmpty);
+
+    /**
+     * Claims the next statements in the given status whose closing day has passed, locking them
+     * until the end of the transaction. Rows already claimed by another transaction are skipped,
+     * so several workers and nodes can close statements concurrently without overlapping.
+     *
+     * @param status the status of the statements to claim
+     * @param month the current month
+     * @param day the current day of the month; statements of the current month closing before it are claimed
+     * @param limit the maximum number of statements to claim
+     * @return the claimed statements, in identifier order
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = SpecHints.HINT_SPEC_LOCK_TIMEOUT, value = SKIP_LOCKED))
+    @Query("""
+            SELECT s FROM CreditCardStatement s
+            WHERE s.status = :status
+              AND (s.referenceMonth < :month OR (s.referenceMonth = :month AND s.closingDay < :day))
+            ORDER BY s.id""")
+    List<CreditCardStatement> claimPastClosingDay(CreditCardStatementStatus status, YearMonth month, int day, Limit limit);
+
+    /**
+     * Claims the next statements in the given status due within a range of days of a month whose
+     * reminder was not sent yet, locking them until the end of the transaction and skipping rows
+     * claimed by another transaction. Served by the {@code (due_day, reference_month)} index.
+     *
+     * @param status the status of the statements to claim
+     * @param month the reference month of the statements
+     * @param fromDay the first due day of the range
+     * @param toDay the last due day of the range, inclusive
+     * @param limit the maximum number of statements to claim
+     * @return the claimed statements, in identifier order
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = SpecHints.HINT_SPEC_LOCK_TIMEOUT, value = SKIP_LOCKED))
+    @Query("""
+            SELECT s FROM CreditCardStatement s
+            WHERE s.dueDay BETWEEN :fromDay AND :toDay
+              AND s.referenceMonth = :month
+              AND s.status = :status
+              AND s.dueReminderSent = false
+            ORDER BY s.id""")
+    List<CreditCardStatement> claimDueWithoutReminder(CreditCardStatementStatus status,
+                                                      YearMonth month,
+                                                      int fromDay,
+                                                      int toDay,
+                                                      Limit limit);
+
+    /**
+     * Retrieves which of the given credit cards already have a statement for a month.
+     *
+     * @param month the reference month
+     * @param creditCardIds the credit card identifiers to check
+     * @return the identifiers of the credit cards that have a statement for the month
+     */
+    @Query("""
+            SELECT s.creditCard.id FROM CreditCardStatement s
+            WHERE s.referenceMonth = :month AND s.creditCard.id IN :creditCardIds""")
+    Set<Long> findCreditCardIdsWithStatementFor(YearMonth month, Collection<Long> creditCardIds);
+
     // TODO: Add domain-oriented queries as features are implemented,
     // such as findByCreditCardId, findByReferenceMonth, and aggregation queries.
     // Prefer domain-oriented queries to ensure efficient data access
@@ -1,16 +1,137 @@
 package com.ems.finance_tracker.repository;
 
 import com.ems.finance_tracker.model.entity.CreditCardTransaction;
+import com.ems.finance_tracker.repository.projection.CreditCardTransactionView;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
 
 /**
  * Repository interface for the {@link CreditCardTransaction} entity.
  *
- * <p>Handles database persistence operations using Spring Data JPA.</p>
+ * <p>Handles database persistence operations using Spring Data JPA. Filtering by optional criteria
+ * goes through {@link JpaSpecificationExecutor} with the specifications of
+ * {@link com.ems.finance_tracker.repository.specification.CreditCardTransactionSpecifications}.</p>
  *
  * @author Evandro Machado
  */
-public interface CreditCardTransactionRepository extends JpaRepository<CreditCardTransaction, Long> {
+public interface CreditCardTransactionRepository extends JpaRepository<CreditCardTransaction, Long>,
+        JpaSpecificationExecutor<CreditCardTransaction> {
+
+    /**
+     * Select clause of {@link CreditCardTransactionView}. Associations are read through their
+     * foreign key columns, so no join is needed.
+     */
+    String VIEW_SELECT = """
+            SELECT t.id AS id, t.description AS description, t.type AS type, t.amount AS amount,
+                   t.isInstallment AS isInstallment, t.currentInstallment AS currentInstallment,
+                   t.totalInstallments AS totalInstallments, t.installmentGroupId AS installmentGroupId,
+                   t.purchaseDate AS purchaseDate,
+                   t.comment AS comment, t.creditCard.id AS creditCardId, t.category.id AS categoryId,
+                   t.creditCardStatement.id AS statementId
+            FROM CreditCardTransaction t
+            """;
+
+    /**
+     * Checks whether a statement has any transaction.
+     *
+     * @param statementId the statement identifier
+     * @return {@code true} if at least one transaction belongs to the statement
+     */
+    boolean existsByCreditCardStatementId(Long statementId);
+
+    /**
+     * Retrieves a transaction view by its identifier.
+     *
+     * @param id the transaction identifier
+     * @return an {@link Optional} containing the transaction view, if found
+     */
+    @Query(VIEW_SELECT + "WHERE t.id = :id")
+    Optional<CreditCardTransactionView> findViewById(Long id);
+
+    /**
+     * Retrieves the transactions following the given identifier, in identifier order.
+     *
+     * @param id the last identifier already read, or {@code 0} for the first page
+     * @param limit the maximum number of rows to read
+     * @return the next transaction views in identifier order
+     */
+    @Query(VIEW_SELECT + "WHERE t.id > :id ORDER BY t.id")
+    List<CreditCardTransactionView> findViewsAfter(Long id, Limit limit);
+
+    /**
+     * Retrieves the first transactions in purchase date order.
+     *
+     * @param limit the maximum number of rows to read
+     * @return the first transaction views by purchase date, ties broken by identifier
+     */
+    @Query(VIEW_SELECT + "ORDER BY t.purchaseDate, t.id")
+    List<CreditCardTransactionView> findViewsByPurchaseDate(Limit limit);
+
+    /**
+     * Retrieves the transactions following the given purchase date and identifier, in purchase date order.
+     * The row-value comparison is served by the {@code (purchase_date, id)} index.
+     *
+     * @param purchaseDate the purchase date of the last transaction already read
+     * @param id the identifier of the last transaction already read
+     * @param limit the maximum number of rows to read
+     * @return the next transaction views by purchase date, ties broken by identifier
+     */
+    @Query(VIEW_SELECT + "WHERE (t.purchaseDate, t.id) > (:purchaseDate, :id) ORDER BY t.purchaseDate, t.id")
+    List<CreditCardTransactionView> findViewsByPurchaseDateAfter(LocalDate purchaseDate, Long id, Limit limit);
+
+    /**
+     * Counts the rows of an installment group.
+     *
+     * @param installmentGroupId the installment group identifier
+     * @return the number of installment rows in the group
+     */
+    @Query("SELECT count(t) FROM CreditCardTransaction t WHERE t.installmentGroupId = :installmentGroupId")
+    long countByInstallmentGroupId(UUID installmentGroupId);
+
+    /**
+     * Copies the purchase data of one installment row to the other rows of its group, with one statement.
+     * The source row must already be flushed.
+     *
+     * @param id the identifier of the installment row holding the new data
+     * @return the number of updated rows
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "credit_card_transactions"))
+    @Query(value = """
+            UPDATE credit_card_transactions t
+            SET description = s.description,
+                transaction_type = s.transaction_type,
+                amount = s.amount,
+                purchase_date = s.purchase_date,
+                comment = s.comment,
+                category_id = s.category_id
+            FROM credit_card_transactions s
+            WHERE s.id = :id
+              AND t.installment_group_id = s.installment_group_id
+              AND t.id <> s.id""", nativeQuery = true)
+    int copyToInstallmentGroup(Long id);
+
+    /**
+     * Deletes every row of an installment group with one statement.
+     *
+     * @param installmentGroupId the installment group identifier
+     * @return the number of deleted rows
+     */
+    @Modifying
+    @Query("DELETE FROM CreditCardTransaction t WHERE t.installmentGroupId = :installmentGroupId")
+    int deleteByInstallmentGroupId(UUID installmentGroupId);
+
     // TODO: Add domain-oriented queries as features are implemented,
     // such as findByCreditCardId, findByStatementId, and aggregation queries
     // (e.g. sumExpensesByCard). Prefer domain-oriented queries to ensure efficient
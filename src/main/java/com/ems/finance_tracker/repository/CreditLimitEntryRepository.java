@@ -0,0 +1,84 @@
+package com.ems.finance_tracker.repository;
+
+import com.ems.finance_tracker.model.entity.CreditLimitEntry;
+import com.ems.finance_tracker.model.enums.CreditLimitEntryType;
+import com.ems.finance_tracker.repository.projection.CreditLimitTotals;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+
+import java.time.Instant;
+
+/**
+ * Repository interface for the {@link CreditLimitEntry} entity.
+ *
+ * <p>Handles database persistence operations using Spring Data JPA. Entries are only ever inserted.</p>
+ *
+ * @author Evandro Machado
+ */
+public interface CreditLimitEntryRepository extends JpaRepository<CreditLimitEntry, Long> {
+
+    /**
+     * Sums the entries of a credit card recorded after a snapshot and up to a point in time.
+     *
+     * @param creditCardId the credit card identifier
+     * @param afterEntryId the last entry already covered by a snapshot, or {@code 0}
+     * @param at the upper bound of the entry creation time
+     * @return the summed limit changes and the number of replayed entries
+     */
+    @Query("""
+            SELECT coalesce(sum(e.availableLimitDelta), 0) AS availableLimit,
+                   coalesce(sum(e.creditLimitDelta), 0) AS creditLimit,
+                   count(e) AS entryCount
+            FROM CreditLimitEntry e
+            WHERE e.creditCardId = :creditCardId AND e.id > :afterEntryId AND e.createdAt <= :at""")
+    CreditLimitTotals sumEntriesAfter(Long creditCardId, Long afterEntryId, Instant at);
+
+    /**
+     * Checks whether the opening entry of a credit card was recorded up to a point in time.
+     *
+     * @param creditCardId the credit card identifier
+     * @param type the entry type, {@link CreditLimitEntryType#OPENING}
+     * @param at the upper bound of the entry creation time
+     * @return {@code true} if such an entry exists
+     */
+    boolean existsByCreditCardIdAndTypeAndCreatedAtLessThanEqual(Long creditCardId,
+                                                                 CreditLimitEntryType type,
+                                                                 Instant at);
+
+    /**
+     * Backfills an opening entry for credit cards created before the ledger existed.
+     * <p>
+     * The opening amounts are the current limits minus every entry already recorded for the
+     * card, dated at the card's first entry, so that replaying the ledger reproduces the
+     * current state.
+     * </p>
+     *
+     * @return the number of opening entries inserted
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "credit_limit_entries"))
+    @Query(value = """
+            INSERT INTO credit_limit_entries (credit_card_id, entry_type, available_limit_delta,
+                credit_limit_delta, created_at)
+            SELECT c.id, 'OPENING',
+                   c.available_limit - coalesce(t.available_limit_delta, 0),
+                   c.credit_limit - coalesce(t.credit_limit_delta, 0),
+                   coalesce(t.first_created_at, now())
+            FROM credit_cards c
+            LEFT JOIN LATERAL (
+                SELECT sum(e.available_limit_delta) AS available_limit_delta,
+                       sum(e.credit_limit_delta) AS credit_limit_delta,
+                       min(e.created_at) AS first_created_at
+                FROM credit_limit_entries e
+                WHERE e.credit_card_id = c.id
+            ) t ON true
+            WHERE NOT EXISTS (SELECT 1 FROM credit_limit_entries o
+                              WHERE o.credit_card_id = c.id AND o.entry_type = 'OPENING')""",
+            nativeQuery = true)
+    int insertMissingOpeningEntries();
+
+}
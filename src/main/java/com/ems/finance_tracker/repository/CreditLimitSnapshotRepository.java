@@ -0,0 +1,70 @@
+package com.ems.finance_tracker.repository;
+
+import com.ems.finance_tracker.model.entity.CreditLimitSnapshot;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+
+import java.time.Instant;
+import java.util.Optional;
+
+/**
+ * Repository interface for the {@link CreditLimitSnapshot} entity.
+ *
+ * <p>Handles database persistence operations using Spring Data JPA.</p>
+ *
+ * @author Evandro Machado
+ */
+public interface CreditLimitSnapshotRepository extends JpaRepository<CreditLimitSnapshot, Long> {
+
+    /**
+     * Finds the latest snapshot of a credit card taken at or before a point in time,
+     * served by the {@code (credit_card_id, as_of)} index.
+     *
+     * @param creditCardId the credit card identifier
+     * @param asOf the point in time
+     * @return an {@link Optional} containing the snapshot if one exists
+     */
+    Optional<CreditLimitSnapshot> findFirstByCreditCardIdAndAsOfLessThanEqualOrderByAsOfDesc(Long creditCardId,
+                                                                                            Instant asOf);
+
+    /**
+     * Compacts the ledger entries created before the cutoff into a new snapshot per credit card,
+     * starting from each card's latest snapshot.
+     *
+     * @param cutoff entries created at or after this instant are left for the next run
+     * @return the number of snapshots created
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "credit_limit_snapshots"))
+    @Query(value = """
+            WITH latest AS (
+                SELECT DISTINCT ON (credit_card_id) credit_card_id, last_entry_id, available_limit, credit_limit
+                FROM credit_limit_snapshots
+                ORDER BY credit_card_id, last_entry_id DESC
+            )
+            INSERT INTO credit_limit_snapshots (credit_card_id, last_entry_id, available_limit, credit_limit, as_of)
+            SELECT e.credit_card_id, max(e.id),
+                   coalesce(l.available_limit, 0) + sum(e.available_limit_delta),
+                   coalesce(l.credit_limit, 0) + sum(e.credit_limit_delta),
+                   max(e.created_at)
+            FROM credit_limit_entries e
+            LEFT JOIN latest l ON l.credit_card_id = e.credit_card_id
+            WHERE e.id > coalesce(l.last_entry_id, 0) AND e.created_at < :cutoff
+            GROUP BY e.credit_card_id, l.available_limit, l.credit_limit""",
+            nativeQuery = true)
+    int compactEntriesBefore(Instant cutoff);
+
+    /**
+     * Tries to take a transaction-scoped PostgreSQL advisory lock.
+     *
+     * @param key the lock key
+     * @return {@code true} if the lock was acquired
+     */
+    @Query(value = "SELECT pg_try_advisory_xact_lock(:key)", nativeQuery = true)
+    boolean tryAdvisoryLock(long key);
+
+}
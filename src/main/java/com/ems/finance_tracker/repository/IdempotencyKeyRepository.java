@@ -0,0 +1,38 @@
+package com.ems.finance_tracker.repository;
+
+import com.ems.finance_tracker.model.entity.IdempotencyKey;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import java.time.Instant;
+import java.util.Optional;
+
+/**
+ * Repository interface for the {@link IdempotencyKey} entity.
+ *
+ * <p>Handles database persistence operations using Spring Data JPA.</p>
+ *
+ * @author Evandro Machado
+ */
+public interface IdempotencyKeyRepository extends JpaRepository<IdempotencyKey, Long> {
+
+    /**
+     * Finds an idempotency key by its value.
+     *
+     * @param key the idempotency key sent by the client
+     * @return an {@link Optional} containing the key if it was already used
+     */
+    Optional<IdempotencyKey> findByKey(String key);
+
+    /**
+     * Deletes the keys created before the cutoff, after which a retry is treated as a new request.
+     *
+     * @param cutoff keys created before this instant are deleted
+     * @return the number of deleted keys
+     */
+    @Modifying
+    @Query("DELETE FROM IdempotencyKey k WHERE k.createdAt < :cutoff")
+    int deleteByCreatedAtBefore(Instant cutoff);
+
+}
@@ -0,0 +1,14 @@
+package com.ems.finance_tracker.repository;
+
+import com.ems.finance_tracker.model.entity.StatementImport;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+/**
+ * Repository interface for the {@link StatementImport} entity.
+ *
+ * <p>Handles database persistence operations using Spring Data JPA. Staging rows are written
+ * through PostgreSQL {@code COPY} by the import service and have no repository.</p>
+ *
+ * @author Evandro Machado
+ */
+public interface StatementImportRepository extends JpaRepository<StatementImport, Long> {}
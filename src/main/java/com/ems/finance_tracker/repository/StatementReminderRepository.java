@@ -0,0 +1,27 @@
+package com.ems.finance_tracker.repository;
+
+import com.ems.finance_tracker.model.entity.StatementReminder;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Repository interface for the {@link StatementReminder} entity.
+ *
+ * <p>Handles database persistence operations using Spring Data JPA. Reminders are only ever inserted.</p>
+ *
+ * @author Evandro Machado
+ */
+public interface StatementReminderRepository extends JpaRepository<StatementReminder, Long> {
+
+    /**
+     * Finds the reminders of a user for statements not yet due.
+     *
+     * @param userId the user identifier
+     * @param dueDate the earliest due date to include
+     * @return the reminders, soonest due first
+     */
+    List<StatementReminder> findByUserIdAndDueDateGreaterThanEqualOrderByDueDateAscIdAsc(Long userId, LocalDate dueDate);
+
+}
@@ -1,9 +1,14 @@
 package com.ems.finance_tracker.repository;
 
 import com.ems.finance_tracker.model.entity.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -16,15 +21,31 @@ import java.util.Optional;
  */
 public interface UserRepository extends JpaRepository<User, Long> {
 
+    /**
+     * Retrieves the users following the given identifier, in identifier order.
+     *
+     * @param id the last identifier already read, or {@code 0} for the first page
+     * @param limit the maximum number of rows to read
+     * @return the next users in identifier order
+     */
+    List<User> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
+
     /**
      * Finds a user by email, ensuring immediate loading of their roles.
      *
      * <p>Uses {@code LEFT JOIN FETCH} to avoid {@link org.springframework.dao.DataAccessException}
      * in security contexts where the JPA session may no longer be active.</p>
      *
+     * <p>Results are kept in the {@code users-by-email} query cache region, which Hibernate
+     * invalidates whenever the {@code users} or {@code user_roles} tables are written.</p>
+     *
      * @param email The user's email address.
      * @return an {@link Optional} containing the user if found.
      */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "users-by-email")
+    })
     @Query("SELECT u FROM User u LEFT JOIN FETCH u.roles WHERE u.email = :email")
     Optional<User> findByEmail(String email);
 
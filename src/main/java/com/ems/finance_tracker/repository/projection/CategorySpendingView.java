@@ -0,0 +1,23 @@
+package com.ems.finance_tracker.repository.projection;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Projection of a monthly category spending rollup row, joined with the category name.
+ *
+ * @author Evandro Machado
+ */
+public interface CategorySpendingView {
+
+    Long getCategoryId();
+
+    String getCategoryName();
+
+    LocalDate getMonth();
+
+    BigDecimal getTotalAmount();
+
+    Long getTransactionCount();
+
+}
@@ -0,0 +1,37 @@
+package com.ems.finance_tracker.repository.projection;
+
+import com.ems.finance_tracker.model.enums.CreditCardStatementStatus;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+
+/**
+ * Read-only projection of a credit card statement with the columns exposed by
+ * {@link com.ems.finance_tracker.dto.CreditCardStatementDTO.Response}, including the
+ * name of its credit card, selected in a single query without managed entities.
+ *
+ * @author Evandro Machado
+ */
+public interface CreditCardStatementView {
+
+    Long getId();
+
+    YearMonth getReferenceMonth();
+
+    Integer getClosingDay();
+
+    Integer getDueDay();
+
+    CreditCardStatementStatus getStatus();
+
+    BigDecimal getTotalPurchases();
+
+    BigDecimal getTotalRefunds();
+
+    long getTransactionCount();
+
+    Long getCreditCardId();
+
+    String getCreditCardName();
+
+}
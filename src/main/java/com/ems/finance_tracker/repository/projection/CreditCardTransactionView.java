@@ -0,0 +1,44 @@
+package com.ems.finance_tracker.repository.projection;
+
+import com.ems.finance_tracker.model.enums.CreditCardTransactionType;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Read-only projection of a credit card transaction with the columns exposed by
+ * {@link com.ems.finance_tracker.dto.CreditCardTransactionDTO.Response}. Associations are
+ * read as foreign key values, so no related entity is loaded.
+ *
+ * @author Evandro Machado
+ */
+public interface CreditCardTransactionView {
+
+    Long getId();
+
+    String getDescription();
+
+    CreditCardTransactionType getType();
+
+    BigDecimal getAmount();
+
+    boolean getIsInstallment();
+
+    Integer getCurrentInstallment();
+
+    Integer getTotalInstallments();
+
+    UUID getInstallmentGroupId();
+
+    LocalDate getPurchaseDate();
+
+    String getComment();
+
+    Long getCreditCardId();
+
+    Long getCategoryId();
+
+    Long getStatementId();
+
+}
@@ -0,0 +1,20 @@
+package com.ems.finance_tracker.repository.projection;
+
+import com.ems.finance_tracker.model.entity.CreditCard;
+import com.ems.finance_tracker.model.entity.CreditCardStatement;
+
+/**
+ * Projection of a credit card loaded together with one of its statements.
+ *
+ * @author Evandro Machado
+ */
+public interface CreditCardWithStatement {
+
+    CreditCard getCreditCard();
+
+    /**
+     * @return the statement, or {@code null} if it does not exist or belongs to another credit card
+     */
+    CreditCardStatement getStatement();
+
+}
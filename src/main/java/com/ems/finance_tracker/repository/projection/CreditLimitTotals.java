@@ -0,0 +1,18 @@
+package com.ems.finance_tracker.repository.projection;
+
+import java.math.BigDecimal;
+
+/**
+ * Projection of the summed limit changes of a range of credit limit ledger entries.
+ *
+ * @author Evandro Machado
+ */
+public interface CreditLimitTotals {
+
+    BigDecimal getAvailableLimit();
+
+    BigDecimal getCreditLimit();
+
+    Long getEntryCount();
+
+}
@@ -0,0 +1,23 @@
+package com.ems.finance_tracker.repository.projection;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+
+/**
+ * Read-only projection of a credit card with one of its upcoming statements, used to build
+ * statement forecasts. Cards without statements in the forecast range appear once with a
+ * {@code null} month and amount.
+ *
+ * @author Evandro Machado
+ */
+public interface StatementForecastView {
+
+    Long getCreditCardId();
+
+    String getCreditCardName();
+
+    YearMonth getReferenceMonth();
+
+    BigDecimal getAmount();
+
+}
@@ -0,0 +1,112 @@
+package com.ems.finance_tracker.repository.specification;
+
+import com.ems.finance_tracker.dto.CreditCardTransactionDTO;
+import com.ems.finance_tracker.model.entity.CreditCardTransaction;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Factory of {@link Specification}s for querying {@link CreditCardTransaction}s.
+ * <p>
+ * Filter criteria are compared against the foreign key columns directly, so no join is issued,
+ * and every criterion maps to a leading column of one of the indexes declared on the entity.
+ * </p>
+ *
+ * @author Evandro Machado
+ */
+public final class CreditCardTransactionSpecifications {
+
+    private CreditCardTransactionSpecifications() {
+    }
+
+    /**
+     * Builds a specification matching every criterion set in the filter. Criteria left
+     * {@code null} do not restrict the result.
+     *
+     * @param filter the filter criteria
+     * @return the specification combining the criteria with {@code AND}
+     */
+    public static Specification<CreditCardTransaction> matching(CreditCardTransactionDTO.Filter filter) {
+        return (root, query, builder) -> {
+            List<Predicate> predicates = new ArrayList<>();
+
+            if (filter.creditCardId() != null) {
+                predicates.add(builder.equal(root.get("creditCard").get("id"), filter.creditCardId()));
+            }
+            if (filter.statementId() != null) {
+                predicates.add(builder.equal(root.get("creditCardStatement").get("id"), filter.statementId()));
+            }
+            if (filter.categoryId() != null) {
+                predicates.add(builder.equal(root.get("category").get("id"), filter.categoryId()));
+            }
+            if (filter.type() != null) {
+                predicates.add(builder.equal(root.get("type"), filter.type()));
+            }
+            if (filter.minAmount() != null) {
+                predicates.add(builder.greaterThanOrEqualTo(root.get("amount"), filter.minAmount()));
+            }
+            if (filter.maxAmount() != null) {
+                predicates.add(builder.lessThanOrEqualTo(root.get("amount"), filter.maxAmount()));
+            }
+            if (filter.purchasedFrom() != null) {
+                predicates.add(builder.greaterThanOrEqualTo(root.get("purchaseDate"), filter.purchasedFrom()));
+            }
+            if (filter.purchasedTo() != null) {
+                predicates.add(builder.lessThanOrEqualTo(root.get("purchaseDate"), filter.purchasedTo()));
+            }
+
+            return builder.and(predicates.toArray(Predicate[]::new));
+        };
+    }
+
+    /**
+     * Builds the keyset predicate selecting the transactions following the given identifier.
+     *
+     * @param id the identifier of the last transaction already read
+     * @param direction the direction of the ordering
+     * @return the specification selecting the following transactions
+     */
+    public static Specification<CreditCardTransaction> idAfter(Long id, Sort.Direction direction) {
+        return (root, query, builder) -> direction.isAscending()
+                ? builder.greaterThan(root.get("id"), id)
+                : builder.lessThan(root.get("id"), id);
+    }
+
+    /**
+     * Builds the keyset predicate selecting the transactions following the given purchase date
+     * and identifier, with ties on the purchase date broken by identifier in the same direction.
+     * <p>
+     * The predicate repeats the purchase date bound outside the {@code OR}, which PostgreSQL can use as
+     * the start of the index scan, so a deep page does not walk the index from its first entry.
+     * </p>
+     *
+     * @param purchaseDate the purchase date of the last transaction already read
+     * @param id the identifier of the last transaction already read
+     * @param direction the direction of the ordering
+     * @return the specification selecting the following transactions
+     */
+    public static Specification<CreditCardTransaction> purchaseDateAfter(LocalDate purchaseDate,
+                                                                        Long id,
+                                                                        Sort.Direction direction) {
+        return (root, query, builder) -> {
+            Path<LocalDate> purchaseDatePath = root.get("purchaseDate");
+            Path<Long> idPath = root.get("id");
+
+            Predicate sameDate = builder.equal(purchaseDatePath, purchaseDate);
+            return direction.isAscending()
+                    ? builder.and(builder.greaterThanOrEqualTo(purchaseDatePath, purchaseDate),
+                            builder.or(builder.greaterThan(purchaseDatePath, purchaseDate),
+                                    builder.and(sameDate, builder.greaterThan(idPath, id))))
+                    : builder.and(builder.lessThanOrEqualTo(purchaseDatePath, purchaseDate),
+                            builder.or(builder.lessThan(purchaseDatePath, purchaseDate),
+                                    builder.and(sameDate, builder.lessThan(idPath, id))));
+        };
+    }
+
+}
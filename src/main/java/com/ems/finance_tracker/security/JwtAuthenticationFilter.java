@@ -0,0 +1,80 @@
+package com.ems.finance_tracker.security;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.context.SecurityContextHolderStrategy;
+import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Authenticates requests carrying a JWT in the {@code Authorization} header.
+ * <p>
+ * The header is resolved through {@link JwtService#authenticate(String)}, so a token already seen is
+ * answered from the {@link JwtPrincipalCache} without verifying its signature or loading its user again.
+ * A valid token populates the {@link SecurityContext} with its {@link JwtPrincipal} and roles; a missing
+ * or invalid one leaves the request anonymous, to be rejected by the authorization rules.
+ * </p>
+ * <p>
+ * Asynchronous and error dispatches are filtered too, since the context of a stateless request is not
+ * kept between dispatches.
+ * </p>
+ *
+ * @author Evandro Machado
+ */
+public class JwtAuthenticationFilter extends OncePerRequestFilter {
+
+    private final JwtService jwtService;
+    private final SecurityContextHolderStrategy securityContextHolderStrategy =
+            SecurityContextHolder.getContextHolderStrategy();
+    private final WebAuthenticationDetailsSource authenticationDetailsSource = new WebAuthenticationDetailsSource();
+
+    public JwtAuthenticationFilter(JwtService jwtService) {
+        this.jwtService = jwtService;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        if (securityContextHolderStrategy.getContext().getAuthentication() == null) {
+            jwtService.authenticate(request.getHeader(HttpHeaders.AUTHORIZATION))
+                    .ifPresent(principal -> setAuthentication(request, principal));
+        }
+
+        filterChain.doFilter(request, response);
+    }
+
+    @Override
+    protected boolean shouldNotFilterAsyncDispatch() {
+        return false;
+    }
+
+    @Override
+    protected boolean shouldNotFilterErrorDispatch() {
+        return false;
+    }
+
+    private void setAuthentication(HttpServletRequest request, JwtPrincipal principal) {
+        UsernamePasswordAuthenticationToken authentication = UsernamePasswordAuthenticationToken.authenticated(
+                principal,
+                null,
+                principal.roles().stream()
+                        .map(role -> new SimpleGrantedAuthority(role.name()))
+                        .toList());
+        authentication.setDetails(authenticationDetailsSource.buildDetails(request));
+
+        SecurityContext context = securityContextHolderStrategy.createEmptyContext();
+        context.setAuthentication(authentication);
+        securityContextHolderStrategy.setContext(context);
+    }
+
+}
@@ -0,0 +1,26 @@
+package com.ems.finance_tracker.security;
+
+import com.ems.finance_tracker.model.enums.Role;
+
+import java.util.Set;
+
+/**
+ * Authenticated principal resolved from a verified JWT.
+ *
+ * @param userId the identifier of the authenticated user
+ * @param email the email address of the authenticated user, used as the token subject
+ * @param roles the roles granted to the user
+ *
+ * @author Evandro Machado
+ */
+public record JwtPrincipal(
+        Long userId,
+        String email,
+        Set<Role> roles
+) {
+
+    public JwtPrincipal {
+        roles = Set.copyOf(roles);
+    }
+
+}
@@ -0,0 +1,123 @@
+package com.ems.finance_tracker.security;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Instant;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Bounded cache of verified tokens and the principals they resolve to.
+ * <p>
+ * An entry expires at the token's {@code exp} claim, so a cached token is never accepted for longer
+ * than its signature check would allow. Reads are a single hash lookup without locking. When the cache
+ * is full and no entry has expired, new tokens are simply not cached.
+ * </p>
+ * <p>
+ * {@link #evictUser(Long)} advances an eviction counter before removing the user's entries, and a
+ * loaded principal is only kept if no eviction ran while it was being loaded, so a token verified
+ * concurrently with a role change or a deletion cannot be cached stale.
+ * </p>
+ *
+ * @author Evandro Machado
+ */
+@Component
+public class JwtPrincipalCache {
+
+    private final int maxSize;
+
+    private final ConcurrentHashMap<String, VerifiedToken> principals = new ConcurrentHashMap<>();
+    private final AtomicLong evictions = new AtomicLong();
+
+    /**
+     * Principal resolved from a token whose signature and expiration were verified.
+     *
+     * @param principal the resolved principal
+     * @param expiresAt the {@code exp} claim of the token
+     */
+    public record VerifiedToken(JwtPrincipal principal, Instant expiresAt) {}
+
+    public JwtPrincipalCache(@Value("${security.config.principal-cache-size:10000}") int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Returns the principal of a token, loading and caching it on a miss.
+     *
+     * @param token the compact JWT
+     * @param loader verifies the token and resolves its principal, empty if the token is not valid
+     * @return an {@link Optional} containing the principal if the token is valid
+     */
+    public Optional<JwtPrincipal> get(String token, Supplier<Optional<VerifiedToken>> loader) {
+        VerifiedToken cached = principals.get(token);
+        if (cached != null) {
+            if (Instant.now().isBefore(cached.expiresAt())) {
+                return Optional.of(cached.principal());
+            }
+            principals.remove(token, cached);
+        }
+
+        long evictionsBeforeLoad = evictions.get();
+
+        return loader.get().map(verified -> {
+            put(token, verified, evictionsBeforeLoad);
+            return verified.principal();
+        });
+    }
+
+    /**
+     * Removes every cached token of a user once the current transaction commits,
+     * or immediately when no transaction is active.
+     *
+     * @param userId the identifier of the changed or deleted user
+     */
+    public void evictUser(Long userId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict(userId);
+                }
+            });
+        } else {
+            evict(userId);
+        }
+    }
+
+    /**
+     * Removes the entries whose tokens have expired.
+     */
+    @Scheduled(fixedDelayString = "${security.config.principal-cache-purge-interval:PT1M}")
+    public void purgeExpired() {
+        Instant now = Instant.now();
+        principals.values().removeIf(cached -> !now.isBefore(cached.expiresAt()));
+    }
+
+    private void put(String token, VerifiedToken verified, long evictionsBeforeLoad) {
+        if (principals.size() >= maxSize) {
+            purgeExpired();
+            if (principals.size() >= maxSize) {
+                return;
+            }
+        }
+
+        principals.put(token, verified);
+
+        // An eviction that ran while the principal was loaded may have missed this entry.
+        if (evictions.get() != evictionsBeforeLoad) {
+            principals.remove(token, verified);
+        }
+    }
+
+    private void evict(Long userId) {
+        evictions.incrementAndGet();
+        principals.values().removeIf(cached -> cached.principal().userId().equals(userId));
+    }
+
+}
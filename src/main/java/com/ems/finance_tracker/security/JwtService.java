@@ -0,0 +1,80 @@
+package com.ems.finance_tracker.security;
+
+import com.ems.finance_tracker.repository.UserRepository;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+
+/**
+ * Service responsible for authenticating requests carrying a JWT in the {@code Authorization} header.
+ * <p>
+ * The token subject is the user's email. A token is verified and its user loaded only the first time
+ * it is seen; later requests with the same token are answered by the {@link JwtPrincipalCache}.
+ * </p>
+ *
+ * @author Evandro Machado
+ */
+@Service
+public class JwtService {
+
+    private final UserRepository userRepository;
+    private final JwtPrincipalCache jwtPrincipalCache;
+    private final String prefix;
+    private final SecretKey key;
+
+    public JwtService(UserRepository userRepository,
+                      JwtPrincipalCache jwtPrincipalCache,
+                      @Value("${security.config.prefix}") String prefix,
+                      @Value("${security.config.key}") String key) {
+        this.userRepository = userRepository;
+        this.jwtPrincipalCache = jwtPrincipalCache;
+        this.prefix = prefix;
+        this.key = Keys.hmacShaKeyFor(key.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Resolves the principal of an {@code Authorization} header.
+     *
+     * @param authorizationHeader the header value, including the configured prefix
+     * @return an {@link Optional} containing the principal, empty if the header is missing or the
+     * token is invalid, expired or belongs to a user that no longer exists
+     */
+    public Optional<JwtPrincipal> authenticate(String authorizationHeader) {
+        if (authorizationHeader == null || !authorizationHeader.startsWith(prefix)) {
+            return Optional.empty();
+        }
+
+        String token = authorizationHeader.substring(prefix.length());
+        return jwtPrincipalCache.get(token, () -> verify(token));
+    }
+
+    private Optional<JwtPrincipalCache.VerifiedToken> verify(String token) {
+        Claims claims;
+        try {
+            claims = Jwts.parser()
+                    .verifyWith(key)
+                    .build()
+                    .parseSignedClaims(token)
+                    .getPayload();
+        } catch (JwtException | IllegalArgumentException e) {
+            return Optional.empty();
+        }
+
+        if (claims.getExpiration() == null) {
+            return Optional.empty();
+        }
+
+        return userRepository.findByEmail(claims.getSubject())
+                .map(user -> new JwtPrincipalCache.VerifiedToken(
+                        new JwtPrincipal(user.getId(), user.getEmail(), user.getRoles()),
+                        claims.getExpiration().toInstant()));
+    }
+
+}
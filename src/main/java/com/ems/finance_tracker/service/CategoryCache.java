@@ -0,0 +1,216 @@
+package com.ems.finance_tracker.service;
+
+import com.ems.finance_tracker.dto.CategoryDTO;
+import com.ems.finance_tracker.model.mapper.CategoryMapper;
+import com.ems.finance_tracker.repository.CategoryRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.ByteArrayOutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * In-process cache of the {@link com.ems.finance_tracker.model.entity.Category} reference data.
+ * <p>
+ * The whole category list is loaded into an immutable snapshot indexed by identifier and by name,
+ * together with the JSON bytes of every category, so list pages are assembled from pre-serialized
+ * bytes without mapping or serializing per request. Writes invalidate the snapshot after their
+ * transaction commits; a snapshot loaded concurrently with a write carries an older generation and
+ * is ignored. Snapshots also expire after {@code category-cache.ttl}, which bounds how long writes
+ * made by other instances stay invisible.
+ * </p>
+ *
+ * @author Evandro Machado
+ */
+@Component
+public class CategoryCache {
+
+    private static final byte[] PAGE_START = "{\"content\":[".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] NEXT_CURSOR = "],\"nextCursor\":".getBytes(StandardCharsets.UTF_8);
+
+    private final CategoryRepository categoryRepository;
+    private final CategoryMapper categoryMapper;
+    private final ObjectMapper objectMapper;
+    private final Duration ttl;
+
+    private final AtomicLong generation = new AtomicLong();
+    private final AtomicReference<Snapshot> snapshot = new AtomicReference<>();
+    private final ReentrantLock loadLock = new ReentrantLock();
+
+    /**
+     * Immutable view of every category at one point in time.
+     *
+     * @param generation the invalidation generation the snapshot was loaded in
+     * @param expiresAt the instant after which the snapshot is reloaded
+     * @param ids the identifiers in ascending order, for binary search
+     * @param json the JSON bytes of each category, in the same order
+     * @param byId the categories indexed by identifier
+     * @param byName the categories indexed by name
+     */
+    private record Snapshot(long generation,
+                            Instant expiresAt,
+                            long[] ids,
+                            List<byte[]> json,
+                            Map<Long, CategoryDTO.Response> byId,
+                            Map<String, CategoryDTO.Response> byName) {}
+
+    public CategoryCache(CategoryRepository categoryRepository,
+                         CategoryMapper categoryMapper,
+                         ObjectMapper objectMapper,
+                         @Value("${category-cache.ttl:PT5M}") Duration ttl) {
+        this.categoryRepository = categoryRepository;
+        this.categoryMapper = categoryMapper;
+        this.objectMapper = objectMapper;
+        this.ttl = ttl;
+    }
+
+    /**
+     * Finds a category by its identifier, falling back to the database for categories
+     * created by another instance since the snapshot was loaded.
+     *
+     * @param id the category identifier
+     * @return an {@link Optional} containing the category if it exists
+     */
+    public Optional<CategoryDTO.Response> findById(Long id) {
+        CategoryDTO.Response category = current().byId().get(id);
+        if (category != null) {
+            return Optional.of(category);
+        }
+        return categoryRepository.findById(id).map(categoryMapper::toResponse);
+    }
+
+    /**
+     * Finds a category by its name.
+     *
+     * @param name the category name
+     * @return an {@link Optional} containing the category if it exists in the snapshot
+     */
+    public Optional<CategoryDTO.Response> findByName(String name) {
+        return Optional.ofNullable(current().byName().get(name));
+    }
+
+    /**
+     * Writes one page of categories, in identifier order, as the JSON of a
+     * {@link com.ems.finance_tracker.dto.PageDTO.Response}.
+     *
+     * @param afterId the last identifier already read, or {@code 0} for the first page
+     * @param pageSize the effective page size
+     * @param cursorOf encodes the identifier of the last category of the page as the next cursor
+     * @return the JSON bytes of the page
+     */
+    public byte[] page(long afterId, int pageSize, Function<Long, String> cursorOf) {
+        Snapshot current = current();
+
+        int position = Arrays.binarySearch(current.ids(), afterId);
+        int from = position >= 0 ? position + 1 : -position - 1;
+        int to = (int) Math.min((long) from + pageSize, current.ids().length);
+        boolean hasNext = to < current.ids().length;
+
+        ByteArrayOutputStream page = new ByteArrayOutputStream();
+        page.writeBytes(PAGE_START);
+        for (int i = from; i < to; i++) {
+            if (i > from) {
+                page.write(',');
+            }
+            page.writeBytes(current.json().get(i));
+        }
+        page.writeBytes(NEXT_CURSOR);
+        page.writeBytes(hasNext
+                ? writeJson(cursorOf.apply(current.ids()[to - 1]))
+                : "null".getBytes(StandardCharsets.UTF_8));
+        page.write('}');
+
+        return page.toByteArray();
+    }
+
+    /**
+     * Discards the snapshot once the current transaction commits, or immediately when
+     * no transaction is active.
+     */
+    public void invalidate() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict();
+                }
+            });
+        } else {
+            evict();
+        }
+    }
+
+    private void evict() {
+        generation.incrementAndGet();
+        snapshot.set(null);
+    }
+
+    /**
+     * Returns a valid snapshot, loading a new one if the current one is missing, stale or expired.
+     */
+    private Snapshot current() {
+        Snapshot current = snapshot.get();
+        if (isValid(current)) {
+            return current;
+        }
+
+        loadLock.lock();
+        try {
+            current = snapshot.get();
+            if (isValid(current)) {
+                return current;
+            }
+
+            Snapshot loaded = load(generation.get());
+            snapshot.set(loaded);
+            return loaded;
+        } finally {
+            loadLock.unlock();
+        }
+    }
+
+    private boolean isValid(Snapshot current) {
+        return current != null
+                && current.generation() == generation.get()
+                && Instant.now().isBefore(current.expiresAt());
+    }
+
+    private Snapshot load(long loadGeneration) {
+        List<CategoryDTO.Response> categories = categoryRepository.findAll(Sort.by("id"))
+                .stream()
+                .map(categoryMapper::toResponse)
+                .toList();
+
+        return new Snapshot(
+                loadGeneration,
+                Instant.now().plus(ttl),
+                categories.stream().mapToLong(CategoryDTO.Response::id).toArray(),
+                categories.stream().map(this::writeJson).toList(),
+                categories.stream().collect(Collectors.toUnmodifiableMap(CategoryDTO.Response::id, Function.identity())),
+                categories.stream().collect(Collectors.toUnmodifiableMap(CategoryDTO.Response::name, Function.identity()))
+        );
+    }
+
+    private byte[] writeJson(Object value) {
+        try {
+            return objectMapper.writeValueAsBytes(value);
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+}
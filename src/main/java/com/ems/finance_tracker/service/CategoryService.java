@@ -1,6 +1,7 @@
 package com.ems.finance_tracker.service;
 
 import com.ems.finance_tracker.dto.CategoryDTO;
+import com.ems.finance_tracker.dto.PageDTO;
 import com.ems.finance_tracker.exception.BusinessException;
 import com.ems.finance_tracker.exception.ResourceNotFoundException;
 import com.ems.finance_tracker.model.entity.Category;
@@ -10,8 +11,6 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
-
 /**
  * Service responsible for managing {@link Category} business operations.
  * Handles validation, persistence coordination and DTO/entity transformations.
@@ -24,17 +23,20 @@ public class CategoryService {
 
     private final CategoryRepository categoryRepository;
     private final CategoryMapper categoryMapper;
+    private final CursorPagination cursorPagination;
+    private final CategoryCache categoryCache;
 
     /**
-     * Retrieves all categories from the system.
+     * Retrieves one page of categories, in identifier order, from the {@link CategoryCache}.
      *
-     * @return a list of {@link CategoryDTO.Response} representing all registered categories
+     * @param cursor the cursor returned with the previous page, or {@code null} for the first page
+     * @param size the requested page size, capped by {@code pagination.max-page-size}
+     * @return the JSON bytes of a {@link PageDTO.Response} of {@link CategoryDTO.Response} with the next page cursor
+     * @throws BusinessException if the cursor or size is invalid
      */
-    public List<CategoryDTO.Response> findAllCategories() {
-        return categoryRepository.findAll()
-                .stream()
-                .map(categoryMapper::toResponse)
-                .toList();
+    public byte[] findAllCategories(String cursor, Integer size) {
+        return categoryCache.page(cursorPagination.decodeId(cursor), cursorPagination.pageSize(size),
+                cursorPagination::encodeId);
     }
 
     /**
@@ -45,9 +47,8 @@ public class CategoryService {
      * @throws ResourceNotFoundException if the category does not exist
      */
     public CategoryDTO.Response findCategoryById(Long id) {
-        Category category = findEntityById(id);
-
-        return categoryMapper.toResponse(category);
+        return categoryCache.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Category not found. ID = " + id));
     }
 
     /**
@@ -63,6 +64,7 @@ public class CategoryService {
         validateNameUniqueness(dto.name(), null);
 
         Category category = categoryMapper.toEntity(dto);
+        categoryCache.invalidate();
 
         return categoryMapper.toResponse(categoryRepository.save(category));
     }
@@ -85,6 +87,7 @@ public class CategoryService {
         Category existingCategory = findEntityById(id);
 
         categoryMapper.updateEntity(existingCategory, dto);
+        categoryCache.invalidate();
 
         return categoryMapper.toResponse(categoryRepository.save(existingCategory));
     }
@@ -99,6 +102,7 @@ public class CategoryService {
     public void deleteCategory(Long id) {
         Category category = findEntityById(id);
         categoryRepository.delete(category);
+        categoryCache.invalidate();
     }
 
     /**
@@ -114,15 +118,17 @@ public class CategoryService {
     }
 
     /**
-     * Validates whether a category name is already associated with another category.
+     * Validates whether a category name is already associated with another category,
+     * using the {@link CategoryCache}. The unique constraint on the name column still
+     * rejects duplicates the cached snapshot has not seen yet.
      *
      * @param name the category name to be validated
      * @param categoryId the current category identifier, or null for creation
      * @throws BusinessException if the category name is already in use
      */
     private void validateNameUniqueness(String name, Long categoryId) {
-        categoryRepository.findByName(name)
-                .filter(existing -> categoryId == null || !existing.getId().equals(categoryId))
+        categoryCache.findByName(name)
+                .filter(existing -> categoryId == null || !existing.id().equals(categoryId))
                 .ifPresent(existing -> {
                     throw new BusinessException("Category name already in use.");
                 });
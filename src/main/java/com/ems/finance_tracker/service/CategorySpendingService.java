@@ -0,0 +1,105 @@
+package com.ems.finance_tracker.service;
+
+import com.ems.finance_tracker.dto.CategoryDTO;
+import com.ems.finance_tracker.exception.BusinessException;
+import com.ems.finance_tracker.exception.ResourceNotFoundException;
+import com.ems.finance_tracker.model.mapper.CategoryMapper;
+import com.ems.finance_tracker.repository.CategoryMonthlySpendingRepository;
+import com.ems.finance_tracker.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.YearMonth;
+import java.util.List;
+
+/**
+ * Service responsible for reading and rebuilding the monthly category spending rollup.
+ * <p>
+ * The rollup is maintained incrementally by every transaction write, so reads never aggregate
+ * {@code credit_card_transactions}. The backfill job rebuilds it from scratch: it fills the
+ * rollup the first time the application starts with it empty, and can be scheduled to repair
+ * drift left by writes that bypassed the service layer.
+ * </p>
+ *
+ * @author Evandro Machado
+ */
+@Service
+@RequiredArgsConstructor
+public class CategorySpendingService {
+
+    private static final int MAX_MONTHS = 120;
+
+    private final CategoryMonthlySpendingRepository categoryMonthlySpendingRepository;
+    private final UserRepository userRepository;
+    private final CategoryMapper categoryMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionPartitionService transactionPartitionService;
+
+    /**
+     * Retrieves the spending of a user per category and month within a range of months.
+     *
+     * @param userId the user identifier
+     * @param from the first month of the range
+     * @param to the last month of the range, inclusive
+     * @return a list of {@link CategoryDTO.MonthlySpendingResponse} ordered by month and category,
+     * without the months in which a category had no transactions
+     * @throws ResourceNotFoundException if the user does not exist
+     * @throws BusinessException if the range is reversed or longer than {@value #MAX_MONTHS} months
+     */
+    public List<CategoryDTO.MonthlySpendingResponse> findMonthlySpending(Long userId, YearMonth from, YearMonth to) {
+        if (from.isAfter(to)) {
+            throw new BusinessException("The first month must not be after the last month.");
+        }
+        if (from.plusMonths(MAX_MONTHS).isBefore(to.plusMonths(1))) {
+            throw new BusinessException("The range must not exceed " + MAX_MONTHS + " months.");
+        }
+        if (!userRepository.existsById(userId)) {
+            throw new ResourceNotFoundException("User not found. ID = " + userId);
+        }
+
+        return categoryMonthlySpendingRepository.findViewsByUserIdAndMonthBetween(userId, from.atDay(1), to.atDay(1))
+                .stream()
+                .map(categoryMapper::toResponse)
+                .toList();
+    }
+
+    /**
+     * Fills the rollup on startup when it is empty, e.g. right after the table was introduced.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillIfEmpty() {
+        if (!categoryMonthlySpendingRepository.existsAny()) {
+            backfill();
+        }
+    }
+
+    /**
+     * Rebuilds the rollup from every credit card transaction.
+     * <p>
+     * The rollup table is locked first, so transaction writes wait for the rebuild instead of
+     * racing it: writes committed before the lock are read by the rebuild, and writes blocked by
+     * the lock apply their upserts on top of it. Reads are not blocked. When old transaction
+     * partitions are detached, only the retained months are rebuilt and the archived ones are kept.
+     * </p>
+     */
+    @Scheduled(cron = "${category-spending.backfill-cron:-}")
+    public void backfill() {
+        transactionTemplate.executeWithoutResult(status -> {
+            categoryMonthlySpendingRepository.lockForRebuild();
+            transactionPartitionService.archivedBefore().ifPresentOrElse(
+                    month -> {
+                        categoryMonthlySpendingRepository.deleteRowsFrom(month);
+                        categoryMonthlySpendingRepository.insertFromTransactionsFrom(month);
+                    },
+                    () -> {
+                        categoryMonthlySpendingRepository.deleteAllRows();
+                        categoryMonthlySpendingRepository.insertFromTransactions();
+                    });
+        });
+    }
+
+}
@@ -0,0 +1,50 @@
+package com.ems.finance_tracker.service;
+
+import com.ems.finance_tracker.model.entity.CreditCard;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.SessionFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Keeps the {@code credit-cards} second-level cache region in step with the atomic limit updates.
+ * <p>
+ * The updates in {@link com.ems.finance_tracker.repository.CreditCardRepository} are native statements
+ * that do not declare {@code credit_cards} as their query space, so Hibernate leaves the region alone
+ * instead of invalidating every card on each purchase. Callers evict the one card they changed.
+ * </p>
+ *
+ * @author Evandro Machado
+ */
+@Component
+@RequiredArgsConstructor
+public class CreditCardCache {
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    /**
+     * Evicts a credit card whose limits were changed by an atomic update. The card is evicted at once,
+     * so the current transaction reloads it, and again after commit, dropping a copy cached in between
+     * by a concurrent reader.
+     *
+     * @param creditCardId the identifier of the updated credit card
+     */
+    public void evict(Long creditCardId) {
+        evictEntry(creditCardId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evictEntry(creditCardId);
+                }
+            });
+        }
+    }
+
+    private void evictEntry(Long creditCardId) {
+        entityManagerFactory.unwrap(SessionFactory.class).getCache().evictEntityData(CreditCard.class, creditCardId);
+    }
+
+}
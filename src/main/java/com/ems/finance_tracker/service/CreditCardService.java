@@ -1,9 +1,12 @@
 package com.ems.finance_tracker.service;
 
 import com.ems.finance_tracker.dto.CreditCardDTO;
+import com.ems.finance_tracker.dto.PageDTO;
+import com.ems.finance_tracker.exception.BusinessException;
 import com.ems.finance_tracker.exception.ResourceNotFoundException;
 import com.ems.finance_tracker.model.entity.CreditCard;
 import com.ems.finance_tracker.model.entity.User;
+import com.ems.finance_tracker.model.enums.CreditLimitEntryType;
 import com.ems.finance_tracker.model.mapper.CreditCardMapper;
 import com.ems.finance_tracker.repository.CreditCardRepository;
 import com.ems.finance_tracker.repository.UserRepository;
@@ -11,7 +14,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
+import java.math.BigDecimal;
 
 /**
  * Service responsible for managing {@link CreditCard} business operations.
@@ -25,21 +28,31 @@ public class CreditCardService {
 
     private final CreditCardRepository creditCardRepository;
     private final CreditCardMapper creditCardMapper;
+    private final CursorPagination cursorPagination;
     private final UserRepository userRepository;
+    private final CreditLimitLedgerService creditLimitLedgerService;
+    private final StatementForecastService statementForecastService;
+    private final StatementCalendar statementCalendar;
+    private final CreditCardCache creditCardCache;
 
     /**
-     * Retrieves all credit cards from the system.
+     * Retrieves one page of credit cards, in identifier order.
      *
-     * @return a list of {@link CreditCardDTO.Response} representing all
-     * registered credit cards
+     * @param cursor the cursor returned with the previous page, or {@code null} for the first page
+     * @param size the requested page size, capped by {@code pagination.max-page-size}
+     * @return a {@link PageDTO.Response} of {@link CreditCardDTO.Response} with the next page cursor
+     * @throws BusinessException if the cursor or size is invalid
      */
-    public List<CreditCardDTO.Response> findAllCreditCards() {
-        // TODO: Replace findAll() with a user-scoped query once Spring Security is fully configured.
+    public PageDTO.Response<CreditCardDTO.Response> findAllCreditCards(String cursor, Integer size) {
+        // TODO: Scope the query to the authenticated user once Spring Security is fully configured.
         // Each user should only be able to retrieve their own credit cards.
-        return creditCardRepository.findAll()
-                .stream()
-                .map(creditCardMapper::toResponse)
-                .toList();
+        int pageSize = cursorPagination.pageSize(size);
+
+        return cursorPagination.page(
+                creditCardRepository.findByIdGreaterThanOrderByIdAsc(cursorPagination.decodeId(cursor), cursorPagination.limit(pageSize)),
+                pageSize,
+                creditCardMapper::toResponse,
+                creditCard -> cursorPagination.encodeId(creditCard.getId()));
     }
 
     /**
@@ -68,22 +81,30 @@ public class CreditCardService {
         User user = userRepository.findById(dto.user().id())
                 .orElseThrow(() -> new ResourceNotFoundException("User not found. ID = " + dto.user().id()));
 
-        CreditCard creditCard = creditCardMapper.toEntity(dto, user);
+        CreditCard creditCard = creditCardRepository.save(creditCardMapper.toEntity(dto, user));
+        creditLimitLedgerService.recordOpening(creditCard);
+        statementForecastService.evictUser(user.getId());
 
-        return creditCardMapper.toResponse(creditCardRepository.save(creditCard));
+        return creditCardMapper.toResponse(creditCard);
     }
 
     /**
      * Updates an existing credit card's details.
+     * The credit limit is changed with an atomic update so that concurrent
+     * transactions on the same card are not overwritten. The card row is locked
+     * while updating, so the recorded ledger entry reflects the exact limit change.
      *
      * @param id the identifier of the credit card to be updated
      * @param dto the DTO containing updated card settings
      * @return a {@link CreditCardDTO.Response} representing the updated credit card
      * @throws ResourceNotFoundException if the credit card does not exist
+     * @throws BusinessException if the new credit limit is lower than the used credit
      */
     @Transactional
     public CreditCardDTO.Response updateCreditCard(Long id, CreditCardDTO.Update dto) {
-        CreditCard existingCreditCard = findEntityById(id);
+        CreditCard existingCreditCard = creditCardRepository.findByIdForUpdate(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Credit Card not found. ID = " + id));
+        BigDecimal previousCreditLimit = existingCreditCard.getCreditLimit();
 
         if (dto.closingDay().isPresent() || dto.dueDay().isPresent()) {
             existingCreditCard.updateBillingCycle(
@@ -93,8 +114,20 @@ public class CreditCardService {
         }
 
         creditCardMapper.updateEntity(existingCreditCard, dto);
+        creditCardRepository.save(existingCreditCard);
+        statementForecastService.evictUser(existingCreditCard.getUser().getId());
+
+        if (dto.creditLimit().isPresent()) {
+            updateCreditLimit(id, dto.creditLimit().get());
+            existingCreditCard = findEntityById(id);
 
-        return creditCardMapper.toResponse(creditCardRepository.save(existingCreditCard));
+            BigDecimal limitDelta = existingCreditCard.getCreditLimit().subtract(previousCreditLimit);
+            if (limitDelta.signum() != 0) {
+                creditLimitLedgerService.record(id, CreditLimitEntryType.CREDIT_LIMIT_UPDATED, limitDelta, limitDelta, null);
+            }
+        }
+
+        return creditCardMapper.toResponse(existingCreditCard);
     }
 
     /**
@@ -106,6 +139,8 @@ public class CreditCardService {
     @Transactional
     public void deleteCreditCard(Long id) {
         CreditCard creditCard = findEntityById(id);
+        statementForecastService.evictUser(creditCard.getUser().getId());
+        statementCalendar.evictCreditCard(id);
         creditCardRepository.delete(creditCard);
     }
 
@@ -121,4 +156,23 @@ public class CreditCardService {
                 .orElseThrow(() -> new ResourceNotFoundException("Credit Card not found. ID = " + id));
     }
 
+    /**
+     * Atomically replaces the credit limit of a credit card, shifting its available limit
+     * by the same difference.
+     *
+     * @param id the credit card identifier
+     * @param creditLimit the new credit limit
+     * @throws BusinessException if the new limit is not positive or is lower than the used credit
+     */
+    private void updateCreditLimit(Long id, BigDecimal creditLimit) {
+        if (creditLimit.signum() <= 0) {
+            throw new BusinessException("Amount must be greater than zero.");
+        }
+
+        if (creditCardRepository.updateCreditLimit(id, creditLimit) == 0) {
+            throw new BusinessException("Cannot reduce credit limit below used amount.");
+        }
+        creditCardCache.evict(id);
+    }
+
 }
@@ -0,0 +1,209 @@
+package com.ems.finance_tracker.service;
+
+import com.ems.finance_tracker.model.entity.CreditCard;
+import com.ems.finance_tracker.model.entity.CreditCardStatement;
+import com.ems.finance_tracker.model.enums.CreditCardStatementStatus;
+import com.ems.finance_tracker.repository.CreditCardRepository;
+import com.ems.finance_tracker.repository.CreditCardStatementRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.IntSupplier;
+import java.util.stream.Collectors;
+
+/**
+ * Service responsible for the scheduled lifecycle of {@link CreditCardStatement}s.
+ * <p>
+ * After a statement's closing day it is closed and the statement of the following month is
+ * pre-created with its card's billing cycle; before its due day a {@link StatementDueReminder}
+ * is published and queued for the card holder by {@link StatementReminderService}. Both jobs claim statements in chunks with {@code FOR UPDATE SKIP LOCKED}, one
+ * transaction per chunk, and run several workers at once, so the work is spread across threads
+ * and application nodes without two of them processing the same statement. A statement left open
+ * for several months is caught up one month per chunk, since each pre-created statement is itself
+ * claimed once its closing day has passed.
+ * </p>
+ *
+ * @author Evandro Machado
+ */
+@Slf4j
+@Service
+public class CreditCardStatementLifecycleService {
+
+    private final CreditCardStatementRepository creditCardStatementRepository;
+    private final CreditCardRepository creditCardRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int chunkSize;
+    private final int parallelism;
+    private final int reminderDaysAhead;
+
+    public CreditCardStatementLifecycleService(CreditCardStatementRepository creditCardStatementRepository,
+                                               CreditCardRepository creditCardRepository,
+                                               TransactionTemplate transactionTemplate,
+                                               ApplicationEventPublisher eventPublisher,
+                                               @Value("${statement-lifecycle.chunk-size:500}") int chunkSize,
+                                               @Value("${statement-lifecycle.parallelism:4}") int parallelism,
+                                               @Value("${statement-lifecycle.reminder-days-ahead:3}") int reminderDaysAhead) {
+        this.creditCardStatementRepository = creditCardStatementRepository;
+        this.creditCardRepository = creditCardRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+        this.chunkSize = chunkSize;
+        this.parallelism = parallelism;
+        this.reminderDaysAhead = reminderDaysAhead;
+    }
+
+    /**
+     * Closes every open statement whose closing day has passed and pre-creates the statement
+     * of the following month for its card.
+     */
+    @Scheduled(cron = "${statement-lifecycle.closing-cron:0 5 0 * * *}")
+    public void closeStatements() {
+        LocalDate today = LocalDate.now();
+        long closed = inParallel(() -> closeChunk(today));
+        if (closed > 0) {
+            log.info("Closed {} credit card statements", closed);
+        }
+    }
+
+    /**
+     * Publishes a {@link StatementDueReminder} for every closed statement of the current month falling
+     * due within {@code statement-lifecycle.reminder-days-ahead} days, once per statement.
+     */
+    @Scheduled(cron = "${statement-lifecycle.reminder-cron:0 0 8 * * *}")
+    public void sendDueReminders() {
+        LocalDate today = LocalDate.now();
+        long sent = inParallel(() -> remindChunk(today));
+        if (sent > 0) {
+            log.info("Sent {} statement due-date reminders", sent);
+        }
+    }
+
+    private int closeChunk(LocalDate today) {
+        return transactionTemplate.execute(status -> {
+            List<CreditCardStatement> statements = creditCardStatementRepository.claimPastClosingDay(
+                    CreditCardStatementStatus.OPEN, YearMonth.from(today), today.getDayOfMonth(), Limit.of(chunkSize));
+
+            statements.forEach(CreditCardStatement::close);
+            openNextStatements(statements);
+
+            return statements.size();
+        });
+    }
+
+    /**
+     * Creates the statement following each of the given ones, unless the card already has it.
+     * Cards whose billing cycle cannot be represented by a statement yet are skipped.
+     * <p>
+     * Statements are inserted with {@code ON CONFLICT DO NOTHING}, so one created concurrently by a
+     * purchase after the existence check is skipped instead of rolling back the whole chunk.
+     * </p>
+     *
+     * @see CreditCardStatement#forBillingCycle(CreditCard, YearMonth)
+     */
+    private void openNextStatements(List<CreditCardStatement> statements) {
+        Map<YearMonth, List<CreditCard>> creditCardsByMonth = statements.stream()
+                .collect(Collectors.groupingBy(statement -> statement.getReferenceMonth().plusMonths(1),
+                        Collectors.mapping(CreditCardStatement::getCreditCard, Collectors.toList())));
+
+        creditCardsByMonth.forEach((month, creditCards) -> {
+            Set<Long> existing = creditCardStatementRepository.findCreditCardIdsWithStatementFor(
+                    month, creditCards.stream().map(CreditCard::getId).toList());
+
+            for (CreditCard creditCard : creditCards) {
+                if (existing.contains(creditCard.getId())) {
+                    continue;
+                }
+
+                CreditCardStatement.forBillingCycle(creditCard, month).ifPresentOrElse(
+                        next -> creditCardStatementRepository.insertIfAbsent(
+                                month.toString(), next.getClosingDay(), next.getDueDay(), creditCard.getId()),
+                        () -> log.debug("Skipping the {} statement of credit card {}: its due day is not after its closing day",
+                                month, creditCard.getId()));
+            }
+        });
+    }
+
+    private int remindChunk(LocalDate today) {
+        YearMonth month = YearMonth.from(today);
+        int lastDay = Math.min(today.getDayOfMonth() + reminderDaysAhead, month.lengthOfMonth());
+
+        return transactionTemplate.execute(status -> {
+            List<CreditCardStatement> statements = creditCardStatementRepository.claimDueWithoutReminder(
+                    CreditCardStatementStatus.CLOSED, month, today.getDayOfMonth(), lastDay, Limit.of(chunkSize));
+            // Loads the cards of the chunk with one query, so reading their holders does not load each card.
+            // They are not fetched by the claim, whose row locks must stay on the statements.
+            creditCardRepository.findAllById(statements.stream()
+                    .map(statement -> statement.getCreditCard().getId())
+                    .distinct()
+                    .toList());
+
+            for (CreditCardStatement statement : statements) {
+                statement.markDueReminderSent();
+                eventPublisher.publishEvent(new StatementDueReminder(
+                        statement.getId(),
+                        statement.getCreditCard().getId(),
+                        statement.getCreditCard().getUser().getId(),
+                        statement.getReferenceMonth(),
+                        month.atDay(statement.getDueDay()),
+                        statement.getTotalPurchases().subtract(statement.getTotalRefunds())));
+            }
+
+            return statements.size();
+        });
+    }
+
+    /**
+     * Runs {@code statement-lifecycle.parallelism} workers, each processing chunks until one comes
+     * back short, meaning no unclaimed work is left.
+     *
+     * @param chunk processes one chunk in its own transaction and returns how many statements it processed
+     * @return the total number of statements processed
+     */
+    private long inParallel(IntSupplier chunk) {
+        try (ExecutorService executor = Executors.newThreadPerTaskExecutor(
+                Thread.ofVirtual().name("statement-lifecycle-", 0).factory())) {
+            List<Future<Long>> workers = new ArrayList<>();
+            for (int i = 0; i < parallelism; i++) {
+                workers.add(executor.submit(() -> {
+                    long processed = 0;
+                    int count;
+                    do {
+                        count = chunk.getAsInt();
+                        processed += count;
+                    } while (count == chunkSize);
+                    return processed;
+                }));
+            }
+
+            long total = 0;
+            for (Future<Long> worker : workers) {
+                try {
+                    total += worker.get();
+                } catch (ExecutionException e) {
+                    log.warn("A statement lifecycle worker failed; its chunk is retried on the next run.", e.getCause());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+            }
+            return total;
+        }
+    }
+
+}
@@ -1,15 +1,21 @@
 package com.ems.finance_tracker.service;
 
 import com.ems.finance_tracker.dto.CreditCardStatementDTO;
+import com.ems.finance_tracker.dto.PageDTO;
+import com.ems.finance_tracker.exception.BusinessException;
 import com.ems.finance_tracker.exception.ResourceNotFoundException;
 import com.ems.finance_tracker.model.entity.CreditCard;
 import com.ems.finance_tracker.model.entity.CreditCardStatement;
 import com.ems.finance_tracker.model.mapper.CreditCardStatementMapper;
 import com.ems.finance_tracker.repository.CreditCardRepository;
 import com.ems.finance_tracker.repository.CreditCardStatementRepository;
+import com.ems.finance_tracker.repository.CreditCardTransactionRepository;
+import com.ems.finance_tracker.repository.projection.CreditCardStatementView;
 import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.util.List;
 
@@ -23,23 +29,37 @@ import java.util.List;
 @RequiredArgsConstructor
 public class CreditCardStatementService {
 
+    private static final int TOTALS_REPAIR_BATCH_SIZE = 1000;
+
     private final CreditCardStatementRepository creditCardStatementRepository;
+    private final CreditCardTransactionRepository creditCardTransactionRepository;
     private final CreditCardStatementMapper creditCardStatementMapper;
+    private final CursorPagination cursorPagination;
     private final CreditCardRepository creditCardRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionPartitionService transactionPartitionService;
+    private final StatementForecastService statementForecastService;
+    private final StatementCalendar statementCalendar;
 
     /**
-     * Retrieves all credit card statements from the system.
+     * Retrieves one page of statements, in identifier order.
      *
-     * // TODO: Replace findAll() with a user-scoped query once Spring Security is fully configured.
+     * // TODO: Scope the query to the authenticated user once Spring Security is fully configured.
      * // Each user should only be able to retrieve their own statements.
      *
-     * @return a list of {@link CreditCardStatementDTO.Response} representing all registered statements
+     * @param cursor the cursor returned with the previous page, or {@code null} for the first page
+     * @param size the requested page size, capped by {@code pagination.max-page-size}
+     * @return a {@link PageDTO.Response} of {@link CreditCardStatementDTO.Response} with the next page cursor
+     * @throws BusinessException if the cursor or size is invalid
      */
-    public List<CreditCardStatementDTO.Response> findAllCreditCardStatements() {
-        return creditCardStatementRepository.findAll()
-                .stream()
-                .map(creditCardStatementMapper::toResponse)
-                .toList();
+    public PageDTO.Response<CreditCardStatementDTO.Response> findAllCreditCardStatements(String cursor, Integer size) {
+        int pageSize = cursorPagination.pageSize(size);
+
+        List<CreditCardStatementView> statements = creditCardStatementRepository.findViewsAfter(
+                cursorPagination.decodeId(cursor), cursorPagination.limit(pageSize));
+
+        return cursorPagination.page(statements, pageSize, creditCardStatementMapper::toResponse,
+                statement -> cursorPagination.encodeId(statement.getId()));
     }
 
     /**
@@ -50,9 +70,9 @@ public class CreditCardStatementService {
      * @throws ResourceNotFoundException if the statement does not exist
      */
     public CreditCardStatementDTO.Response findCreditCardStatementById(Long id) {
-        CreditCardStatement statement = findEntityById(id);
-
-        return creditCardStatementMapper.toResponse(statement);
+        return creditCardStatementRepository.findViewById(id)
+                .map(creditCardStatementMapper::toResponse)
+                .orElseThrow(() -> new ResourceNotFoundException("Credit card statement not found. ID = " + id));
     }
 
     /**
@@ -69,6 +89,7 @@ public class CreditCardStatementService {
                 .orElseThrow(() -> new ResourceNotFoundException("Credit card not found. ID = " + dto.creditCard().id()));
 
         CreditCardStatement statement = creditCardStatementMapper.toEntity(dto, creditCard);
+        statementForecastService.evictUser(creditCard.getUser().getId());
 
         return creditCardStatementMapper.toResponse(creditCardStatementRepository.save(statement));
     }
@@ -92,16 +113,59 @@ public class CreditCardStatementService {
 
     /**
      * Deletes a credit card statement from the system.
+     * <p>
+     * Only statements without transactions can be deleted: their transactions must be deleted first,
+     * so the card's limit, the spending rollup and installment groups are reverted along with them.
+     * The statement is locked while checking, so no transaction is added before it is deleted.
+     * </p>
      *
      * @param id the identifier of the statement to be deleted
      * @throws ResourceNotFoundException if the statement does not exist
+     * @throws BusinessException if the statement still has transactions
      */
     @Transactional
     public void deleteCreditCardStatement(Long id) {
-        CreditCardStatement statement = findEntityById(id);
+        CreditCardStatement statement = creditCardStatementRepository.findByIdForUpdate(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Credit card statement not found. ID = " + id));
+        if (creditCardTransactionRepository.existsByCreditCardStatementId(id)) {
+            throw new BusinessException("Credit card statement " + id
+                    + " still has transactions. Delete them before deleting the statement.");
+        }
+
+        statementForecastService.evictUser(statement.getCreditCard().getUser().getId());
+        statementCalendar.evictCreditCard(statement.getCreditCard().getId());
         creditCardStatementRepository.delete(statement);
     }
 
+    /**
+     * Recomputes the denormalized totals of every statement from its transactions, repairing drift
+     * left by writes that bypassed the service layer. Statements are locked and repaired in
+     * batches, one transaction per batch, so writers are only blocked briefly. When old transaction
+     * partitions are detached, statements without visible transactions are left as they are, since
+     * their transactions may have been archived.
+     */
+    @Scheduled(cron = "${statement-totals.repair-cron:0 30 3 * * *}")
+    public void repairStatementTotals() {
+        boolean includeEmpty = transactionPartitionService.archivedBefore().isEmpty();
+        long lastId = 0;
+        List<Long> ids;
+
+        do {
+            long after = lastId;
+            ids = transactionTemplate.execute(status -> {
+                List<Long> locked = creditCardStatementRepository.lockIdsAfter(after, TOTALS_REPAIR_BATCH_SIZE);
+                if (!locked.isEmpty()) {
+                    creditCardStatementRepository.repairTotals(locked, includeEmpty);
+                }
+                return locked;
+            });
+
+            if (!ids.isEmpty()) {
+                lastId = ids.getLast();
+            }
+        } while (ids.size() == TOTALS_REPAIR_BATCH_SIZE);
+    }
+
     /**
      * Retrieves a CreditCardStatement entity by its identifier.
      *
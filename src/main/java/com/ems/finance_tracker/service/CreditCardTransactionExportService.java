@@ -0,0 +1,142 @@
+package com.ems.finance_tracker.service;
+
+import com.ems.finance_tracker.exception.ResourceNotFoundException;
+import com.ems.finance_tracker.repository.UserRepository;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * Service responsible for exporting the full transaction history of a user as NDJSON.
+ * <p>
+ * Rows are read through a forward-only JDBC cursor, fetched in batches of
+ * {@code transaction-export.fetch-size}, and written straight to the response stream with a
+ * Jackson {@link JsonGenerator}. No entity or DTO is built per row, so heap use does not grow
+ * with the size of the history and the first line is sent as soon as the first batch is read.
+ * </p>
+ *
+ * @author Evandro Machado
+ */
+@Service
+@RequiredArgsConstructor
+public class CreditCardTransactionExportService {
+
+    /**
+     * Ordered by card, then purchase date. The {@code (credit_card_id, purchase_date, id)} index
+     * returns each card's rows already sorted, so rows stream without a sort step.
+     */
+    private static final String EXPORT_SQL = """
+            SELECT t.id, t.description, t.transaction_type, t.amount, t.is_installment,
+                   t.current_installment, t.total_installments, t.installment_group_id,
+                   t.purchase_date, t.comment, t.credit_card_id, t.category_id, t.statement_id
+            FROM credit_cards c
+            JOIN credit_card_transactions t ON t.credit_card_id = c.id
+            WHERE c.user_id = ?
+            ORDER BY c.id, t.purchase_date, t.id
+            """;
+
+    private static final int FLUSH_EVERY_ROWS = 1000;
+
+    private final UserRepository userRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Value("${transaction-export.fetch-size:1000}")
+    private int fetchSize;
+
+    /**
+     * Prepares the NDJSON export of every transaction of a user, one JSON object per line,
+     * with the same fields as {@link com.ems.finance_tracker.dto.CreditCardTransactionDTO.Response}.
+     *
+     * @param userId the user identifier
+     * @return the response body, which reads and writes the rows when the response is streamed
+     * @throws ResourceNotFoundException if the user does not exist
+     */
+    public StreamingResponseBody exportCreditCardTransactions(Long userId) {
+        if (!userRepository.existsById(userId)) {
+            throw new ResourceNotFoundException("User not found. ID = " + userId);
+        }
+
+        return output -> {
+            // PostgreSQL only honours the fetch size inside a transaction.
+            TransactionTemplate readOnly = new TransactionTemplate(transactionTemplate.getTransactionManager());
+            readOnly.setReadOnly(true);
+
+            readOnly.executeWithoutResult(status -> writeTransactions(userId, output));
+        };
+    }
+
+    private void writeTransactions(Long userId, OutputStream output) {
+        PreparedStatementCreator statement = connection -> {
+            PreparedStatement prepared = connection.prepareStatement(EXPORT_SQL,
+                    ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            prepared.setFetchSize(fetchSize);
+            prepared.setLong(1, userId);
+            return prepared;
+        };
+
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(output)) {
+            generator.setRootValueSeparator(new SerializedString("\n"));
+            long[] rows = {0};
+
+            jdbcTemplate.query(statement, resultSet -> {
+                try {
+                    writeTransaction(generator, resultSet);
+                    if (rows[0]++ % FLUSH_EVERY_ROWS == 0) {
+                        generator.flush();
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+
+            generator.writeRaw('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void writeTransaction(JsonGenerator generator, ResultSet resultSet) throws IOException, SQLException {
+        generator.writeStartObject();
+        generator.writeNumberField("id", resultSet.getLong("id"));
+        generator.writeStringField("description", resultSet.getString("description"));
+        generator.writeStringField("type", resultSet.getString("transaction_type"));
+        generator.writeNumberField("amount", resultSet.getBigDecimal("amount"));
+        generator.writeBooleanField("isInstallment", resultSet.getBoolean("is_installment"));
+        generator.writeNumberField("currentInstallment", resultSet.getInt("current_installment"));
+        generator.writeNumberField("totalInstallments", resultSet.getInt("total_installments"));
+        generator.writeStringField("installmentGroupId", resultSet.getString("installment_group_id"));
+
+        Date purchaseDate = resultSet.getDate("purchase_date");
+        generator.writeStringField("purchaseDate", purchaseDate.toLocalDate().toString());
+        generator.writeStringField("comment", resultSet.getString("comment"));
+
+        writeReference(generator, "creditCard", resultSet.getLong("credit_card_id"));
+        writeReference(generator, "category", resultSet.getLong("category_id"));
+        writeReference(generator, "statement", resultSet.getLong("statement_id"));
+        generator.writeEndObject();
+    }
+
+    private static void writeReference(JsonGenerator generator, String name, long id) throws IOException {
+        generator.writeObjectFieldStart(name);
+        generator.writeNumberField("id", id);
+        generator.writeEndObject();
+    }
+
+}
@@ -0,0 +1,151 @@
+package com.ems.finance_tracker.service;
+
+import com.ems.finance_tracker.dto.CreditCardTransactionDTO;
+import com.ems.finance_tracker.dto.PageDTO;
+import com.ems.finance_tracker.exception.BusinessException;
+import com.ems.finance_tracker.exception.ResourceNotFoundException;
+import com.ems.finance_tracker.model.enums.CreditCardTransactionType;
+import com.ems.finance_tracker.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Service responsible for searching the descriptions and comments of a user's transactions.
+ * <p>
+ * A transaction matches when every search word is a prefix of one of its words, served by the GIN index
+ * on {@code search_vector}, or when the search term is similar to a part of its text, served by the
+ * trigram index, which tolerates typos. Matches are ranked by full-text rank plus trigram word
+ * similarity and paginated with a {@code (score, id)} cursor. Both indexes are created by
+ * {@code schema.sql}.
+ * </p>
+ *
+ * @author Evandro Machado
+ */
+@Service
+@RequiredArgsConstructor
+public class CreditCardTransactionSearchService {
+
+    private static final String SEARCH_ORDERING = "search";
+
+    private static final int MAX_TERM_LENGTH = 100;
+
+    private static final Pattern WORD_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private static final String SEARCH_SQL = """
+            SELECT * FROM (
+                SELECT t.id, t.description, t.transaction_type, t.amount, t.is_installment,
+                       t.current_installment, t.total_installments, t.installment_group_id,
+                       t.purchase_date, t.comment,
+                       t.credit_card_id, t.category_id, t.statement_id,
+                       ts_rank(t.search_vector, q.query)
+                           + word_similarity(?, t.description || ' ' || coalesce(t.comment, '')) AS score
+                FROM credit_card_transactions t
+                JOIN credit_cards c ON c.id = t.credit_card_id
+                CROSS JOIN to_tsquery('simple', ?) AS q(query)
+                WHERE c.user_id = ?
+                  AND (t.search_vector @@ q.query
+                       OR ? <% (t.description || ' ' || coalesce(t.comment, '')))
+            ) hits
+            """;
+
+    private static final String FIRST_PAGE_SQL = SEARCH_SQL + """
+            ORDER BY score DESC, id DESC
+            LIMIT ?""";
+
+    private static final String NEXT_PAGE_SQL = SEARCH_SQL + """
+            WHERE (score, id) < (?::real, ?)
+            ORDER BY score DESC, id DESC
+            LIMIT ?""";
+
+    private static final RowMapper<SearchHit> SEARCH_HIT_MAPPER = (resultSet, rowNumber) -> new SearchHit(
+            new CreditCardTransactionDTO.Response(
+                    resultSet.getLong("id"),
+                    resultSet.getString("description"),
+                    CreditCardTransactionType.valueOf(resultSet.getString("transaction_type")),
+                    resultSet.getBigDecimal("amount"),
+                    resultSet.getBoolean("is_installment"),
+                    resultSet.getInt("current_installment"),
+                    resultSet.getInt("total_installments"),
+                    resultSet.getObject("installment_group_id", UUID.class),
+                    resultSet.getDate("purchase_date").toLocalDate(),
+                    resultSet.getString("comment"),
+                    new CreditCardTransactionDTO.CreditCardRef(resultSet.getLong("credit_card_id")),
+                    new CreditCardTransactionDTO.CategoryRef(resultSet.getLong("category_id")),
+                    new CreditCardTransactionDTO.CreditCardStatementRef(resultSet.getLong("statement_id"))
+            ),
+            resultSet.getFloat("score"));
+
+    private final UserRepository userRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final CursorPagination cursorPagination;
+
+    /**
+     * Transaction matching a search, with its relevance score.
+     */
+    private record SearchHit(CreditCardTransactionDTO.Response transaction, float score) {}
+
+    /**
+     * Retrieves one page of a user's transactions matching a search term, most relevant first.
+     *
+     * @param userId the user identifier
+     * @param term the search term
+     * @param cursor the cursor returned with the previous page, or {@code null} for the first page
+     * @param size the requested page size, capped by {@code pagination.max-page-size}
+     * @return a {@link PageDTO.Response} of {@link CreditCardTransactionDTO.Response} with the next page cursor
+     * @throws ResourceNotFoundException if the user does not exist
+     * @throws BusinessException if the term has no words, is too long, or the cursor or size is invalid
+     */
+    public PageDTO.Response<CreditCardTransactionDTO.Response> searchCreditCardTransactions(Long userId,
+                                                                                           String term,
+                                                                                           String cursor,
+                                                                                           Integer size) {
+        String normalizedTerm = term == null ? "" : term.strip().toLowerCase(Locale.ROOT);
+        if (normalizedTerm.length() > MAX_TERM_LENGTH) {
+            throw new BusinessException("Search term must not exceed " + MAX_TERM_LENGTH + " characters.");
+        }
+
+        String prefixQuery = WORD_SEPARATOR.splitAsStream(normalizedTerm)
+                .filter(word -> !word.isEmpty())
+                .map(word -> word + ":*")
+                .collect(Collectors.joining(" & "));
+        if (prefixQuery.isEmpty()) {
+            throw new BusinessException("Search term must contain letters or digits.");
+        }
+
+        int pageSize = cursorPagination.pageSize(size);
+
+        if (!userRepository.existsById(userId)) {
+            throw new ResourceNotFoundException("User not found. ID = " + userId);
+        }
+
+        List<Object> parameters = new ArrayList<>(List.of(normalizedTerm, prefixQuery, userId, normalizedTerm));
+        String sql = FIRST_PAGE_SQL;
+
+        if (cursor != null) {
+            List<String> keys = cursorPagination.decode(cursor, SEARCH_ORDERING, 2);
+            try {
+                parameters.add(Float.parseFloat(keys.get(0)));
+                parameters.add(Long.parseLong(keys.get(1)));
+            } catch (NumberFormatException e) {
+                throw new BusinessException("Invalid page cursor.");
+            }
+            sql = NEXT_PAGE_SQL;
+        }
+        parameters.add(cursorPagination.limit(pageSize).max());
+
+        List<SearchHit> hits = jdbcTemplate.query(sql, SEARCH_HIT_MAPPER, parameters.toArray());
+
+        return cursorPagination.page(hits, pageSize, SearchHit::transaction,
+                hit -> cursorPagination.encode(SEARCH_ORDERING, hit.score(), hit.transaction().id()));
+    }
+
+}
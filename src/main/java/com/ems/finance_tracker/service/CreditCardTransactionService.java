@@ -1,22 +1,39 @@
 package com.ems.finance_tracker.service;
 
 import com.ems.finance_tracker.dto.CreditCardTransactionDTO;
+import com.ems.finance_tracker.dto.PageDTO;
+import com.ems.finance_tracker.exception.BusinessException;
 import com.ems.finance_tracker.exception.ResourceNotFoundException;
 import com.ems.finance_tracker.model.entity.Category;
 import com.ems.finance_tracker.model.entity.CreditCard;
 import com.ems.finance_tracker.model.entity.CreditCardStatement;
 import com.ems.finance_tracker.model.entity.CreditCardTransaction;
+import com.ems.finance_tracker.model.enums.CreditCardTransactionOrder;
+import com.ems.finance_tracker.model.enums.CreditLimitEntryType;
 import com.ems.finance_tracker.model.mapper.CreditCardTransactionMapper;
+import com.ems.finance_tracker.repository.CategoryMonthlySpendingRepository;
 import com.ems.finance_tracker.repository.CategoryRepository;
 import com.ems.finance_tracker.repository.CreditCardRepository;
 import com.ems.finance_tracker.repository.CreditCardStatementRepository;
 import com.ems.finance_tracker.repository.CreditCardTransactionRepository;
+import com.ems.finance_tracker.repository.projection.CreditCardTransactionView;
+import com.ems.finance_tracker.repository.projection.CreditCardWithStatement;
+import com.ems.finance_tracker.repository.specification.CreditCardTransactionSpecifications;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
-import java.util.Optional;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeParseException;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * Service responsible for managing {@link CreditCardTransaction} business operations.
@@ -28,26 +45,129 @@ import java.util.Optional;
 @RequiredArgsConstructor
 public class CreditCardTransactionService {
 
+    private static final String PURCHASE_DATE_ORDERING = "purchaseDate";
+
+    private static final String FILTER_ORDERING = "filter";
+
     private final CreditCardTransactionRepository creditCardTransactionRepository;
     private final CreditCardTransactionMapper creditCardTransactionMapper;
     private final CreditCardRepository creditCardRepository;
     private final CategoryRepository categoryRepository;
+    private final CategoryCache categoryCache;
     private final CreditCardStatementRepository creditCardStatementRepository;
+    private final CategoryMonthlySpendingRepository categoryMonthlySpendingRepository;
+    private final CreditLimitLedgerService creditLimitLedgerService;
+    private final CreditCardCache creditCardCache;
+    private final CursorPagination cursorPagination;
+    private final StatementForecastService statementForecastService;
+    private final StatementCalendar statementCalendar;
+    private final TransactionPartitionService transactionPartitionService;
 
     /**
-     * Retrieves all credit card transactions from the system.
+     * Retrieves one page of credit card transactions, either in identifier order or
+     * in purchase date order with ties broken by identifier.
      *
-     * @return a list of {@link CreditCardTransactionDTO.Response} representing all registered transactions
+     * @param order the ordering of the pages
+     * @param cursor the cursor returned with the previous page, or {@code null} for the first page
+     * @param size the requested page size, capped by {@code pagination.max-page-size}
+     * @return a {@link PageDTO.Response} of {@link CreditCardTransactionDTO.Response} with the next page cursor
+     * @throws BusinessException if the cursor does not belong to the ordering or the size is invalid
      */
-    public List<CreditCardTransactionDTO.Response> findAllCreditCardTransactions() {
+    public PageDTO.Response<CreditCardTransactionDTO.Response> findAllCreditCardTransactions(CreditCardTransactionOrder order,
+                                                                                            String cursor,
+                                                                                            Integer size) {
 
-        // TODO: Replace findAll() with a user-scoped query once Spring Security is fully configured.
+        // TODO: Scope the queries to the authenticated user once Spring Security is fully configured.
         // Each user should only be able to retrieve their own transactions.
 
-        return creditCardTransactionRepository.findAll()
-                .stream()
-                .map(creditCardTransactionMapper::toResponse)
-                .toList();
+        int pageSize = cursorPagination.pageSize(size);
+        Limit limit = cursorPagination.limit(pageSize);
+
+        if (order == CreditCardTransactionOrder.PURCHASE_DATE) {
+            List<CreditCardTransactionView> transactions;
+            if (cursor == null) {
+                transactions = creditCardTransactionRepository.findViewsByPurchaseDate(limit);
+            } else {
+                List<String> keys = cursorPagination.decode(cursor, PURCHASE_DATE_ORDERING, 2);
+                try {
+                    transactions = creditCardTransactionRepository.findViewsByPurchaseDateAfter(
+                            LocalDate.parse(keys.get(0)), Long.parseLong(keys.get(1)), limit);
+                } catch (DateTimeParseException | NumberFormatException e) {
+                    throw new BusinessException("Invalid page cursor.");
+                }
+            }
+
+            return cursorPagination.page(transactions, pageSize, creditCardTransactionMapper::toResponse,
+                    transaction -> cursorPagination.encode(PURCHASE_DATE_ORDERING,
+                            transaction.getPurchaseDate(), transaction.getId()));
+        }
+
+        return cursorPagination.page(
+                creditCardTransactionRepository.findViewsAfter(cursorPagination.decodeId(cursor), limit),
+                pageSize,
+                creditCardTransactionMapper::toResponse,
+                transaction -> cursorPagination.encodeId(transaction.getId()));
+    }
+
+    /**
+     * Retrieves one page of the credit card transactions matching a filter, sorted by identifier
+     * or by purchase date with ties broken by identifier, in either direction.
+     * <p>
+     * Each criterion is served by one of the indexes on {@code credit_card_transactions}: card,
+     * statement and category by their composite indexes, and purchase date ranges by the
+     * {@code (purchase_date, id)} B-tree.
+     * The cursor is bound to the ordering and direction, not to the criteria.
+     * </p>
+     *
+     * @param filter the filter criteria, each optional
+     * @param order the ordering of the pages
+     * @param direction the direction of the ordering
+     * @param cursor the cursor returned with the previous page, or {@code null} for the first page
+     * @param size the requested page size, capped by {@code pagination.max-page-size}
+     * @return a {@link PageDTO.Response} of {@link CreditCardTransactionDTO.Response} with the next page cursor
+     * @throws BusinessException if the cursor or size is invalid
+     */
+    public PageDTO.Response<CreditCardTransactionDTO.Response> filterCreditCardTransactions(CreditCardTransactionDTO.Filter filter,
+                                                                                           CreditCardTransactionOrder order,
+                                                                                           Sort.Direction direction,
+                                                                                           String cursor,
+                                                                                           Integer size) {
+
+        // TODO: Scope the queries to the authenticated user once Spring Security is fully configured.
+        // Each user should only be able to retrieve their own transactions.
+
+        int pageSize = cursorPagination.pageSize(size);
+        String ordering = FILTER_ORDERING + ":" + order + ":" + direction;
+
+        Specification<CreditCardTransaction> specification = CreditCardTransactionSpecifications.matching(filter);
+        Sort sort = order == CreditCardTransactionOrder.PURCHASE_DATE
+                ? Sort.by(direction, "purchaseDate", "id")
+                : Sort.by(direction, "id");
+
+        if (cursor != null) {
+            try {
+                if (order == CreditCardTransactionOrder.PURCHASE_DATE) {
+                    List<String> keys = cursorPagination.decode(cursor, ordering, 2);
+                    specification = specification.and(CreditCardTransactionSpecifications.purchaseDateAfter(
+                            LocalDate.parse(keys.get(0)), Long.parseLong(keys.get(1)), direction));
+                } else {
+                    List<String> keys = cursorPagination.decode(cursor, ordering, 1);
+                    specification = specification.and(
+                            CreditCardTransactionSpecifications.idAfter(Long.parseLong(keys.get(0)), direction));
+                }
+            } catch (DateTimeParseException | NumberFormatException e) {
+                throw new BusinessException("Invalid page cursor.");
+            }
+        }
+
+        int limit = cursorPagination.limit(pageSize).max();
+        List<CreditCardTransaction> transactions = creditCardTransactionRepository.findBy(specification,
+                query -> query.sortBy(sort).limit(limit).all());
+
+        return cursorPagination.page(transactions, pageSize, creditCardTransactionMapper::toResponse,
+                transaction -> order == CreditCardTransactionOrder.PURCHASE_DATE
+                        ? cursorPagination.encode(ordering, transaction.getPurchaseDate(), transaction.getId())
+                        : cursorPagination.encode(ordering, transaction.getId()));
     }
 
     /**
@@ -58,66 +178,361 @@ public class CreditCardTransactionService {
      * @throws ResourceNotFoundException if the transaction does not exist
      */
     public CreditCardTransactionDTO.Response findCreditCardTransactionById(Long id) {
-        CreditCardTransaction transaction = findEntityById(id);
-
-        return creditCardTransactionMapper.toResponse(transaction);
+        return creditCardTransactionRepository.findViewById(id)
+                .map(creditCardTransactionMapper::toResponse)
+                .orElseThrow(() -> new ResourceNotFoundException("Credit card transaction not found. ID = " + id));
     }
 
     /**
      * Creates and persists a new credit card transaction.
-     * Applies the financial impact to the associated credit card and registers
-     * the transaction in the corresponding statement.
+     * Registers the transaction in the corresponding statement, adds it to the statement totals
+     * and to the monthly category spending rollup, and applies the financial
+     * impact to the associated credit card with an atomic limit update, issued last so the
+     * card row is only locked until commit.
+     * <p>
+     * When no statement is given, it is resolved from the purchase date through the {@link StatementCalendar},
+     * and created if missing. An installment with installments left is expanded into all of its remaining rows.
+     * </p>
+     * <p>
+     * References are resolved with as few queries as possible: the category comes from the {@link CategoryCache}
+     * as a reference, and the credit card is read together with the requested statement, or alone when the
+     * statement is resolved from a cached cycle. With warm caches, a purchase then costs one {@code SELECT} of
+     * the card, the transaction {@code INSERT}, the statement totals {@code UPDATE}, the spending upsert, the
+     * {@code available_limit} {@code UPDATE} and the ledger {@code INSERT}.
+     * </p>
      *
      * @param dto the transaction creation request data
      * @return a {@link CreditCardTransactionDTO.Response} representing the persisted transaction
      * @throws ResourceNotFoundException if the credit card, category or statement is not found
+     * @throws BusinessException if the purchase date falls in an archived month, or the statement or installments
+     * cannot be placed or exceed the credit card's limit
      */
     @Transactional
     public CreditCardTransactionDTO.Response saveCreditCardTransaction(CreditCardTransactionDTO.Request dto) {
-        CreditCard creditCard = creditCardRepository.findById(dto.creditCard().id())
-                .orElseThrow(() -> new ResourceNotFoundException("Credit card not found. ID = " + dto.creditCard().id()));
-        Category category = categoryRepository.findById(dto.category().id())
-                .orElseThrow(() -> new ResourceNotFoundException("Category not found. ID = " + dto.category().id()));
-        CreditCardStatement creditCardStatement = creditCardStatementRepository.findById(dto.statement().id())
-                .orElseThrow(() -> new ResourceNotFoundException("Statement not found. ID = " + dto.statement().id()));
+        transactionPartitionService.requireRetained(dto.purchaseDate());
+        Category category = findCategoryReference(dto.category().id());
+        TransactionReferences references = resolveReferences(dto);
+        CreditCard creditCard = references.creditCard();
+        StatementCalendar.Cycle cycle = references.cycle();
 
         CreditCardTransaction transaction = creditCardTransactionMapper.toEntity(dto, creditCard, category);
+        transaction.assignTo(creditCardStatementRepository.getReferenceById(cycle.statementId()));
+        statementForecastService.evictUser(creditCard.getUser().getId());
 
-        transaction.applyImpact();
-        creditCardStatement.addTransaction(transaction);
+        if (transaction.hasInstallmentsToExpand()) {
+            BigDecimal limitDelta = expandInstallments(transaction, cycle.referenceMonth());
+            if (creditCardRepository.applyLimitDelta(creditCard.getId(), limitDelta) == 0) {
+                throw new BusinessException("Installments exceed the limit of credit card " + creditCard.getId() + ".");
+            }
+            creditCardCache.evict(creditCard.getId());
+            creditLimitLedgerService.record(creditCard.getId(), CreditLimitEntryType.TRANSACTION_APPLIED,
+                    limitDelta, BigDecimal.ZERO, transaction.getId());
+            return creditCardTransactionMapper.toResponse(transaction);
+        }
 
-        return creditCardTransactionMapper.toResponse(creditCardTransactionRepository.save(transaction));
+        CreditCardTransaction savedTransaction = creditCardTransactionRepository.save(transaction);
+        addToStatementTotals(savedTransaction);
+        addToCategorySpending(savedTransaction, 1);
+        applyImpact(savedTransaction);
+        creditLimitLedgerService.recordApplied(savedTransaction);
+
+        return creditCardTransactionMapper.toResponse(savedTransaction);
+    }
+
+    /**
+     * Creates and persists a batch of credit card transactions in a single unit of work.
+     * <p>
+     * Referenced credit cards, categories and statements are resolved with one query per
+     * entity type, omitted statements through the {@link StatementCalendar}, the financial impact
+     * is applied once per credit card as a net delta, and the rows are inserted using JDBC statement
+     * batching. Statement totals are updated once per statement, the spending rollup once per user,
+     * category and month, and the credit limit ledger receives one entry per credit card.
+     * </p>
+     * <p>
+     * An installment with installments left is expanded into all of its remaining rows, as on the
+     * single create path, and its full amount is added to the net delta of its card.
+     * </p>
+     * <p>
+     * Statement totals and card limits are updated in ascending identifier order, so concurrent batches
+     * lock the shared rows in the same order instead of deadlocking. Cards whose net delta is zero are
+     * neither updated nor recorded in the ledger.
+     * </p>
+     *
+     * @param dto the batch creation request data
+     * @return a list of {@link CreditCardTransactionDTO.Response} representing the persisted transactions,
+     * in request order
+     * @throws ResourceNotFoundException if any credit card, category or statement is not found, or a statement
+     * belongs to another credit card than its transaction
+     * @throws BusinessException if a purchase date falls in an archived month, the statement or installments
+     * cannot be placed, or the net impact exceeds the limits of a credit card
+     */
+    @Transactional
+    public List<CreditCardTransactionDTO.Response> saveAllCreditCardTransactions(CreditCardTransactionDTO.BatchRequest dto) {
+        List<CreditCardTransactionDTO.Request> requests = dto.transactions();
+
+        Map<Long, CreditCard> creditCards = findAllReferenced(creditCardRepository, requests,
+                request -> request.creditCard().id(), CreditCard::getId, "Credit card");
+        Map<Long, Category> categories = findAllReferenced(categoryRepository, requests,
+                request -> request.category().id(), Category::getId, "Category");
+        Map<Long, CreditCardStatement> statements = findAllReferenced(creditCardStatementRepository,
+                requests.stream().filter(request -> request.statement() != null).toList(),
+                request -> request.statement().id(), CreditCardStatement::getId, "Statement");
+
+        List<CreditCardTransaction> created = new ArrayList<>(requests.size());
+        List<CreditCardTransaction> transactions = new ArrayList<>(requests.size());
+        Map<Long, BigDecimal> limitDeltas = new TreeMap<>();
+
+        for (CreditCardTransactionDTO.Request request : requests) {
+            transactionPartitionService.requireRetained(request.purchaseDate());
+            CreditCard creditCard = creditCards.get(request.creditCard().id());
+            CreditCardTransaction transaction = creditCardTransactionMapper.toEntity(
+                    request, creditCard, categories.get(request.category().id()));
+
+            YearMonth referenceMonth;
+            if (request.statement() != null) {
+                CreditCardStatement statement = findOwnedStatement(statements, request.statement().id(), creditCard);
+                transaction.assignTo(statement);
+                referenceMonth = statement.getReferenceMonth();
+            } else {
+                StatementCalendar.Cycle cycle = statementCalendar.resolve(creditCard, request.purchaseDate());
+                transaction.assignTo(creditCardStatementRepository.getReferenceById(cycle.statementId()));
+                referenceMonth = cycle.referenceMonth();
+            }
+
+            if (transaction.hasInstallmentsToExpand()) {
+                limitDeltas.merge(creditCard.getId(), expandInstallments(transaction, referenceMonth), BigDecimal::add);
+                created.add(transaction);
+                continue;
+            }
+
+            limitDeltas.merge(creditCard.getId(), transaction.limitDelta(), BigDecimal::add);
+            transactions.add(transaction);
+            created.add(transaction);
+        }
+
+        List<CreditCardTransaction> savedTransactions = creditCardTransactionRepository.saveAll(transactions);
+
+        savedTransactions.stream()
+                .collect(Collectors.groupingBy(transaction -> transaction.getCreditCardStatement().getId(),
+                        TreeMap::new, Collectors.toList()))
+                .forEach((statementId, statementTransactions) -> creditCardStatementRepository.addToTotals(
+                        statementId,
+                        sum(statementTransactions, CreditCardTransaction::purchasedAmount),
+                        sum(statementTransactions, CreditCardTransaction::refundedAmount),
+                        statementTransactions.size()));
+
+        savedTransactions.stream()
+                .collect(Collectors.groupingBy(SpendingKey::of, TreeMap::new, Collectors.toList()))
+                .forEach((key, keyTransactions) -> categoryMonthlySpendingRepository.addToSpending(
+                        key.userId(), key.categoryId(), key.month(),
+                        sum(keyTransactions, CreditCardTransaction::spentAmount),
+                        keyTransactions.size()));
+
+        creditCards.values().stream()
+                .map(creditCard -> creditCard.getUser().getId())
+                .distinct()
+                .forEach(statementForecastService::evictUser);
+
+        limitDeltas.forEach((creditCardId, delta) -> {
+            if (delta.signum() == 0) {
+                return;
+            }
+            if (creditCardRepository.applyLimitDelta(creditCardId, delta) == 0) {
+                throw new BusinessException("Transactions exceed the limit of credit card " + creditCardId + ".");
+            }
+            creditCardCache.evict(creditCardId);
+            creditLimitLedgerService.record(creditCardId, CreditLimitEntryType.TRANSACTION_APPLIED,
+                    delta, BigDecimal.ZERO, null);
+        });
+
+        // New transactions are persisted in place, so the created list holds the saved instances.
+        return created.stream()
+                .map(creditCardTransactionMapper::toResponse)
+                .toList();
+    }
+
+    /**
+     * Expands an installment into the rows of its remaining installments, one per following month,
+     * and persists them all in one batched insert.
+     * <p>
+     * Missing statements of the following months are created with the credit card's billing cycle.
+     * Statement totals are updated with one statement for the whole group and the spending rollup with
+     * one upsert. The full amount is left for the caller to reserve against the available limit.
+     * </p>
+     *
+     * @param first the installment being created, already added to its statement
+     * @param firstMonth the reference month of the first installment's statement
+     * @return the limit delta of the whole group
+     * @throws BusinessException if a statement cannot be created
+     */
+    private BigDecimal expandInstallments(CreditCardTransaction first, YearMonth firstMonth) {
+        CreditCard creditCard = first.getCreditCard();
+        int remaining = first.getTotalInstallments() - first.getCurrentInstallment();
+
+        List<YearMonth> months = new ArrayList<>(remaining);
+        for (int offset = 1; offset <= remaining; offset++) {
+            months.add(firstMonth.plusMonths(offset));
+        }
+        Map<YearMonth, CreditCardStatement> statements = findOrCreateStatements(creditCard, months);
+
+        first.startInstallmentGroup();
+        List<CreditCardTransaction> installments = new ArrayList<>(remaining + 1);
+        installments.add(first);
+        for (int offset = 1; offset <= remaining; offset++) {
+            installments.add(first.nextInstallment(offset, statements.get(months.get(offset - 1))));
+        }
+
+        creditCardTransactionRepository.saveAllAndFlush(installments);
+
+        long rows = installments.size();
+        BigDecimal limitDelta = first.limitDelta().multiply(BigDecimal.valueOf(rows));
+
+        creditCardStatementRepository.addToTotalsOfInstallmentGroup(first.getInstallmentGroupId(),
+                first.purchasedAmount(), first.refundedAmount(), 1);
+        addToCategorySpending(first, rows);
+
+        return limitDelta;
+    }
+
+    /**
+     * Loads the statements of a credit card for the given months, creating the missing ones.
+     *
+     * @param creditCard the credit card
+     * @param months the reference months
+     * @return the statements indexed by reference month
+     * @throws BusinessException if the credit card's billing cycle cannot be represented by a statement
+     */
+    private Map<YearMonth, CreditCardStatement> findOrCreateStatements(CreditCard creditCard, List<YearMonth> months) {
+        Map<YearMonth, CreditCardStatement> statements = creditCardStatementRepository
+                .findByCreditCardIdAndReferenceMonths(creditCard.getId(), months)
+                .stream()
+                .collect(Collectors.toMap(CreditCardStatement::getReferenceMonth, Function.identity()));
+
+        List<CreditCardStatement> missing = months.stream()
+                .filter(month -> !statements.containsKey(month))
+                .map(month -> CreditCardStatement.forBillingCycle(creditCard, month)
+                        .orElseThrow(() -> new BusinessException(
+                                "Installments cannot be placed: the due day of credit card " + creditCard.getId()
+                                        + " is not after its closing day.")))
+                .toList();
+
+        creditCardStatementRepository.saveAll(missing)
+                .forEach(statement -> statements.put(statement.getReferenceMonth(), statement));
+
+        return statements;
     }
 
     /**
      * Updates an existing credit card transaction.
-     * Reverts the previous financial impact, applies the updated data,
-     * and recalculates the impact on the associated credit card.
+     * Reverts the previous financial impact, statement totals and category spending, applies the
+     * updated data, and recalculates them, so a category or purchase date change moves the amount
+     * to the new rollup row. Changes to a row of an installment group apply to the whole group.
      *
      * @param id the identifier of the transaction to be updated
      * @param dto the DTO containing updated transaction data
      * @return a {@link CreditCardTransactionDTO.Response} representing the updated transaction
      * @throws ResourceNotFoundException if the transaction or category is not found
+     * @throws BusinessException if the new purchase date falls in an archived month, the installments of a
+     * group would change or the update exceeds the limit
      */
     @Transactional
     public CreditCardTransactionDTO.Response updateCreditCardTransaction(Long id, CreditCardTransactionDTO.Update dto) {
+        dto.purchaseDate().ifPresent(transactionPartitionService::requireRetained);
         CreditCardTransaction existingTransaction = findEntityById(id);
+        statementForecastService.evictUser(existingTransaction.getCreditCard().getUser().getId());
 
         Optional<Category> category = dto.category()
-                .map(ref -> categoryRepository.findById(ref.id())
-                        .orElseThrow(() -> new ResourceNotFoundException("Category not found. ID = " + ref.id())));
+                .map(ref -> findCategoryReference(ref.id()));
+
+        if (existingTransaction.getInstallmentGroupId() != null) {
+            return creditCardTransactionMapper.toResponse(updateInstallmentGroup(existingTransaction, dto, category));
+        }
+
+        removeFromStatementTotals(existingTransaction);
+        removeFromCategorySpending(existingTransaction, 1);
+        revertImpact(existingTransaction);
+        creditLimitLedgerService.recordReverted(existingTransaction);
 
-        existingTransaction.revertImpact();
         creditCardTransactionMapper.updateEntity(existingTransaction, dto, category);
-        existingTransaction.applyImpact();
+
+        addToStatementTotals(existingTransaction);
+        addToCategorySpending(existingTransaction, 1);
+        applyImpact(existingTransaction);
+        creditLimitLedgerService.recordApplied(existingTransaction);
 
         return creditCardTransactionMapper.toResponse(creditCardTransactionRepository.save(existingTransaction));
     }
 
+    /**
+     * Updates every row of an installment group through one of its rows. The group's statement totals,
+     * category spending and limit reservation are reverted and reapplied as a whole, and the new data
+     * is copied to the other rows with one statement instead of loading them.
+     *
+     * @param transaction the row being updated
+     * @param dto the DTO containing updated transaction data
+     * @param category the new category, or empty if not being updated
+     * @return the updated row
+     * @throws BusinessException if the update changes the installments or exceeds the credit card's limit
+     */
+    private CreditCardTransaction updateInstallmentGroup(CreditCardTransaction transaction,
+                                                         CreditCardTransactionDTO.Update dto,
+                                                         Optional<Category> category) {
+        if (dto.isInstallment().filter(isInstallment -> !isInstallment).isPresent()
+                || dto.currentInstallment().filter(current -> !current.equals(transaction.getCurrentInstallment())).isPresent()
+                || dto.totalInstallments().filter(total -> !total.equals(transaction.getTotalInstallments())).isPresent()) {
+            throw new BusinessException("The installments of an installment purchase cannot be changed. "
+                    + "Delete the purchase and create it again.");
+        }
+
+        long rows = creditCardTransactionRepository.countByInstallmentGroupId(transaction.getInstallmentGroupId());
+        revertInstallmentGroup(transaction, rows);
+
+        creditCardTransactionMapper.updateEntity(transaction, dto, category);
+        creditCardTransactionRepository.saveAndFlush(transaction);
+        creditCardTransactionRepository.copyToInstallmentGroup(transaction.getId());
+
+        BigDecimal limitDelta = transaction.limitDelta().multiply(BigDecimal.valueOf(rows));
+        creditCardStatementRepository.addToTotalsOfInstallmentGroup(transaction.getInstallmentGroupId(),
+                transaction.purchasedAmount(), transaction.refundedAmount(), 1);
+        addToCategorySpending(transaction, rows);
+        if (creditCardRepository.applyLimitDelta(transaction.getCreditCard().getId(), limitDelta) == 0) {
+            throw new BusinessException("Installments exceed the limit of credit card "
+                    + transaction.getCreditCard().getId() + ".");
+        }
+        creditCardCache.evict(transaction.getCreditCard().getId());
+        creditLimitLedgerService.record(transaction.getCreditCard().getId(), CreditLimitEntryType.TRANSACTION_APPLIED,
+                limitDelta, BigDecimal.ZERO, transaction.getId());
+
+        return transaction;
+    }
+
+    /**
+     * Reverts the statement totals, category spending and limit reservation of a whole installment group,
+     * using the current data of one of its rows.
+     *
+     * @param transaction a row of the group
+     * @param rows the number of rows in the group
+     * @throws BusinessException if the reservation exceeds the credit card's used credit
+     */
+    private void revertInstallmentGroup(CreditCardTransaction transaction, long rows) {
+        BigDecimal limitDelta = transaction.limitDelta().multiply(BigDecimal.valueOf(rows)).negate();
+
+        creditCardStatementRepository.addToTotalsOfInstallmentGroup(transaction.getInstallmentGroupId(),
+                transaction.purchasedAmount().negate(), transaction.refundedAmount().negate(), -1);
+        removeFromCategorySpending(transaction, rows);
+        if (creditCardRepository.applyLimitDelta(transaction.getCreditCard().getId(), limitDelta) == 0) {
+            throw new BusinessException("Amount exceeds used credit.");
+        }
+        creditCardCache.evict(transaction.getCreditCard().getId());
+        creditLimitLedgerService.record(transaction.getCreditCard().getId(), CreditLimitEntryType.TRANSACTION_REVERTED,
+                limitDelta, BigDecimal.ZERO, transaction.getId());
+    }
+
     /**
      * Deletes a credit card transaction.
      * Reverts the financial impact on the associated credit card and removes
-     * the transaction from its statement before deletion.
+     * the transaction from its statement, its totals and the category spending rollup before deletion.
+     * Deleting a row of an installment group deletes the whole group with one statement.
      *
      * @param id the identifier of the transaction to be deleted
      * @throws ResourceNotFoundException if the transaction does not exist
@@ -125,8 +540,19 @@ public class CreditCardTransactionService {
     @Transactional
     public void deleteCreditCardTransaction(Long id) {
         CreditCardTransaction transaction = findEntityById(id);
+        statementForecastService.evictUser(transaction.getCreditCard().getUser().getId());
+
+        if (transaction.getInstallmentGroupId() != null) {
+            revertInstallmentGroup(transaction,
+                    creditCardTransactionRepository.countByInstallmentGroupId(transaction.getInstallmentGroupId()));
+            creditCardTransactionRepository.deleteByInstallmentGroupId(transaction.getInstallmentGroupId());
+            return;
+        }
 
-        transaction.revertImpact();
+        removeFromStatementTotals(transaction);
+        removeFromCategorySpending(transaction, 1);
+        revertImpact(transaction);
+        creditLimitLedgerService.recordReverted(transaction);
         transaction.getCreditCardStatement().removeTransaction(transaction);
 
         creditCardTransactionRepository.delete(transaction);
@@ -143,4 +569,221 @@ public class CreditCardTransactionService {
         return creditCardTransactionRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Credit card transaction not found. ID = " + id));
     }
+
+    /**
+     * Applies the financial impact of a transaction to its credit card with an atomic conditional
+     * update: purchases debit the available limit, refunds credit it back.
+     *
+     * @param transaction the transaction being applied
+     * @throws BusinessException if the available limit or used credit does not cover the amount
+     */
+    private void applyImpact(CreditCardTransaction transaction) {
+        changeAvailableLimit(transaction.getCreditCard().getId(), transaction.limitDelta());
+    }
+
+    /**
+     * Reverts the financial impact of a transaction on its credit card, using its current type and amount.
+     *
+     * @param transaction the transaction being reverted
+     * @throws BusinessException if the available limit or used credit does not cover the amount
+     */
+    private void revertImpact(CreditCardTransaction transaction) {
+        changeAvailableLimit(transaction.getCreditCard().getId(), transaction.limitDelta().negate());
+    }
+
+    private void changeAvailableLimit(Long creditCardId, BigDecimal delta) {
+        if (delta.signum() < 0) {
+            if (creditCardRepository.debitAvailableLimit(creditCardId, delta.negate()) == 0) {
+                throw new BusinessException("Amount must not be greater than available limit.");
+            }
+        } else if (creditCardRepository.creditAvailableLimit(creditCardId, delta) == 0) {
+            throw new BusinessException("Amount exceeds used credit.");
+        }
+        creditCardCache.evict(creditCardId);
+    }
+
+    /**
+     * Adds a transaction to the totals of its statement with an atomic update.
+     *
+     * @param transaction the transaction being added
+     */
+    private void addToStatementTotals(CreditCardTransaction transaction) {
+        creditCardStatementRepository.addToTotals(transaction.getCreditCardStatement().getId(),
+                transaction.purchasedAmount(), transaction.refundedAmount(), 1);
+    }
+
+    /**
+     * Removes a transaction from the totals of its statement, using its current type and amount.
+     *
+     * @param transaction the transaction being removed
+     */
+    private void removeFromStatementTotals(CreditCardTransaction transaction) {
+        creditCardStatementRepository.addToTotals(transaction.getCreditCardStatement().getId(),
+                transaction.purchasedAmount().negate(), transaction.refundedAmount().negate(), -1);
+    }
+
+    /**
+     * Adds a transaction to the monthly spending rollup of its user and category as many times as
+     * its installment group has rows. All rows of a group share the category, purchase date, type
+     * and amount, so they add to the same rollup row.
+     *
+     * @param transaction the transaction being added
+     * @param rows the number of rows to add
+     */
+    private void addToCategorySpending(CreditCardTransaction transaction, long rows) {
+        categoryMonthlySpendingRepository.addToSpending(transaction.getCreditCard().getUser().getId(),
+                transaction.getCategory().getId(), transaction.spendingMonth(),
+                transaction.spentAmount().multiply(BigDecimal.valueOf(rows)), rows);
+    }
+
+    /**
+     * Removes a transaction from the monthly spending rollup, using its current category,
+     * purchase date, type and amount.
+     *
+     * @param transaction the transaction being removed
+     * @param rows the number of rows to remove
+     */
+    private void removeFromCategorySpending(CreditCardTransaction transaction, long rows) {
+        categoryMonthlySpendingRepository.addToSpending(transaction.getCreditCard().getUser().getId(),
+                transaction.getCategory().getId(), transaction.spendingMonth(),
+                transaction.spentAmount().multiply(BigDecimal.valueOf(rows)).negate(), -rows);
+    }
+
+    /**
+     * Resolves the credit card and billing cycle of a new transaction: the requested statement when given,
+     * read with the card in one query, otherwise the one its purchase date falls in.
+     *
+     * @param dto the transaction creation request data
+     * @return the credit card and {@link StatementCalendar.Cycle} of the transaction
+     * @throws ResourceNotFoundException if the credit card does not exist, or the requested statement
+     * does not exist or belongs to another credit card
+     * @throws BusinessException if the statement is missing and cannot be created
+     */
+    private TransactionReferences resolveReferences(CreditCardTransactionDTO.Request dto) {
+        Long creditCardId = dto.creditCard().id();
+
+        if (dto.statement() == null) {
+            CreditCard creditCard = creditCardRepository.findById(creditCardId)
+                    .orElseThrow(() -> new ResourceNotFoundException("Credit card not found. ID = " + creditCardId));
+            return new TransactionReferences(creditCard, statementCalendar.resolve(creditCard, dto.purchaseDate()));
+        }
+
+        Long statementId = dto.statement().id();
+        CreditCardWithStatement found = creditCardRepository.findWithStatement(creditCardId, statementId)
+                .orElseThrow(() -> new ResourceNotFoundException("Credit card not found. ID = " + creditCardId));
+        if (found.getStatement() == null) {
+            throw new ResourceNotFoundException("Statement not found. ID = " + statementId);
+        }
+
+        return new TransactionReferences(found.getCreditCard(),
+                new StatementCalendar.Cycle(found.getStatement().getReferenceMonth(), statementId));
+    }
+
+    /**
+     * Picks a statement loaded for a batch, rejecting it if it belongs to another credit card than the
+     * transaction, as the single create path does.
+     *
+     * @param statements the statements referenced by the batch, indexed by identifier
+     * @param statementId the identifier of the requested statement
+     * @param creditCard the credit card of the transaction
+     * @return the statement
+     * @throws ResourceNotFoundException if the statement belongs to another credit card
+     */
+    private static CreditCardStatement findOwnedStatement(Map<Long, CreditCardStatement> statements,
+                                                          Long statementId,
+                                                          CreditCard creditCard) {
+        CreditCardStatement statement = statements.get(statementId);
+        if (!statement.getCreditCard().getId().equals(creditCard.getId())) {
+            throw new ResourceNotFoundException("Statement not found. ID = " + statementId);
+        }
+        return statement;
+    }
+
+    /**
+     * Resolves a category through the {@link CategoryCache} and returns a reference to it,
+     * so associating a transaction with a category issues no query.
+     *
+     * @param id the category identifier
+     * @return a reference to the Category entity
+     * @throws ResourceNotFoundException if the category does not exist
+     */
+    private Category findCategoryReference(Long id) {
+        return categoryCache.findById(id)
+                .map(category -> categoryRepository.getReferenceById(category.id()))
+                .orElseThrow(() -> new ResourceNotFoundException("Category not found. ID = " + id));
+    }
+
+    /**
+     * Sums an amount over a list of transactions.
+     *
+     * @param transactions the transactions to sum
+     * @param amount extracts the amount of a transaction
+     * @return the total amount
+     */
+    private static BigDecimal sum(List<CreditCardTransaction> transactions,
+                                  Function<CreditCardTransaction, BigDecimal> amount) {
+        return transactions.stream()
+                .map(amount)
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+    }
+
+    /**
+     * Credit card and billing cycle a new transaction is created in.
+     */
+    private record TransactionReferences(CreditCard creditCard, StatementCalendar.Cycle cycle) {}
+
+    /**
+     * Key of a monthly category spending rollup row. Keys are ordered so concurrent batches
+     * upsert shared rows in the same order.
+     */
+    private record SpendingKey(Long userId, Long categoryId, LocalDate month) implements Comparable<SpendingKey> {
+
+        private static final Comparator<SpendingKey> ORDER = Comparator.comparing(SpendingKey::userId)
+                .thenComparing(SpendingKey::month)
+                .thenComparing(SpendingKey::categoryId);
+
+        static SpendingKey of(CreditCardTransaction transaction) {
+            return new SpendingKey(transaction.getCreditCard().getUser().getId(),
+                    transaction.getCategory().getId(), transaction.spendingMonth());
+        }
+
+        @Override
+        public int compareTo(SpendingKey other) {
+            return ORDER.compare(this, other);
+        }
+    }
+
+    /**
+     * Loads every entity referenced by the given requests with a single IN query.
+     *
+     * @param repository the repository of the referenced entity
+     * @param requests the transaction creation requests
+     * @param referenceId extracts the referenced identifier from a request
+     * @param entityId extracts the identifier from a loaded entity
+     * @param resourceName the resource name used in the not found message
+     * @return the referenced entities indexed by identifier
+     * @throws ResourceNotFoundException if any referenced entity does not exist
+     */
+    private <T> Map<Long, T> findAllReferenced(JpaRepository<T, Long> repository,
+                                               List<CreditCardTransactionDTO.Request> requests,
+                                               Function<CreditCardTransactionDTO.Request, Long> referenceId,
+                                               Function<T, Long> entityId,
+                                               String resourceName) {
+        Set<Long> ids = requests.stream()
+                .map(referenceId)
+                .collect(Collectors.toSet());
+
+        Map<Long, T> entities = repository.findAllById(ids)
+                .stream()
+                .collect(Collectors.toMap(entityId, Function.identity()));
+
+        ids.stream()
+                .filter(id -> !entities.containsKey(id))
+                .findFirst()
+                .ifPresent(id -> {
+                    throw new ResourceNotFoundException(resourceName + " not found. ID = " + id);
+                });
+
+        return entities;
+    }
 }
@@ -0,0 +1,170 @@
+package com.ems.finance_tracker.service;
+
+import com.ems.finance_tracker.dto.CreditCardDTO;
+import com.ems.finance_tracker.exception.ResourceNotFoundException;
+import com.ems.finance_tracker.model.entity.CreditCard;
+import com.ems.finance_tracker.model.entity.CreditCardTransaction;
+import com.ems.finance_tracker.model.entity.CreditLimitEntry;
+import com.ems.finance_tracker.model.entity.CreditLimitSnapshot;
+import com.ems.finance_tracker.model.enums.CreditLimitEntryType;
+import com.ems.finance_tracker.repository.CreditCardRepository;
+import com.ems.finance_tracker.repository.CreditLimitEntryRepository;
+import com.ems.finance_tracker.repository.CreditLimitSnapshotRepository;
+import com.ems.finance_tracker.repository.projection.CreditLimitTotals;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+
+/**
+ * Service responsible for the append-only credit limit ledger.
+ * <p>
+ * Every change of a credit card's limits is recorded as an immutable {@link CreditLimitEntry}
+ * in the caller's transaction. A scheduled job compacts entries into {@link CreditLimitSnapshot}s,
+ * so the limits at any point in time are answered from one indexed snapshot lookup plus a replay
+ * bounded by the compaction interval.
+ * </p>
+ * <p>
+ * Compaction only covers entries older than {@code credit-limit-ledger.compaction-lag}, which must
+ * exceed the longest write transaction; otherwise an entry committed late could be skipped.
+ * </p>
+ *
+ * @author Evandro Machado
+ */
+@Service
+@RequiredArgsConstructor
+public class CreditLimitLedgerService {
+
+    private static final long COMPACTION_LOCK_KEY = 4_001L;
+
+    private final CreditLimitEntryRepository creditLimitEntryRepository;
+    private final CreditLimitSnapshotRepository creditLimitSnapshotRepository;
+    private final CreditCardRepository creditCardRepository;
+
+    @Value("${credit-limit-ledger.compaction-lag:PT1M}")
+    private Duration compactionLag;
+
+    /**
+     * Records the opening limits of a newly created credit card.
+     *
+     * @param creditCard the persisted credit card
+     */
+    public void recordOpening(CreditCard creditCard) {
+        record(creditCard.getId(), CreditLimitEntryType.OPENING,
+                creditCard.getAvailableLimit(), creditCard.getCreditLimit(), null);
+    }
+
+    /**
+     * Records the financial impact of a transaction being applied.
+     *
+     * @param transaction the applied transaction
+     */
+    public void recordApplied(CreditCardTransaction transaction) {
+        record(transaction.getCreditCard().getId(), CreditLimitEntryType.TRANSACTION_APPLIED,
+                transaction.limitDelta(), BigDecimal.ZERO, transaction.getId());
+    }
+
+    /**
+     * Records the financial impact of a transaction being reverted.
+     *
+     * @param transaction the reverted transaction, still holding its previous type and amount
+     */
+    public void recordReverted(CreditCardTransaction transaction) {
+        record(transaction.getCreditCard().getId(), CreditLimitEntryType.TRANSACTION_REVERTED,
+                transaction.limitDelta().negate(), BigDecimal.ZERO, transaction.getId());
+    }
+
+    /**
+     * Appends one immutable entry to the ledger.
+     *
+     * @param creditCardId the credit card identifier
+     * @param type the origin of the movement
+     * @param availableLimitDelta the signed change of the available limit
+     * @param creditLimitDelta the signed change of the credit limit
+     * @param transactionId the related transaction, or {@code null}
+     */
+    public void record(Long creditCardId,
+                       CreditLimitEntryType type,
+                       BigDecimal availableLimitDelta,
+                       BigDecimal creditLimitDelta,
+                       Long transactionId) {
+        creditLimitEntryRepository.save(
+                CreditLimitEntry.of(creditCardId, type, availableLimitDelta, creditLimitDelta, transactionId));
+    }
+
+    /**
+     * Retrieves the credit and available limits of a credit card at a point in time.
+     *
+     * @param creditCardId the credit card identifier
+     * @param at the point in time
+     * @return a {@link CreditCardDTO.LimitAtResponse} with the limits at {@code at}
+     * @throws ResourceNotFoundException if the credit card does not exist, or neither a snapshot nor its
+     *         opening entry precedes {@code at}
+     */
+    @Transactional(readOnly = true)
+    public CreditCardDTO.LimitAtResponse findLimitAt(Long creditCardId, Instant at) {
+        if (!creditCardRepository.existsById(creditCardId)) {
+            throw new ResourceNotFoundException("Credit Card not found. ID = " + creditCardId);
+        }
+
+        Optional<CreditLimitSnapshot> snapshot = creditLimitSnapshotRepository
+                .findFirstByCreditCardIdAndAsOfLessThanEqualOrderByAsOfDesc(creditCardId, at);
+
+        // Without a snapshot the replay must start from the opening entry, which cards created
+        // before the ledger only receive once the backfill has run.
+        if (snapshot.isEmpty() && !creditLimitEntryRepository
+                .existsByCreditCardIdAndTypeAndCreatedAtLessThanEqual(creditCardId, CreditLimitEntryType.OPENING, at)) {
+            throw new ResourceNotFoundException(
+                    String.format("No limit history for credit card %d at %s.", creditCardId, at));
+        }
+
+        CreditLimitTotals replayed = creditLimitEntryRepository.sumEntriesAfter(
+                creditCardId, snapshot.map(CreditLimitSnapshot::getLastEntryId).orElse(0L), at);
+
+        return new CreditCardDTO.LimitAtResponse(
+                creditCardId,
+                at,
+                snapshot.map(CreditLimitSnapshot::getCreditLimit).orElse(BigDecimal.ZERO)
+                        .add(replayed.getCreditLimit()),
+                snapshot.map(CreditLimitSnapshot::getAvailableLimit).orElse(BigDecimal.ZERO)
+                        .add(replayed.getAvailableLimit())
+        );
+    }
+
+    /**
+     * Backfills the opening entries of pre-existing cards on startup, so their history is
+     * available before the first compaction. Skipped when another node holds the compaction lock,
+     * since the compaction backfills first.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void backfillOpeningEntries() {
+        if (creditLimitSnapshotRepository.tryAdvisoryLock(COMPACTION_LOCK_KEY)) {
+            creditLimitEntryRepository.insertMissingOpeningEntries();
+        }
+    }
+
+    /**
+     * Compacts the ledger into snapshots. Runs on a single node at a time, guarded by
+     * a PostgreSQL advisory lock, and backfills opening entries of pre-existing cards first.
+     */
+    @Scheduled(cron = "${credit-limit-ledger.compaction-cron:0 */15 * * * *}")
+    @Transactional
+    public void compact() {
+        if (!creditLimitSnapshotRepository.tryAdvisoryLock(COMPACTION_LOCK_KEY)) {
+            return;
+        }
+
+        creditLimitEntryRepository.insertMissingOpeningEntries();
+        creditLimitSnapshotRepository.compactEntriesBefore(Instant.now().minus(compactionLag));
+    }
+
+}
@@ -0,0 +1,148 @@
+package com.ems.finance_tracker.service;
+
+import com.ems.finance_tracker.dto.PageDTO;
+import com.ems.finance_tracker.exception.BusinessException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Support for keyset (cursor) pagination of list endpoints.
+ * <p>
+ * A page is read with {@code WHERE key > :lastKey ORDER BY key LIMIT size + 1}, so its cost does not
+ * depend on how deep the client has scrolled. The sort keys of the last row are returned as an opaque
+ * Base64 cursor, prefixed with the name of the ordering so that a cursor cannot be replayed against
+ * a different one.
+ * </p>
+ *
+ * @author Evandro Machado
+ */
+@Component
+public class CursorPagination {
+
+    private static final String SEPARATOR = "|";
+
+    @Value("${pagination.default-page-size:50}")
+    private int defaultPageSize;
+
+    @Value("${pagination.max-page-size:500}")
+    private int maxPageSize;
+
+    /**
+     * Resolves the requested page size against the default and the configured cap.
+     *
+     * @param size the requested page size, or {@code null} for the default
+     * @return the effective page size
+     * @throws BusinessException if the requested size is not positive
+     */
+    public int pageSize(Integer size) {
+        if (size == null) {
+            return Math.min(defaultPageSize, maxPageSize);
+        }
+        if (size < 1) {
+            throw new BusinessException("Page size must be greater than zero.");
+        }
+        return Math.min(size, maxPageSize);
+    }
+
+    /**
+     * Builds the query limit for a page, fetching one extra row to detect whether a next page exists.
+     *
+     * @param pageSize the effective page size
+     * @return the query limit
+     */
+    public Limit limit(int pageSize) {
+        return Limit.of(pageSize + 1);
+    }
+
+    /**
+     * Maps the rows of a page and computes the cursor of the next page.
+     *
+     * @param rows the rows read with {@link #limit(int)}
+     * @param pageSize the effective page size
+     * @param mapper maps a row to its response
+     * @param cursorOf encodes the sort keys of a row
+     * @return a {@link PageDTO.Response} with at most {@code pageSize} elements
+     */
+    public <E, R> PageDTO.Response<R> page(List<E> rows, int pageSize, Function<E, R> mapper, Function<E, String> cursorOf) {
+        boolean hasNext = rows.size() > pageSize;
+        List<E> content = hasNext ? rows.subList(0, pageSize) : rows;
+
+        return new PageDTO.Response<>(
+                content.stream().map(mapper).toList(),
+                hasNext ? cursorOf.apply(content.getLast()) : null
+        );
+    }
+
+    /**
+     * Encodes the sort keys of a row as an opaque cursor.
+     *
+     * @param ordering the name of the ordering the keys belong to
+     * @param keys the sort keys of the last row of a page
+     * @return the cursor
+     */
+    public String encode(String ordering, Object... keys) {
+        StringBuilder value = new StringBuilder(ordering);
+        for (Object key : keys) {
+            value.append(SEPARATOR).append(key);
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decodes a cursor produced by {@link #encode(String, Object...)}.
+     *
+     * @param cursor the cursor sent by the client
+     * @param ordering the name of the ordering being read
+     * @param keyCount the number of sort keys of the ordering
+     * @return the sort keys, as strings
+     * @throws BusinessException if the cursor is malformed or belongs to another ordering
+     */
+    public List<String> decode(String cursor, String ordering, int keyCount) {
+        try {
+            String value = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            List<String> parts = List.of(value.split("\\" + SEPARATOR, -1));
+
+            if (parts.size() == keyCount + 1 && parts.getFirst().equals(ordering)) {
+                return parts.subList(1, parts.size());
+            }
+        } catch (IllegalArgumentException ignored) {
+            // Reported below as an invalid cursor.
+        }
+        throw new BusinessException("Invalid page cursor.");
+    }
+
+    /**
+     * Decodes the identifier of a cursor over the {@code id} ordering.
+     *
+     * @param cursor the cursor sent by the client, or {@code null} for the first page
+     * @return the last identifier already read, or {@code 0} for the first page
+     * @throws BusinessException if the cursor is invalid
+     */
+    public long decodeId(String cursor) {
+        if (cursor == null) {
+            return 0L;
+        }
+        try {
+            return Long.parseLong(decode(cursor, "id", 1).getFirst());
+        } catch (NumberFormatException e) {
+            throw new BusinessException("Invalid page cursor.");
+        }
+    }
+
+    /**
+     * Encodes the cursor of a row over the {@code id} ordering.
+     *
+     * @param id the identifier of the last row of a page
+     * @return the cursor
+     */
+    public String encodeId(Long id) {
+        return encode("id", id);
+    }
+
+}
@@ -0,0 +1,181 @@
+package com.ems.finance_tracker.service;
+
+import com.ems.finance_tracker.exception.BusinessException;
+import com.ems.finance_tracker.model.entity.IdempotencyKey;
+import com.ems.finance_tracker.repository.IdempotencyKeyRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * Service responsible for making write requests idempotent through client-supplied keys.
+ * <p>
+ * The first request with a key runs its action and stores the response in the same transaction,
+ * guarded by the unique constraint on the key. Retries are answered with the stored response
+ * without running the action again: recent keys are served from a bounded in-memory LRU cache,
+ * older ones from the {@code idempotency_keys} table.
+ * </p>
+ *
+ * @author Evandro Machado
+ */
+@Service
+public class IdempotencyService {
+
+    private final IdempotencyKeyRepository idempotencyKeyRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final Duration retention;
+
+    private final ReentrantLock cacheLock = new ReentrantLock();
+    private final LinkedHashMap<String, StoredResponse> cache;
+
+    /**
+     * Response of a completed request, as kept in the LRU cache.
+     *
+     * @param requestHash the hash of the original request
+     * @param response the deserialized or original response
+     */
+    private record StoredResponse(String requestHash, Object response) {}
+
+    public IdempotencyService(IdempotencyKeyRepository idempotencyKeyRepository,
+                              TransactionTemplate transactionTemplate,
+                              ObjectMapper objectMapper,
+                              @Value("${idempotency.cache-size:10000}") int cacheSize,
+                              @Value("${idempotency.retention:P1D}") Duration retention) {
+        this.idempotencyKeyRepository = idempotencyKeyRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.objectMapper = objectMapper;
+        this.retention = retention;
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, StoredResponse> eldest) {
+                return size() > cacheSize;
+            }
+        };
+    }
+
+    /**
+     * Runs an action at most once per idempotency key.
+     *
+     * @param key the idempotency key sent by the client
+     * @param request the request body, used to detect a key reused for a different request
+     * @param responseType the response type, used to read a stored response
+     * @param action the write to be guarded, joined to the transaction storing the key
+     * @return the response of the action, or the stored response of the request that first used the key
+     * @throws BusinessException if the key is too long or was already used for a different request
+     */
+    public <T> T execute(String key, Object request, Class<T> responseType, Supplier<T> action) {
+        if (key.isBlank() || key.length() > IdempotencyKey.MAX_KEY_LENGTH) {
+            throw new BusinessException("Idempotency key must have between 1 and "
+                    + IdempotencyKey.MAX_KEY_LENGTH + " characters.");
+        }
+
+        String requestHash = hash(request);
+
+        StoredResponse stored = cached(key)
+                .or(() -> idempotencyKeyRepository.findByKey(key).map(found -> remember(key, found, responseType)))
+                .orElse(null);
+        if (stored != null) {
+            return replay(key, stored, requestHash, responseType);
+        }
+
+        try {
+            T response = transactionTemplate.execute(status -> {
+                IdempotencyKey idempotencyKey = idempotencyKeyRepository.saveAndFlush(IdempotencyKey.of(key, requestHash));
+                T result = action.get();
+                idempotencyKey.complete(toJson(result));
+                return result;
+            });
+
+            put(key, new StoredResponse(requestHash, response));
+            return response;
+        } catch (DataIntegrityViolationException e) {
+            // A concurrent retry with the same key committed first.
+            IdempotencyKey winner = idempotencyKeyRepository.findByKey(key).orElseThrow(() -> e);
+            return replay(key, remember(key, winner, responseType), requestHash, responseType);
+        }
+    }
+
+    /**
+     * Deletes the keys older than the retention period. Cached keys expire by eviction.
+     */
+    @Scheduled(cron = "${idempotency.purge-cron:0 0 * * * *}")
+    @Transactional
+    public void purgeExpiredKeys() {
+        idempotencyKeyRepository.deleteByCreatedAtBefore(Instant.now().minus(retention));
+    }
+
+    private <T> T replay(String key, StoredResponse stored, String requestHash, Class<T> responseType) {
+        if (!stored.requestHash().equals(requestHash)) {
+            throw new BusinessException("Idempotency key " + key + " was already used for a different request.");
+        }
+        return responseType.cast(stored.response());
+    }
+
+    private StoredResponse remember(String key, IdempotencyKey idempotencyKey, Class<?> responseType) {
+        StoredResponse stored = new StoredResponse(idempotencyKey.getRequestHash(),
+                fromJson(idempotencyKey.getResponse(), responseType));
+        put(key, stored);
+        return stored;
+    }
+
+    private Optional<StoredResponse> cached(String key) {
+        cacheLock.lock();
+        try {
+            return Optional.ofNullable(cache.get(key));
+        } finally {
+            cacheLock.unlock();
+        }
+    }
+
+    private void put(String key, StoredResponse stored) {
+        cacheLock.lock();
+        try {
+            cache.put(key, stored);
+        } finally {
+            cacheLock.unlock();
+        }
+    }
+
+    private String hash(Object request) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(objectMapper.writeValueAsBytes(request));
+            return HexFormat.of().formatHex(digest);
+        } catch (JsonProcessingException | NoSuchAlgorithmException e) {
+            throw new IllegalStateException("Could not hash request for idempotency check.", e);
+        }
+    }
+
+    private String toJson(Object response) {
+        try {
+            return objectMapper.writeValueAsString(response);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize response for idempotency key.", e);
+        }
+    }
+
+    private Object fromJson(String response, Class<?> responseType) {
+        try {
+            return objectMapper.readValue(response, responseType);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not read stored response for idempotency key.", e);
+        }
+    }
+
+}
@@ -0,0 +1,148 @@
+package com.ems.finance_tracker.service;
+
+import com.ems.finance_tracker.exception.ServiceOverloadedException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Service responsible for hashing passwords off the request threads.
+ * <p>
+ * BCrypt is deliberately CPU-bound, so hashing runs on a dedicated pool with a fixed number of threads
+ * and a bounded admission queue. When the queue is full the request is rejected immediately with
+ * a {@link ServiceOverloadedException} instead of occupying a servlet thread, so a registration burst
+ * cannot starve the other endpoints of CPU. Hashing latency is recorded in the
+ * {@code password.hashing} timer and the pool is monitored as {@code password-hashing}.
+ * </p>
+ *
+ * @author Evandro Machado
+ */
+@Slf4j
+@Service
+public class PasswordHashingService {
+
+    private static final String CALIBRATION_SAMPLE = "calibration-sample-password";
+    private static final int CALIBRATION_ROUNDS = 3;
+
+    private final PasswordEncoder passwordEncoder;
+    private final ExecutorService executor;
+    private final Timer hashingTimer;
+    private final int strength;
+    private final Duration targetDuration;
+    private final Duration waitTimeout;
+    private final Duration retryAfter;
+
+    public PasswordHashingService(PasswordEncoder passwordEncoder,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${password-hashing.threads:2}") int threads,
+                                  @Value("${password-hashing.queue-capacity:100}") int queueCapacity,
+                                  @Value("${password-hashing.bcrypt-strength:10}") int strength,
+                                  @Value("${password-hashing.target-duration:PT0.25S}") Duration targetDuration,
+                                  @Value("${password-hashing.wait-timeout:PT10S}") Duration waitTimeout,
+                                  @Value("${password-hashing.retry-after:PT5S}") Duration retryAfter) {
+        this.passwordEncoder = passwordEncoder;
+        this.strength = strength;
+        this.targetDuration = targetDuration;
+        this.waitTimeout = waitTimeout;
+        this.retryAfter = retryAfter;
+        this.hashingTimer = Timer.builder("password.hashing")
+                .description("Time spent hashing a password, excluding queueing")
+                .register(meterRegistry);
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        ThreadPoolExecutor pool = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                task -> {
+                    Thread thread = new Thread(task, "password-hashing-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        this.executor = ExecutorServiceMetrics.monitor(meterRegistry, pool, "password-hashing");
+    }
+
+    /**
+     * Hashes a raw password on the hashing pool.
+     *
+     * @param rawPassword the password to hash
+     * @return the encoded password
+     * @throws ServiceOverloadedException if the admission queue is full or the hash is not ready in time
+     */
+    public String hash(String rawPassword) {
+        Future<String> hash;
+        try {
+            hash = executor.submit(() -> hashingTimer.record(() -> passwordEncoder.encode(rawPassword)));
+        } catch (RejectedExecutionException e) {
+            throw new ServiceOverloadedException("Too many registrations in progress. Please retry later.", retryAfter);
+        }
+
+        try {
+            return hash.get(waitTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            hash.cancel(true);
+            throw new ServiceOverloadedException("Too many registrations in progress. Please retry later.", retryAfter);
+        } catch (InterruptedException e) {
+            hash.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while hashing password.", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Could not hash password.", e.getCause());
+        }
+    }
+
+    /**
+     * Measures the configured cost factor on this machine and logs the cost closest to
+     * {@code password-hashing.target-duration}, since each cost increment doubles the time.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void calibrate() {
+        List<Callable<Long>> rounds = Collections.nCopies(CALIBRATION_ROUNDS, () -> {
+            long start = System.nanoTime();
+            passwordEncoder.encode(CALIBRATION_SAMPLE);
+            return System.nanoTime() - start;
+        });
+
+        long fastest = Long.MAX_VALUE;
+        try {
+            for (Future<Long> round : executor.invokeAll(rounds)) {
+                fastest = Math.min(fastest, round.get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        } catch (ExecutionException | RejectedExecutionException e) {
+            log.warn("Could not calibrate the BCrypt cost factor.", e);
+            return;
+        }
+
+        Duration measured = Duration.ofNanos(fastest);
+        int recommended = strength + (int) Math.round(
+                Math.log((double) targetDuration.toNanos() / fastest) / Math.log(2));
+
+        if (recommended == strength) {
+            log.info("BCrypt cost {} takes {} ms per hash.", strength, measured.toMillis());
+        } else {
+            log.warn("BCrypt cost {} takes {} ms per hash; cost {} is closest to the {} ms target.",
+                    strength, measured.toMillis(), Math.clamp(recommended, 4, 31), targetDuration.toMillis());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+}
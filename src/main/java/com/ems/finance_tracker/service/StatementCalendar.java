@@ -0,0 +1,169 @@
+package com.ems.finance_tracker.service;
+
+import com.ems.finance_tracker.exception.BusinessException;
+import com.ems.finance_tracker.model.entity.CreditCard;
+import com.ems.finance_tracker.model.entity.CreditCardStatement;
+import com.ems.finance_tracker.repository.CreditCardStatementRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * In-process calendar of the billing cycles of each credit card, resolving the {@link CreditCardStatement}
+ * a purchase belongs to from its purchase date.
+ * <p>
+ * The reference month is derived from the card's closing day, and the identifier of the card's statement
+ * for that month is cached per card, so resolving a known cycle issues no query. A missing statement is
+ * created on demand with the card's billing cycle through an insert that does nothing when a concurrent
+ * request created it first, so the unique constraint on {@code (reference_month, credit_card_id)} is never
+ * violated. Identifiers of created statements are only cached once their transaction commits.
+ * </p>
+ * <p>
+ * Statement and card deletions evict the card's calendar after commit. Calendars also expire after
+ * {@code statement-calendar.ttl}, which bounds how long deletions made by other instances stay invisible.
+ * </p>
+ *
+ * @author Evandro Machado
+ */
+@Component
+public class StatementCalendar {
+
+    private final CreditCardStatementRepository creditCardStatementRepository;
+    private final Duration ttl;
+    private final int maxCards;
+
+    private final ConcurrentHashMap<Long, CardCalendar> calendars = new ConcurrentHashMap<>();
+    private final AtomicLong evictions = new AtomicLong();
+
+    /**
+     * Billing cycle a purchase belongs to.
+     *
+     * @param referenceMonth the reference month of the statement
+     * @param statementId the statement identifier
+     */
+    public record Cycle(YearMonth referenceMonth, Long statementId) {}
+
+    /**
+     * Known statements of one credit card.
+     *
+     * @param expiresAt the instant after which the calendar is discarded
+     * @param statementIds the statement identifiers indexed by reference month
+     */
+    private record CardCalendar(Instant expiresAt, Map<YearMonth, Long> statementIds) {}
+
+    public StatementCalendar(CreditCardStatementRepository creditCardStatementRepository,
+                             @Value("${statement-calendar.ttl:PT10M}") Duration ttl,
+                             @Value("${statement-calendar.max-cards:10000}") int maxCards) {
+        this.creditCardStatementRepository = creditCardStatementRepository;
+        this.ttl = ttl;
+        this.maxCards = maxCards;
+    }
+
+    /**
+     * Resolves the billing cycle of a purchase, creating the card's statement for it when missing.
+     * Must be called within a transaction.
+     *
+     * @param creditCard the credit card of the purchase
+     * @param purchaseDate the purchase date
+     * @return the {@link Cycle} of the purchase
+     * @throws BusinessException if the statement is missing and the card's billing cycle cannot be
+     * represented by a statement
+     * @see CreditCardStatement#referenceMonthOf(CreditCard, LocalDate)
+     */
+    public Cycle resolve(CreditCard creditCard, LocalDate purchaseDate) {
+        Long creditCardId = creditCard.getId();
+        YearMonth referenceMonth = CreditCardStatement.referenceMonthOf(creditCard, purchaseDate);
+
+        CardCalendar calendar = calendars.get(creditCardId);
+        if (calendar != null && Instant.now().isBefore(calendar.expiresAt())) {
+            Long statementId = calendar.statementIds().get(referenceMonth);
+            if (statementId != null) {
+                return new Cycle(referenceMonth, statementId);
+            }
+        }
+
+        long evictionsBeforeLoad = evictions.get();
+        Long existingId = creditCardStatementRepository
+                .findIdByCreditCardIdAndReferenceMonth(creditCardId, referenceMonth)
+                .orElse(null);
+        if (existingId != null) {
+            put(creditCardId, referenceMonth, existingId, evictionsBeforeLoad);
+            return new Cycle(referenceMonth, existingId);
+        }
+
+        CreditCardStatement statement = CreditCardStatement.forBillingCycle(creditCard, referenceMonth)
+                .orElseThrow(() -> new BusinessException("The statement for " + referenceMonth
+                        + " cannot be created: the due day of credit card " + creditCardId
+                        + " is not after its closing day."));
+        creditCardStatementRepository.insertIfAbsent(
+                referenceMonth.toString(), statement.getClosingDay(), statement.getDueDay(), creditCardId);
+        Long createdId = creditCardStatementRepository
+                .findIdByCreditCardIdAndReferenceMonth(creditCardId, referenceMonth)
+                .orElseThrow();
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                put(creditCardId, referenceMonth, createdId, evictionsBeforeLoad);
+            }
+        });
+
+        return new Cycle(referenceMonth, createdId);
+    }
+
+    /**
+     * Discards the calendar of a credit card once the current transaction commits,
+     * or immediately when no transaction is active.
+     *
+     * @param creditCardId the identifier of the credit card whose statements were deleted
+     */
+    public void evictCreditCard(Long creditCardId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict(creditCardId);
+                }
+            });
+        } else {
+            evict(creditCardId);
+        }
+    }
+
+    private void evict(Long creditCardId) {
+        evictions.incrementAndGet();
+        calendars.remove(creditCardId);
+    }
+
+    private void put(Long creditCardId, YearMonth referenceMonth, Long statementId, long evictionsBeforeLoad) {
+        Instant now = Instant.now();
+
+        if (!calendars.containsKey(creditCardId) && calendars.size() >= maxCards) {
+            calendars.values().removeIf(cached -> !now.isBefore(cached.expiresAt()));
+            if (calendars.size() >= maxCards) {
+                return;
+            }
+        }
+
+        CardCalendar calendar = calendars.compute(creditCardId, (id, cached) ->
+                cached != null && now.isBefore(cached.expiresAt())
+                        ? cached
+                        : new CardCalendar(now.plus(ttl), new ConcurrentHashMap<>()));
+        calendar.statementIds().put(referenceMonth, statementId);
+
+        // An eviction that ran while the statement was resolved may have missed this entry.
+        if (evictions.get() != evictionsBeforeLoad) {
+            calendar.statementIds().remove(referenceMonth, statementId);
+        }
+    }
+
+}
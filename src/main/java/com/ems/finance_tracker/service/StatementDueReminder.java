@@ -0,0 +1,28 @@
+package com.ems.finance_tracker.service;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+
+/**
+ * Application event published when a closed statement is about to fall due.
+ * <p>
+ * The event is published inside the transaction that marks the reminder as sent, so delivery
+ * channels listen with {@link org.springframework.transaction.event.TransactionalEventListener}:
+ * {@link StatementReminderService} queues it for the card holder before that transaction commits.
+ * </p>
+ *
+ * @param statementId the statement identifier
+ * @param creditCardId the identifier of the statement's credit card
+ * @param userId the identifier of the card holder
+ * @param referenceMonth the reference month of the statement
+ * @param dueDate the date the statement is due
+ * @param balance the purchases of the statement net of its refunds
+ * @author Evandro Machado
+ */
+public record StatementDueReminder(Long statementId,
+                                   Long creditCardId,
+                                   Long userId,
+                                   YearMonth referenceMonth,
+                                   LocalDate dueDate,
+                                   BigDecimal balance) {}
@@ -0,0 +1,205 @@
+package com.ems.finance_tracker.service;
+
+import com.ems.finance_tracker.dto.CreditCardDTO;
+import com.ems.finance_tracker.exception.BusinessException;
+import com.ems.finance_tracker.exception.ResourceNotFoundException;
+import com.ems.finance_tracker.repository.CreditCardRepository;
+import com.ems.finance_tracker.repository.UserRepository;
+import com.ems.finance_tracker.repository.projection.StatementForecastView;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Service responsible for forecasting the upcoming statements of a user's credit cards.
+ * <p>
+ * Installment purchases are expanded into the statements of their future months when created, so
+ * the denormalized totals of the upcoming statements already hold every scheduled installment. A
+ * user's schedule is read with a single query into one array of monthly amounts per card, covering
+ * {@value #MAX_MONTHS} months, and cached per user; forecasts of any length are then sliced and
+ * summed in memory.
+ * </p>
+ * <p>
+ * Transaction, card and statement writes evict the user's schedule once their transaction commits,
+ * and a schedule loaded concurrently with an eviction is not cached. Schedules also expire after
+ * {@code statement-forecast.ttl}, which bounds how long writes made by other instances stay invisible,
+ * and are reloaded when the month turns.
+ * </p>
+ *
+ * @author Evandro Machado
+ */
+@Service
+public class StatementForecastService {
+
+    public static final int MAX_MONTHS = 24;
+
+    private final CreditCardRepository creditCardRepository;
+    private final UserRepository userRepository;
+    private final Duration ttl;
+    private final int maxUsers;
+
+    private final ConcurrentHashMap<Long, Schedule> schedules = new ConcurrentHashMap<>();
+    private final AtomicLong evictions = new AtomicLong();
+
+    /**
+     * Monthly amounts of the upcoming statements of one credit card.
+     *
+     * @param creditCardId the credit card identifier
+     * @param creditCardName the credit card name
+     * @param amounts the net amount of each month, starting with the schedule's first month
+     */
+    private record CardSchedule(Long creditCardId, String creditCardName, BigDecimal[] amounts) {}
+
+    /**
+     * Upcoming statements of every credit card of a user.
+     *
+     * @param firstMonth the month the schedule starts with
+     * @param expiresAt the instant after which the schedule is reloaded
+     * @param creditCards the schedule of each card, in identifier order
+     */
+    private record Schedule(YearMonth firstMonth, Instant expiresAt, List<CardSchedule> creditCards) {}
+
+    public StatementForecastService(CreditCardRepository creditCardRepository,
+                                    UserRepository userRepository,
+                                    @Value("${statement-forecast.ttl:PT5M}") Duration ttl,
+                                    @Value("${statement-forecast.max-users:10000}") int maxUsers) {
+        this.creditCardRepository = creditCardRepository;
+        this.userRepository = userRepository;
+        this.ttl = ttl;
+        this.maxUsers = maxUsers;
+    }
+
+    /**
+     * Forecasts the statements of a user's credit cards for the next months, starting with the current one.
+     *
+     * @param userId the user identifier
+     * @param months the number of months to forecast
+     * @return a {@link CreditCardDTO.ForecastResponse} with the monthly amounts per card and in total
+     * @throws ResourceNotFoundException if the user does not exist
+     * @throws BusinessException if the number of months is not between 1 and {@value #MAX_MONTHS}
+     */
+    public CreditCardDTO.ForecastResponse forecast(Long userId, int months) {
+        if (months < 1 || months > MAX_MONTHS) {
+            throw new BusinessException("The forecast must cover between 1 and " + MAX_MONTHS + " months.");
+        }
+
+        Schedule schedule = schedule(userId);
+
+        BigDecimal[] total = new BigDecimal[months];
+        Arrays.fill(total, BigDecimal.ZERO);
+        List<CreditCardDTO.CardForecast> creditCards = new ArrayList<>(schedule.creditCards().size());
+
+        for (CardSchedule card : schedule.creditCards()) {
+            List<CreditCardDTO.MonthlyAmount> cardMonths = new ArrayList<>(months);
+            for (int i = 0; i < months; i++) {
+                cardMonths.add(new CreditCardDTO.MonthlyAmount(schedule.firstMonth().plusMonths(i), card.amounts()[i]));
+                total[i] = total[i].add(card.amounts()[i]);
+            }
+            creditCards.add(new CreditCardDTO.CardForecast(card.creditCardId(), card.creditCardName(), cardMonths));
+        }
+
+        List<CreditCardDTO.MonthlyAmount> totalMonths = new ArrayList<>(months);
+        for (int i = 0; i < months; i++) {
+            totalMonths.add(new CreditCardDTO.MonthlyAmount(schedule.firstMonth().plusMonths(i), total[i]));
+        }
+
+        return new CreditCardDTO.ForecastResponse(userId, totalMonths, creditCards);
+    }
+
+    /**
+     * Discards the cached schedule of a user once the current transaction commits,
+     * or immediately when no transaction is active.
+     *
+     * @param userId the identifier of the user whose cards, statements or transactions changed
+     */
+    public void evictUser(Long userId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict(userId);
+                }
+            });
+        } else {
+            evict(userId);
+        }
+    }
+
+    private void evict(Long userId) {
+        evictions.incrementAndGet();
+        schedules.remove(userId);
+    }
+
+    /**
+     * Returns the cached schedule of a user, loading it if missing, expired or started in a past month.
+     */
+    private Schedule schedule(Long userId) {
+        YearMonth currentMonth = YearMonth.now();
+
+        Schedule cached = schedules.get(userId);
+        if (cached != null && cached.firstMonth().equals(currentMonth) && Instant.now().isBefore(cached.expiresAt())) {
+            return cached;
+        }
+
+        long evictionsBeforeLoad = evictions.get();
+        Schedule loaded = load(userId, currentMonth);
+        put(userId, loaded, evictionsBeforeLoad);
+
+        return loaded;
+    }
+
+    private Schedule load(Long userId, YearMonth firstMonth) {
+        List<StatementForecastView> views = creditCardRepository.findForecastViewsByUserId(
+                userId, firstMonth, firstMonth.plusMonths(MAX_MONTHS - 1));
+        if (views.isEmpty() && !userRepository.existsById(userId)) {
+            throw new ResourceNotFoundException("User not found. ID = " + userId);
+        }
+
+        Map<Long, CardSchedule> creditCards = new LinkedHashMap<>();
+        for (StatementForecastView view : views) {
+            CardSchedule card = creditCards.computeIfAbsent(view.getCreditCardId(), id -> {
+                BigDecimal[] amounts = new BigDecimal[MAX_MONTHS];
+                Arrays.fill(amounts, BigDecimal.ZERO);
+                return new CardSchedule(id, view.getCreditCardName(), amounts);
+            });
+
+            if (view.getReferenceMonth() != null) {
+                card.amounts()[(int) firstMonth.until(view.getReferenceMonth(), ChronoUnit.MONTHS)] = view.getAmount();
+            }
+        }
+
+        return new Schedule(firstMonth, Instant.now().plus(ttl), List.copyOf(creditCards.values()));
+    }
+
+    private void put(Long userId, Schedule schedule, long evictionsBeforeLoad) {
+        if (schedules.size() >= maxUsers) {
+            Instant now = Instant.now();
+            schedules.values().removeIf(cached -> !now.isBefore(cached.expiresAt()));
+            if (schedules.size() >= maxUsers) {
+                return;
+            }
+        }
+
+        schedules.put(userId, schedule);
+
+        // An eviction that ran while the schedule was loaded may have missed this entry.
+        if (evictions.get() != evictionsBeforeLoad) {
+            schedules.remove(userId, schedule);
+        }
+    }
+
+}
@@ -0,0 +1,337 @@
+package com.ems.finance_tracker.service;
+
+import com.ems.finance_tracker.dto.StatementImportDTO;
+import com.ems.finance_tracker.exception.BusinessException;
+import com.ems.finance_tracker.exception.ResourceNotFoundException;
+import com.ems.finance_tracker.model.entity.Category;
+import com.ems.finance_tracker.model.entity.CreditCardStatement;
+import com.ems.finance_tracker.model.entity.StatementImport;
+import com.ems.finance_tracker.model.enums.CreditCardTransactionType;
+import com.ems.finance_tracker.model.enums.CreditLimitEntryType;
+import com.ems.finance_tracker.model.enums.StatementImportFormat;
+import com.ems.finance_tracker.model.mapper.StatementImportMapper;
+import com.ems.finance_tracker.repository.CategoryRepository;
+import com.ems.finance_tracker.repository.CreditCardRepository;
+import com.ems.finance_tracker.repository.CreditCardStatementRepository;
+import com.ems.finance_tracker.repository.StatementImportRepository;
+import com.ems.finance_tracker.service.parser.StatementParser;
+import com.ems.finance_tracker.service.parser.StatementRecord;
+import lombok.RequiredArgsConstructor;
+import org.postgresql.PGConnection;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.io.*;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.LocalDate;
+
+import static com.ems.finance_tracker.model.entity.CreditCardTransaction.MAX_PURCHASE_DAYS_AHEAD;
+
+/**
+ * Service responsible for importing bank statement files into a {@link CreditCardStatement}.
+ * <p>
+ * The file is streamed from the request body through a {@link StatementParser} and copied into
+ * the {@code statement_import_rows} staging table with PostgreSQL {@code COPY}, one chunk per
+ * transaction, so memory use does not depend on the file size and an interrupted upload can be
+ * resumed from the last committed chunk. Staged rows are then validated and merged set-wise into
+ * {@code credit_card_transactions}, and the net limit change is applied with one atomic update.
+ * Statement totals and the monthly category spending rollup are updated set-wise in the same transaction.
+ * </p>
+ * <p>
+ * Methods are deliberately not {@code @Transactional}: each chunk and the final merge commit on their own.
+ * </p>
+ *
+ * @author Evandro Machado
+ */
+@Service
+@RequiredArgsConstructor
+public class StatementImportService {
+
+    private static final int MAX_TEXT_LENGTH = 200;
+
+    private static final String COPY_SQL = """
+            COPY statement_import_rows (import_id, record_number, purchase_date, description,
+                transaction_type, amount, current_installment, total_installments, comment)
+            FROM STDIN WITH (FORMAT csv)""";
+
+    private static final String VALIDATE_SQL = """
+            UPDATE statement_import_rows r
+            SET error = v.error
+            FROM (SELECT id,
+                         CASE
+                             WHEN btrim(description) = '' THEN 'Description must not be blank.'
+                             WHEN purchase_date < ? THEN 'Purchase date is too old.'
+                             WHEN purchase_date > ? THEN 'Purchase date exceeds the maximum allowed date.'
+                             WHEN current_installment < 1 OR total_installments < 1 THEN 'Installments must be positive.'
+                             WHEN current_installment > total_installments
+                                 THEN 'Current installment cannot be greater than total installments.'
+                         END AS error
+                  FROM statement_import_rows
+                  WHERE import_id = ?) v
+            WHERE r.id = v.id AND v.error IS NOT NULL""";
+
+    private static final String LIMIT_DELTA_SQL = """
+            SELECT coalesce(sum(CASE WHEN transaction_type = ? THEN -amount ELSE amount END), 0)
+            FROM statement_import_rows
+            WHERE import_id = ? AND error IS NULL""";
+
+    private static final String MERGE_SQL = """
+            INSERT INTO credit_card_transactions (id, description, transaction_type, amount, is_installment,
+                current_installment, total_installments, purchase_date, comment,
+                credit_card_id, category_id, statement_id)
+            SELECT nextval('credit_card_transactions_seq'), left(btrim(r.description), 50), r.transaction_type,
+                   r.amount, r.total_installments > 1, r.current_installment, r.total_installments,
+                   r.purchase_date, r.comment, ?, ?, ?
+            FROM statement_import_rows r
+            WHERE r.import_id = ? AND r.error IS NULL
+            ORDER BY r.record_number""";
+
+    private static final String STATEMENT_TOTALS_SQL = """
+            UPDATE credit_card_statements s
+            SET total_purchases = s.total_purchases + x.purchases,
+                total_refunds = s.total_refunds + x.refunds,
+                transaction_count = s.transaction_count + x.row_count
+            FROM (SELECT coalesce(sum(amount) FILTER (WHERE transaction_type = 'PURCHASE'), 0) AS purchases,
+                         coalesce(sum(amount) FILTER (WHERE transaction_type = 'REFUND'), 0) AS refunds,
+                         count(*) AS row_count
+                  FROM statement_import_rows
+                  WHERE import_id = ? AND error IS NULL) x
+            WHERE s.id = ?""";
+
+    private static final String CATEGORY_SPENDING_SQL = """
+            INSERT INTO category_monthly_spending (user_id, category_id, month, total_amount, transaction_count)
+            SELECT ?, ?, date_trunc('month', purchase_date)::date,
+                   sum(CASE WHEN transaction_type = 'REFUND' THEN -amount ELSE amount END), count(*)
+            FROM statement_import_rows
+            WHERE import_id = ? AND error IS NULL
+            GROUP BY date_trunc('month', purchase_date)::date
+            ORDER BY 3
+            ON CONFLICT (user_id, month, category_id) DO UPDATE
+            SET total_amount = category_monthly_spending.total_amount + EXCLUDED.total_amount,
+                transaction_count = category_monthly_spending.transaction_count + EXCLUDED.transaction_count""";
+
+    private static final String DELETE_MERGED_SQL =
+            "DELETE FROM statement_import_rows WHERE import_id = ? AND error IS NULL";
+
+    private static final String COUNT_REJECTED_SQL =
+            "SELECT count(*) FROM statement_import_rows WHERE import_id = ? AND error IS NOT NULL";
+
+    private final StatementImportRepository statementImportRepository;
+    private final StatementImportMapper statementImportMapper;
+    private final CreditCardStatementRepository creditCardStatementRepository;
+    private final CategoryRepository categoryRepository;
+    private final CreditCardRepository creditCardRepository;
+    private final CreditLimitLedgerService creditLimitLedgerService;
+    private final CreditCardCache creditCardCache;
+    private final StatementForecastService statementForecastService;
+    private final TransactionPartitionService transactionPartitionService;
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${statement-import.chunk-size:5000}")
+    private int chunkSize;
+
+    /**
+     * Retrieves the progress of a statement import by its identifier.
+     *
+     * @param id the import identifier
+     * @return a {@link StatementImportDTO.Response} with the import progress
+     * @throws ResourceNotFoundException if the import does not exist
+     */
+    public StatementImportDTO.Response findStatementImportById(Long id) {
+        return statementImportMapper.toResponse(findEntityById(id));
+    }
+
+    /**
+     * Imports a bank statement file into the given statement.
+     *
+     * @param statementId the identifier of the target statement
+     * @param categoryId the identifier of the category assigned to the imported transactions
+     * @param format the statement file format
+     * @param content the statement file content, read as a stream
+     * @return a {@link StatementImportDTO.Response} with the import result
+     * @throws ResourceNotFoundException if the statement or category is not found
+     * @throws BusinessException if a record is malformed or the import exceeds the credit card limit
+     */
+    public StatementImportDTO.Response startStatementImport(
+            Long statementId,
+            Long categoryId,
+            StatementImportFormat format,
+            InputStream content
+    ) {
+        StatementImport statementImport = transactionTemplate.execute(status -> {
+            CreditCardStatement statement = creditCardStatementRepository.findById(statementId)
+                    .orElseThrow(() -> new ResourceNotFoundException("Statement not found. ID = " + statementId));
+            Category category = categoryRepository.findById(categoryId)
+                    .orElseThrow(() -> new ResourceNotFoundException("Category not found. ID = " + categoryId));
+
+            return statementImportRepository.save(StatementImport.of(format, statement, category));
+        });
+
+        return runImport(statementImport.getId(), content);
+    }
+
+    /**
+     * Resumes a failed or interrupted import with the same statement file.
+     * Records up to the last committed checkpoint are skipped.
+     *
+     * @param id the import identifier
+     * @param content the statement file content, read as a stream
+     * @return a {@link StatementImportDTO.Response} with the import result
+     * @throws ResourceNotFoundException if the import does not exist
+     * @throws BusinessException if the import is already completed
+     */
+    public StatementImportDTO.Response resumeStatementImport(Long id, InputStream content) {
+        transactionTemplate.executeWithoutResult(status -> findEntityById(id).resume());
+
+        return runImport(id, content);
+    }
+
+    private StatementImportDTO.Response runImport(Long id, InputStream content) {
+        try {
+            stage(findEntityById(id), content);
+            return transactionTemplate.execute(status -> merge(id));
+        } catch (RuntimeException e) {
+            transactionTemplate.executeWithoutResult(status -> findEntityById(id).fail(e.getMessage()));
+            throw e;
+        }
+    }
+
+    /**
+     * Streams the parsed records into the staging table, committing one chunk at a time.
+     */
+    private void stage(StatementImport statementImport, InputStream content) {
+        Long importId = statementImport.getId();
+        long checkpoint = statementImport.getRowsStaged();
+
+        StatementParser parser = StatementParser.of(statementImport.getFormat(),
+                new BufferedReader(new InputStreamReader(content, StandardCharsets.UTF_8)));
+
+        StringBuilder chunk = new StringBuilder();
+        int chunkRows = 0;
+        long lastRecord = checkpoint;
+
+        try {
+            StatementRecord record;
+            while ((record = parser.next()) != null) {
+                if (record.recordNumber() <= checkpoint) {
+                    continue;
+                }
+
+                appendCopyRow(chunk, importId, record);
+                lastRecord = record.recordNumber();
+
+                if (++chunkRows == chunkSize) {
+                    copyChunk(importId, chunk, lastRecord);
+                    chunk.setLength(0);
+                    chunkRows = 0;
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Statement file could not be read.", e);
+        }
+
+        if (chunkRows > 0) {
+            copyChunk(importId, chunk, lastRecord);
+        }
+    }
+
+    /**
+     * Copies a chunk of rows into the staging table and advances the checkpoint in the same transaction.
+     */
+    private void copyChunk(Long importId, CharSequence rows, long lastRecord) {
+        transactionTemplate.executeWithoutResult(status -> {
+            Connection connection = DataSourceUtils.getConnection(dataSource);
+            try {
+                connection.unwrap(PGConnection.class)
+                        .getCopyAPI()
+                        .copyIn(COPY_SQL, new StringReader(rows.toString()));
+            } catch (SQLException | IOException e) {
+                throw new DataAccessResourceFailureException("Could not copy statement rows into staging.", e);
+            } finally {
+                DataSourceUtils.releaseConnection(connection, dataSource);
+            }
+
+            findEntityById(importId).checkpoint(lastRecord);
+        });
+    }
+
+    /**
+     * Validates the staged rows and merges the valid ones into the statement.
+     */
+    private StatementImportDTO.Response merge(Long importId) {
+        StatementImport statementImport = findEntityById(importId);
+        CreditCardStatement statement = statementImport.getCreditCardStatement();
+        Long creditCardId = statement.getCreditCard().getId();
+        Long categoryId = statementImport.getCategory().getId();
+
+        jdbcTemplate.update(VALIDATE_SQL,
+                transactionPartitionService.minPurchaseDate(), LocalDate.now().plusDays(MAX_PURCHASE_DAYS_AHEAD), importId);
+
+        BigDecimal limitDelta = jdbcTemplate.queryForObject(LIMIT_DELTA_SQL, BigDecimal.class,
+                CreditCardTransactionType.PURCHASE.name(), importId);
+
+        if (creditCardRepository.applyLimitDelta(creditCardId, limitDelta) == 0) {
+            throw new BusinessException("Imported transactions exceed the limit of credit card " + creditCardId + ".");
+        }
+        creditCardCache.evict(creditCardId);
+        creditLimitLedgerService.record(creditCardId, CreditLimitEntryType.STATEMENT_IMPORTED,
+                limitDelta, BigDecimal.ZERO, null);
+
+        int imported = jdbcTemplate.update(MERGE_SQL,
+                creditCardId, categoryId, statement.getId(), importId);
+        jdbcTemplate.update(STATEMENT_TOTALS_SQL, importId, statement.getId());
+        jdbcTemplate.update(CATEGORY_SPENDING_SQL,
+                statement.getCreditCard().getUser().getId(), categoryId, importId);
+        jdbcTemplate.update(DELETE_MERGED_SQL, importId);
+        statementForecastService.evictUser(statement.getCreditCard().getUser().getId());
+        Long rejected = jdbcTemplate.queryForObject(COUNT_REJECTED_SQL, Long.class, importId);
+
+        statementImport.complete(imported, rejected);
+
+        return statementImportMapper.toResponse(statementImport);
+    }
+
+    private static void appendCopyRow(StringBuilder chunk, Long importId, StatementRecord record) {
+        chunk.append(importId).append(',')
+                .append(record.recordNumber()).append(',')
+                .append(record.purchaseDate()).append(',')
+                .append(quote(record.description())).append(',')
+                .append(record.type().name()).append(',')
+                .append(record.amount().toPlainString()).append(',')
+                .append(record.currentInstallment()).append(',')
+                .append(record.totalInstallments()).append(',')
+                .append(record.comment() == null ? "" : quote(record.comment()))
+                .append('\n');
+    }
+
+    /**
+     * Quotes a text value for the CSV {@code COPY} format, truncating it to the staging column length.
+     */
+    private static String quote(String value) {
+        String truncated = value.length() > MAX_TEXT_LENGTH ? value.substring(0, MAX_TEXT_LENGTH) : value;
+        return '"' + truncated.replace("\"", "\"\"") + '"';
+    }
+
+    /**
+     * Retrieves a StatementImport entity by its identifier.
+     *
+     * @param id the import identifier
+     * @return the StatementImport entity
+     * @throws ResourceNotFoundException if the import does not exist
+     */
+    private StatementImport findEntityById(Long id) {
+        return statementImportRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Statement import not found. ID = " + id));
+    }
+
+}
@@ -0,0 +1,65 @@
+package com.ems.finance_tracker.service;
+
+import com.ems.finance_tracker.dto.CreditCardStatementDTO;
+import com.ems.finance_tracker.model.entity.StatementReminder;
+import com.ems.finance_tracker.repository.StatementReminderRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Service responsible for delivering {@link StatementDueReminder}s to card holders.
+ * <p>
+ * Each published reminder is queued as a {@link StatementReminder} before the transaction that marks
+ * it as sent commits, so a reminder is either queued and marked together or retried on the next run.
+ * Users read their pending reminders until the statement falls due.
+ * </p>
+ *
+ * @author Evandro Machado
+ */
+@Service
+@RequiredArgsConstructor
+public class StatementReminderService {
+
+    private final StatementReminderRepository statementReminderRepository;
+
+    /**
+     * Queues a due-date reminder for the statement's card holder.
+     *
+     * @param reminder the published reminder
+     */
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void enqueue(StatementDueReminder reminder) {
+        statementReminderRepository.save(StatementReminder.of(
+                reminder.statementId(),
+                reminder.creditCardId(),
+                reminder.userId(),
+                reminder.referenceMonth(),
+                reminder.dueDate(),
+                reminder.balance()));
+    }
+
+    /**
+     * Retrieves the reminders of a user for statements not yet due.
+     *
+     * @param userId the user identifier
+     * @return a list of {@link CreditCardStatementDTO.DueReminder}, soonest due first
+     */
+    public List<CreditCardStatementDTO.DueReminder> findPendingReminders(Long userId) {
+        return statementReminderRepository
+                .findByUserIdAndDueDateGreaterThanEqualOrderByDueDateAscIdAsc(userId, LocalDate.now())
+                .stream()
+                .map(reminder -> new CreditCardStatementDTO.DueReminder(
+                        reminder.getStatementId(),
+                        reminder.getCreditCardId(),
+                        reminder.getReferenceMonth(),
+                        reminder.getDueDate(),
+                        reminder.getBalance()))
+                .toList();
+    }
+
+}
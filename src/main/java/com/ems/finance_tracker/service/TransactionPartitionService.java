@@ -0,0 +1,264 @@
+package com.ems.finance_tracker.service;
+
+import com.ems.finance_tracker.exception.BusinessException;
+import com.ems.finance_tracker.model.entity.CreditCardTransaction;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Service responsible for the monthly range partitioning of {@code credit_card_transactions}
+ * by {@code purchase_date}.
+ * <p>
+ * Partitioning is opt-in through {@code transaction-partitioning.enabled}. The first startup with it
+ * enabled converts the table in place: it is renamed, recreated as a partitioned table with the same
+ * columns, indexes and foreign keys, and its rows are copied into one partition per month. The copy
+ * holds an exclusive lock on the table, so it belongs in a maintenance window. The primary key becomes
+ * {@code (id, purchase_date)}, as PostgreSQL requires, while identifiers stay unique through the
+ * sequence and the entity keeps {@code id} as its identifier.
+ * </p>
+ * <p>
+ * Partitions cover every purchase date a transaction accepts, from
+ * {@link CreditCardTransaction#MIN_PURCHASE_DATE} to the furthest future date, and a daily job creates
+ * the upcoming ones, so inserts never miss a partition. When {@code transaction-partitioning.retention-months}
+ * is set, the job also detaches the partitions older than the retention. Detached partitions stay in the
+ * database as standalone tables for archiving, and purchases dated in their months are rejected. A partition
+ * holding transactions of a statement that also has retained transactions, such as earlier installments,
+ * is kept until the whole statement expires.
+ * </p>
+ * <p>
+ * Queries prune partitions when they constrain {@code purchase_date}, as the keyset pages by purchase
+ * date and the purchase date filter do; lookups by identifier probe each partition's primary key.
+ * </p>
+ *
+ * @author Evandro Machado
+ */
+@Slf4j
+@Service
+public class TransactionPartitionService {
+
+    private static final long MAINTENANCE_LOCK_KEY = 4_002L;
+
+    private static final String UNPARTITIONED_TABLE = "credit_card_transactions_unpartitioned";
+
+    private static final DateTimeFormatter PARTITION_NAME = DateTimeFormatter.ofPattern("'credit_card_transactions_p'yyyy_MM");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final int retentionMonths;
+
+    public TransactionPartitionService(JdbcTemplate jdbcTemplate,
+                                       TransactionTemplate transactionTemplate,
+                                       @Value("${transaction-partitioning.enabled:false}") boolean enabled,
+                                       @Value("${transaction-partitioning.retention-months:0}") int retentionMonths) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.enabled = enabled;
+        this.retentionMonths = retentionMonths;
+    }
+
+    /**
+     * Returns the first purchase date kept attached when old partitions are detached. Jobs that rebuild
+     * data from the transactions must leave what precedes it untouched, since those rows may no longer
+     * be visible.
+     *
+     * @return the first day of the oldest retained month, or empty if no partition is ever detached
+     */
+    public Optional<LocalDate> archivedBefore() {
+        if (!enabled || retentionMonths <= 0) {
+            return Optional.empty();
+        }
+        return Optional.of(YearMonth.now().minusMonths(retentionMonths).atDay(1));
+    }
+
+    /**
+     * Returns the earliest purchase date a new transaction can have: {@link CreditCardTransaction#MIN_PURCHASE_DATE},
+     * or the first retained day once old partitions are detached, as their months no longer accept rows.
+     *
+     * @return the earliest accepted purchase date
+     */
+    public LocalDate minPurchaseDate() {
+        return archivedBefore()
+                .filter(cutoff -> cutoff.isAfter(CreditCardTransaction.MIN_PURCHASE_DATE))
+                .orElse(CreditCardTransaction.MIN_PURCHASE_DATE);
+    }
+
+    /**
+     * Checks that a purchase date does not fall in an archived month.
+     *
+     * @param purchaseDate the purchase date of a new or updated transaction
+     * @throws BusinessException if the purchase date precedes the retained months
+     */
+    public void requireRetained(LocalDate purchaseDate) {
+        Optional<LocalDate> cutoff = archivedBefore();
+        if (cutoff.isPresent() && purchaseDate.isBefore(cutoff.get())) {
+            throw new BusinessException(String.format(
+                    "Purchase date %s falls in an archived month. Minimum allowed: %s.", purchaseDate, cutoff.get()));
+        }
+    }
+
+    /**
+     * Converts the table on the first startup with partitioning enabled, then runs the maintenance.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void partitionOnStartup() {
+        if (!enabled) {
+            return;
+        }
+
+        transactionTemplate.executeWithoutResult(status -> {
+            if (tryMaintenanceLock() && !isPartitioned()) {
+                convertToPartitioned();
+            }
+        });
+        maintainPartitions();
+    }
+
+    /**
+     * Creates the upcoming monthly partitions and detaches the expired ones. Runs on a single node
+     * at a time, guarded by a PostgreSQL advisory lock.
+     */
+    @Scheduled(cron = "${transaction-partitioning.maintenance-cron:0 0 2 * * *}")
+    public void maintainPartitions() {
+        if (!enabled) {
+            return;
+        }
+
+        transactionTemplate.executeWithoutResult(status -> {
+            if (!tryMaintenanceLock() || !isPartitioned()) {
+                return;
+            }
+
+            createPartitions(YearMonth.from(minPurchaseDate()), lastPartitionMonth());
+            archivedBefore().ifPresent(this::detachPartitionsBefore);
+        });
+    }
+
+    private boolean tryMaintenanceLock() {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                "SELECT pg_try_advisory_xact_lock(?)", Boolean.class, MAINTENANCE_LOCK_KEY));
+    }
+
+    private boolean isPartitioned() {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject("""
+                SELECT EXISTS (SELECT 1 FROM pg_partitioned_table
+                               WHERE partrelid = 'credit_card_transactions'::regclass)""", Boolean.class));
+    }
+
+    /**
+     * Month of the furthest purchase date {@link CreditCardTransaction} accepts.
+     */
+    private YearMonth lastPartitionMonth() {
+        return YearMonth.from(LocalDate.now().plusDays(CreditCardTransaction.MAX_PURCHASE_DAYS_AHEAD));
+    }
+
+    /**
+     * Recreates the table as a partitioned table and moves its rows. Index and foreign key definitions
+     * are read from the catalog before the old table is dropped, so the ones created by Hibernate and
+     * by {@code schema.sql} are carried over unchanged.
+     */
+    private void convertToPartitioned() {
+        jdbcTemplate.execute("LOCK TABLE credit_card_transactions IN ACCESS EXCLUSIVE MODE");
+
+        List<String> indexDefinitions = jdbcTemplate.queryForList("""
+                SELECT pg_get_indexdef(indexrelid) FROM pg_index
+                WHERE indrelid = 'credit_card_transactions'::regclass AND NOT indisprimary""", String.class);
+        List<String> foreignKeyDefinitions = jdbcTemplate.queryForList("""
+                SELECT format('ALTER TABLE credit_card_transactions ADD CONSTRAINT %I %s',
+                              conname, pg_get_constraintdef(oid))
+                FROM pg_constraint
+                WHERE conrelid = 'credit_card_transactions'::regclass AND contype = 'f'""", String.class);
+
+        YearMonth firstMonth = YearMonth.from(minPurchaseDate());
+        YearMonth lastMonth = lastPartitionMonth();
+        LocalDate[] range = jdbcTemplate.queryForObject(
+                "SELECT min(purchase_date), max(purchase_date) FROM credit_card_transactions",
+                (resultSet, rowNumber) -> new LocalDate[]{
+                        resultSet.getObject(1, LocalDate.class), resultSet.getObject(2, LocalDate.class)});
+        if (range[0] != null && YearMonth.from(range[0]).isBefore(firstMonth)) {
+            firstMonth = YearMonth.from(range[0]);
+        }
+        if (range[1] != null && YearMonth.from(range[1]).isAfter(lastMonth)) {
+            lastMonth = YearMonth.from(range[1]);
+        }
+
+        jdbcTemplate.execute("ALTER TABLE credit_card_transactions RENAME TO " + UNPARTITIONED_TABLE);
+        jdbcTemplate.execute("""
+                CREATE TABLE credit_card_transactions (
+                    LIKE %s INCLUDING DEFAULTS INCLUDING GENERATED INCLUDING CONSTRAINTS,
+                    PRIMARY KEY (id, purchase_date)
+                ) PARTITION BY RANGE (purchase_date)""".formatted(UNPARTITIONED_TABLE));
+        createPartitions(firstMonth, lastMonth);
+
+        String columns = jdbcTemplate.queryForObject("""
+                SELECT string_agg(quote_ident(attname), ', ' ORDER BY attnum) FROM pg_attribute
+                WHERE attrelid = 'credit_card_transactions'::regclass
+                  AND attnum > 0 AND NOT attisdropped AND attgenerated = ''""", String.class);
+        int moved = jdbcTemplate.update("INSERT INTO credit_card_transactions (%s) SELECT %s FROM %s"
+                .formatted(columns, columns, UNPARTITIONED_TABLE));
+        jdbcTemplate.execute("DROP TABLE " + UNPARTITIONED_TABLE);
+
+        indexDefinitions.forEach(jdbcTemplate::execute);
+        foreignKeyDefinitions.forEach(jdbcTemplate::execute);
+
+        log.info("Partitioned credit_card_transactions by month from {} to {}, moving {} rows",
+                firstMonth, lastMonth, moved);
+    }
+
+    private void createPartitions(YearMonth from, YearMonth to) {
+        for (YearMonth month = from; !month.isAfter(to); month = month.plusMonths(1)) {
+            jdbcTemplate.execute("""
+                    CREATE TABLE IF NOT EXISTS %s PARTITION OF credit_card_transactions
+                    FOR VALUES FROM ('%s') TO ('%s')""".formatted(
+                    PARTITION_NAME.format(month), month.atDay(1), month.plusMonths(1).atDay(1)));
+        }
+    }
+
+    private void detachPartitionsBefore(LocalDate cutoff) {
+        List<String> partitions = jdbcTemplate.queryForList("""
+                SELECT c.relname FROM pg_inherits i
+                JOIN pg_class c ON c.oid = i.inhrelid
+                WHERE i.inhparent = 'credit_card_transactions'::regclass
+                ORDER BY c.relname""", String.class);
+
+        for (String partition : partitions) {
+            if (!partitionMonth(partition).map(month -> month.atDay(1).isBefore(cutoff)).orElse(false)) {
+                continue;
+            }
+
+            boolean spansCutoff = Boolean.TRUE.equals(jdbcTemplate.queryForObject("""
+                    SELECT EXISTS (SELECT 1 FROM %s p
+                                   JOIN credit_card_transactions t ON t.statement_id = p.statement_id
+                                   WHERE t.purchase_date >= ?)""".formatted(partition), Boolean.class, cutoff));
+            if (spansCutoff) {
+                log.info("Keeping partition {} attached: it shares statements with retained transactions", partition);
+                continue;
+            }
+
+            jdbcTemplate.execute("ALTER TABLE credit_card_transactions DETACH PARTITION " + partition);
+            log.info("Detached partition {}", partition);
+        }
+    }
+
+    private Optional<YearMonth> partitionMonth(String partition) {
+        try {
+            return Optional.of(YearMonth.parse(partition, PARTITION_NAME));
+        } catch (DateTimeParseException e) {
+            return Optional.empty();
+        }
+    }
+
+}
@@ -1,5 +1,6 @@
 package com.ems.finance_tracker.service;
 
+import com.ems.finance_tracker.dto.PageDTO;
 import com.ems.finance_tracker.dto.UserDTO;
 import com.ems.finance_tracker.exception.BusinessException;
 import com.ems.finance_tracker.exception.ResourceNotFoundException;
@@ -7,13 +8,12 @@ import com.ems.finance_tracker.model.entity.User;
 import com.ems.finance_tracker.model.enums.Role;
 import com.ems.finance_tracker.model.mapper.UserMapper;
 import com.ems.finance_tracker.repository.UserRepository;
+import com.ems.finance_tracker.security.JwtPrincipalCache;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Collections;
-import java.util.List;
 
 /**
  * Service responsible for managing {@link User} business operations.
@@ -26,19 +26,27 @@ import java.util.List;
 public class UserService {
 
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingService passwordHashingService;
     private final UserMapper userMapper;
+    private final CursorPagination cursorPagination;
+    private final JwtPrincipalCache jwtPrincipalCache;
 
     /**
-     * Retrieves all users from the system.
+     * Retrieves one page of users, in identifier order.
      *
-     * @return a list of {@link UserDTO.Response} representing all registered users
+     * @param cursor the cursor returned with the previous page, or {@code null} for the first page
+     * @param size the requested page size, capped by {@code pagination.max-page-size}
+     * @return a {@link PageDTO.Response} of {@link UserDTO.Response} with the next page cursor
+     * @throws BusinessException if the cursor or size is invalid
      */
-    public List<UserDTO.Response> findAllUsers() {
-        return userRepository.findAll()
-                .stream()
-                .map(userMapper::toResponse)
-                .toList();
+    public PageDTO.Response<UserDTO.Response> findAllUsers(String cursor, Integer size) {
+        int pageSize = cursorPagination.pageSize(size);
+
+        return cursorPagination.page(
+                userRepository.findByIdGreaterThanOrderByIdAsc(cursorPagination.decodeId(cursor), cursorPagination.limit(pageSize)),
+                pageSize,
+                userMapper::toResponse,
+                user -> cursorPagination.encodeId(user.getId()));
     }
 
     /**
@@ -58,16 +66,22 @@ public class UserService {
      * Creates and persists a new user.
      * Applies business rules such as email uniqueness validation,
      * password encryption and default role assignment.
+     * <p>
+     * Not {@code @Transactional}: the password is hashed on the {@link PasswordHashingService} pool
+     * before any transaction starts, so no database connection is held while hashing. The user and
+     * its roles are inserted by the repository's own transaction, and the unique email constraint
+     * rejects a concurrent registration with the same email.
+     * </p>
      *
      * @param dto the user creation request data
      * @return a {@link UserDTO.Response} representing the persisted user
      * @throws BusinessException if the email is already in use
+     * @throws com.ems.finance_tracker.exception.ServiceOverloadedException if the hashing pool is saturated
      */
-    @Transactional
     public UserDTO.Response saveUser(UserDTO.Request dto) {
         validateEmailUniqueness(dto.email(), null);
 
-        String hash = passwordEncoder.encode(dto.password());
+        String hash = passwordHashingService.hash(dto.password());
         User user = userMapper.toEntity(dto, hash);
         user.setRoles(Collections.singleton(Role.ROLE_USER));
 
@@ -76,6 +90,7 @@ public class UserService {
 
     /**
      * Updates an existing user's basic profile information.
+     * Cached principals of the user are evicted once the update commits.
      *
      * @param id the identifier of the user to be updated
      * @param dto the DTO containing updated profile data
@@ -92,12 +107,14 @@ public class UserService {
         User existingUser = findEntityById(id);
 
         userMapper.updateEntity(existingUser, dto);
+        jwtPrincipalCache.evictUser(id);
 
         return userMapper.toResponse(userRepository.save(existingUser));
     }
 
     /**
      * Deletes a user from the system.
+     * Cached principals of the user are evicted once the deletion commits.
      *
      * @param id the identifier of the user to be deleted
      * @throws ResourceNotFoundException if the user does not exist
@@ -106,6 +123,7 @@ public class UserService {
     public void deleteUser(Long id) {
         User user = findEntityById(id);
         userRepository.delete(user);
+        jwtPrincipalCache.evictUser(id);
     }
 
     /**
@@ -0,0 +1,267 @@
+package com.ems.finance_tracker.service.authorization;
+
+import com.ems.finance_tracker.dto.AuthorizationDTO;
+import com.ems.finance_tracker.model.entity.AuthorizationCheckpoint;
+import com.ems.finance_tracker.model.enums.CreditLimitEntryType;
+import com.ems.finance_tracker.repository.AuthorizationCheckpointRepository;
+import com.ems.finance_tracker.repository.CreditCardRepository;
+import com.ems.finance_tracker.service.CreditCardCache;
+import com.ems.finance_tracker.service.CreditLimitLedgerService;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * In-memory purchase authorization engine for high-frequency credit cards.
+ * <p>
+ * Cards are sharded across single-threaded {@link AuthorizationPartition}s that hold their available
+ * limit in memory, so an authorization never waits on the database once its card is loaded. Every
+ * approval is made durable in the partition's write-ahead {@link AuthorizationJournal} before it is
+ * acknowledged, and a scheduled drain settles the net approved amounts per card in the database.
+ * </p>
+ * <p>
+ * On startup the journal records not yet settled are replayed into the database, so the card state
+ * is rebuilt from the database plus the journal. A partition whose journal fails recovers on its own;
+ * {@link AuthorizationEngineHealthIndicator} reports it as down meanwhile. The engine is the authority for the limits of the
+ * cards it serves: purchases on those cards should only be authorized through it, as concurrent
+ * writes through the regular endpoints are only reconciled on the next drain.
+ * </p>
+ *
+ * @author Evandro Machado
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(prefix = "authorization-engine", name = "enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class AuthorizationEngine {
+
+    private final CreditCardRepository creditCardRepository;
+    private final AuthorizationCheckpointRepository authorizationCheckpointRepository;
+    private final CreditLimitLedgerService creditLimitLedgerService;
+    private final CreditCardCache creditCardCache;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${authorization-engine.partitions:4}")
+    private int partitionCount;
+
+    @Value("${authorization-engine.journal-directory:data/authorization-journal}")
+    private Path journalDirectory;
+
+    @Value("${authorization-engine.queue-capacity:65536}")
+    private int queueCapacity;
+
+    @Value("${authorization-engine.max-batch-size:1024}")
+    private int maxBatchSize;
+
+    @Value("${authorization-engine.drain-timeout:PT10S}")
+    private Duration drainTimeout;
+
+    private AuthorizationPartition[] partitions;
+
+    /**
+     * Replays the journal into the database and starts the partitions.
+     *
+     * @throws IOException if the journal cannot be read or created
+     */
+    @PostConstruct
+    void start() throws IOException {
+        Files.createDirectories(journalDirectory);
+        Map<Integer, Long> lastSequences = recover();
+
+        partitions = new AuthorizationPartition[partitionCount];
+        for (int id = 0; id < partitionCount; id++) {
+            long lastSequence = lastSequences.getOrDefault(id, 0L);
+            partitions[id] = new AuthorizationPartition(
+                    id,
+                    new AuthorizationJournal(journalDirectory, id, lastSequence + 1, maxBatchSize),
+                    lastSequence,
+                    this::loadAvailableLimit,
+                    queueCapacity,
+                    maxBatchSize);
+        }
+    }
+
+    /**
+     * Stops the partitions after their queued commands are processed. Approvals not yet drained
+     * stay in the journal and are settled on the next startup.
+     *
+     * @throws InterruptedException if interrupted while waiting for a partition
+     */
+    @PreDestroy
+    void stop() throws InterruptedException {
+        for (AuthorizationPartition partition : partitions) {
+            partition.stop();
+        }
+    }
+
+    /**
+     * Authorizes a purchase against the in-memory available limit of a credit card.
+     *
+     * @param creditCardId the credit card identifier
+     * @param amount the purchase amount, with at most two decimal places
+     * @return a future completed with an {@link AuthorizationDTO.Response} once the decision is durable
+     */
+    public CompletableFuture<AuthorizationDTO.Response> authorize(Long creditCardId, BigDecimal amount) {
+        return partitionOf(creditCardId)
+                .authorize(creditCardId, toCents(amount))
+                .thenApply(result -> new AuthorizationDTO.Response(
+                        creditCardId,
+                        result.approved(),
+                        result.approved() ? result.sequence() : null,
+                        BigDecimal.valueOf(result.availableLimitInCents(), 2)
+                ));
+    }
+
+    /**
+     * Lists the partitions not accepting authorizations, because their journal is being recovered
+     * or they stopped.
+     *
+     * @return the identifiers of the unavailable partitions
+     */
+    public List<Integer> unavailablePartitions() {
+        List<Integer> unavailable = new ArrayList<>();
+        for (int id = 0; id < partitions.length; id++) {
+            if (!partitions[id].isAvailable()) {
+                unavailable.add(id);
+            }
+        }
+        return unavailable;
+    }
+
+    /**
+     * Settles the approved amounts of every partition in the database, one transaction per partition,
+     * together with the partition checkpoint.
+     */
+    @Scheduled(fixedDelayString = "${authorization-engine.drain-interval:PT1S}")
+    public void drain() {
+        for (AuthorizationPartition partition : partitions) {
+            AuthorizationPartition.Drain drain;
+            try {
+                drain = partition.drain().get(drainTimeout.toMillis(), TimeUnit.MILLISECONDS);
+            } catch (Exception e) {
+                log.error("Could not drain authorization partition", e);
+                continue;
+            }
+
+            if (drain.deltas().isEmpty()) {
+                continue;
+            }
+
+            try {
+                Set<Long> staleCards = transactionTemplate.execute(status -> {
+                    Set<Long> diverged = settle(drain.deltas());
+                    authorizationCheckpointRepository.advance(drain.partitionId(), drain.lastSequence());
+                    return diverged;
+                });
+                partition.settled(staleCards);
+            } catch (RuntimeException e) {
+                log.error("Could not settle authorization partition {}", drain.partitionId(), e);
+                partition.drainFailed();
+            }
+        }
+    }
+
+    /**
+     * Settles every journal record newer than its partition checkpoint and deletes the journal.
+     * Segments of partitions that no longer exist are settled as well, so the partition count
+     * can change between restarts.
+     *
+     * @return the last sequence used by each partition
+     * @throws IOException if the journal cannot be read or deleted
+     */
+    private Map<Integer, Long> recover() throws IOException {
+        Map<Integer, Long> lastSequences = authorizationCheckpointRepository.findAll()
+                .stream()
+                .collect(Collectors.toMap(AuthorizationCheckpoint::getPartitionId,
+                        AuthorizationCheckpoint::getLastSequence));
+        Map<Integer, Long> checkpoints = Map.copyOf(lastSequences);
+        Map<Long, Long> deltas = new HashMap<>();
+
+        List<Path> segments = AuthorizationJournal.segments(journalDirectory);
+        for (Path segment : segments) {
+            int partitionId = AuthorizationJournal.partitionOf(segment);
+            long checkpoint = checkpoints.getOrDefault(partitionId, 0L);
+
+            AuthorizationJournal.read(segment, entry -> {
+                if (entry.sequence() > checkpoint) {
+                    deltas.merge(entry.creditCardId(), -entry.amountInCents(), Long::sum);
+                    lastSequences.merge(partitionId, entry.sequence(), Math::max);
+                }
+            });
+        }
+
+        if (!deltas.isEmpty()) {
+            transactionTemplate.executeWithoutResult(status -> {
+                settle(deltas);
+                lastSequences.forEach(authorizationCheckpointRepository::advance);
+            });
+            log.info("Replayed authorization journal for {} credit cards", deltas.size());
+        }
+
+        for (Path segment : segments) {
+            Files.delete(segment);
+        }
+
+        return lastSequences;
+    }
+
+    /**
+     * Applies the net approved amounts to the available limit of each credit card and records
+     * them in the credit limit ledger.
+     *
+     * @param deltas the net change of available limit per credit card, in cents
+     * @return the cards whose persisted limit no longer covered the approved amounts
+     */
+    private Set<Long> settle(Map<Long, Long> deltas) {
+        Set<Long> diverged = new HashSet<>();
+
+        deltas.forEach((creditCardId, deltaInCents) -> {
+            BigDecimal delta = BigDecimal.valueOf(deltaInCents, 2);
+
+            if (creditCardRepository.applyLimitDelta(creditCardId, delta) == 0) {
+                if (creditCardRepository.settleLimitDelta(creditCardId, delta) == 0) {
+                    return;
+                }
+                log.warn("Credit card {} was settled beyond its available limit", creditCardId);
+                diverged.add(creditCardId);
+            }
+            creditCardCache.evict(creditCardId);
+
+            creditLimitLedgerService.record(creditCardId, CreditLimitEntryType.AUTHORIZATIONS_SETTLED,
+                    delta, BigDecimal.ZERO, null);
+        });
+
+        return diverged;
+    }
+
+    private OptionalLong loadAvailableLimit(long creditCardId) {
+        return creditCardRepository.findAvailableLimitById(creditCardId)
+                .map(limit -> OptionalLong.of(toCents(limit)))
+                .orElse(OptionalLong.empty());
+    }
+
+    private AuthorizationPartition partitionOf(Long creditCardId) {
+        return partitions[Math.floorMod(Long.hashCode(creditCardId), partitions.length)];
+    }
+
+    private static long toCents(BigDecimal amount) {
+        return amount.movePointRight(2).longValueExact();
+    }
+
+}
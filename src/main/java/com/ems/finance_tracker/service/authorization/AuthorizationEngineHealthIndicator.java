@@ -0,0 +1,32 @@
+package com.ems.finance_tracker.service.authorization;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Reports the {@link AuthorizationEngine} as down while any of its partitions rejects authorizations,
+ * listing those partitions.
+ *
+ * @author Evandro Machado
+ */
+@Component
+@ConditionalOnProperty(prefix = "authorization-engine", name = "enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class AuthorizationEngineHealthIndicator implements HealthIndicator {
+
+    private final AuthorizationEngine authorizationEngine;
+
+    @Override
+    public Health health() {
+        List<Integer> unavailable = authorizationEngine.unavailablePartitions();
+        return (unavailable.isEmpty() ? Health.up() : Health.down())
+                .withDetail("unavailablePartitions", unavailable)
+                .build();
+    }
+
+}
@@ -0,0 +1,226 @@
+package com.ems.finance_tracker.service.authorization;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * Write-ahead journal of one authorization engine partition.
+ * <p>
+ * Records have a fixed size and are buffered in memory until {@link #commit()}, which writes
+ * the whole batch and forces it to disk once (group commit). The journal is split into segments,
+ * each named after the first sequence it may contain; sealed segments are deleted once their
+ * records are persisted in the database.
+ * </p>
+ *
+ * @author Evandro Machado
+ */
+class AuthorizationJournal implements Closeable {
+
+    static final int RECORD_SIZE = 3 * Long.BYTES;
+
+    private static final Pattern SEGMENT_NAME = Pattern.compile("partition-(\\d+)-(\\d+)\\.journal");
+
+    private final Path directory;
+    private final int partitionId;
+    private final ByteBuffer buffer;
+
+    private FileChannel channel;
+    private Path segment;
+    private long segmentRecords;
+
+    /**
+     * Journal record of one approved authorization.
+     *
+     * @param sequence the partition-wide sequence of the record
+     * @param creditCardId the authorized credit card
+     * @param amountInCents the authorized amount, in cents
+     */
+    record Entry(long sequence, long creditCardId, long amountInCents) {}
+
+    /**
+     * Opens a new segment of the partition journal.
+     *
+     * @param directory the journal directory
+     * @param partitionId the partition identifier
+     * @param nextSequence the first sequence that may be written to the new segment
+     * @param bufferedRecords the number of records buffered before an intermediate write
+     * @throws IOException if the segment cannot be created
+     */
+    AuthorizationJournal(Path directory, int partitionId, long nextSequence, int bufferedRecords) throws IOException {
+        this.directory = directory;
+        this.partitionId = partitionId;
+        this.buffer = ByteBuffer.allocateDirect(bufferedRecords * RECORD_SIZE);
+        openSegment(nextSequence);
+    }
+
+    /**
+     * Buffers a record. The record is only durable after the next {@link #commit()}.
+     *
+     * @param entry the record to append
+     * @throws IOException if a full buffer cannot be written
+     */
+    void append(Entry entry) throws IOException {
+        if (buffer.remaining() < RECORD_SIZE) {
+            write();
+        }
+
+        buffer.putLong(entry.sequence())
+                .putLong(entry.creditCardId())
+                .putLong(entry.amountInCents());
+        segmentRecords++;
+    }
+
+    /**
+     * Writes the buffered records and forces the segment to disk.
+     *
+     * @throws IOException if the records cannot be written
+     */
+    void commit() throws IOException {
+        write();
+        channel.force(false);
+    }
+
+    /**
+     * Seals the current segment and opens a new one, unless the current segment is still empty.
+     *
+     * @param nextSequence the first sequence that may be written to the new segment
+     * @throws IOException if the current segment cannot be committed or a new one cannot be created
+     */
+    void rotate(long nextSequence) throws IOException {
+        if (segmentRecords == 0) {
+            return;
+        }
+
+        commit();
+        channel.close();
+        openSegment(nextSequence);
+    }
+
+    /**
+     * Deletes every sealed segment of this partition.
+     *
+     * @throws IOException if the journal directory cannot be listed or a segment cannot be deleted
+     */
+    void deleteSealedSegments() throws IOException {
+        for (Path sealed : segments(directory)) {
+            if (partitionOf(sealed) == partitionId && !sealed.equals(segment)) {
+                Files.delete(sealed);
+            }
+        }
+    }
+
+    /**
+     * Discards the buffered records and truncates the current segment after the last record of
+     * {@code lastSequence} or below, so records of a failed commit are never replayed.
+     *
+     * @param lastSequence the last sequence acknowledged to a caller
+     * @throws IOException if the segment cannot be read or truncated
+     */
+    void recover(long lastSequence) throws IOException {
+        buffer.clear();
+        try {
+            channel.close();
+        } catch (IOException ignored) {
+            // The segment is reopened below; a failed close leaves nothing to preserve.
+        }
+
+        long[] durableRecords = {0};
+        read(segment, entry -> {
+            if (entry.sequence() <= lastSequence) {
+                durableRecords[0]++;
+            }
+        });
+
+        long size = durableRecords[0] * RECORD_SIZE;
+        FileChannel reopened = FileChannel.open(segment, StandardOpenOption.WRITE);
+        try {
+            reopened.truncate(size);
+            reopened.force(true);
+            reopened.position(size);
+        } catch (IOException e) {
+            reopened.close();
+            throw e;
+        }
+
+        channel = reopened;
+        segmentRecords = durableRecords[0];
+    }
+
+    @Override
+    public void close() throws IOException {
+        commit();
+        channel.close();
+    }
+
+    /**
+     * Lists every journal segment in a directory, of all partitions, in name order.
+     *
+     * @param directory the journal directory
+     * @return the segment paths
+     * @throws IOException if the directory cannot be listed
+     */
+    static List<Path> segments(Path directory) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> SEGMENT_NAME.matcher(file.getFileName().toString()).matches())
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    /**
+     * Extracts the partition identifier from a segment path.
+     *
+     * @param segment the segment path
+     * @return the partition identifier
+     */
+    static int partitionOf(Path segment) {
+        Matcher matcher = SEGMENT_NAME.matcher(segment.getFileName().toString());
+        if (!matcher.matches()) {
+            throw new IllegalArgumentException("Not a journal segment: " + segment);
+        }
+        return Integer.parseInt(matcher.group(1));
+    }
+
+    /**
+     * Reads every complete record of a segment. A torn record at the end, left by a crash
+     * in the middle of a write, is ignored because its authorization was never acknowledged.
+     *
+     * @param segment the segment path
+     * @param consumer receives each record in order
+     * @throws IOException if the segment cannot be read
+     */
+    static void read(Path segment, Consumer<Entry> consumer) throws IOException {
+        ByteBuffer records = ByteBuffer.wrap(Files.readAllBytes(segment));
+
+        while (records.remaining() >= RECORD_SIZE) {
+            consumer.accept(new Entry(records.getLong(), records.getLong(), records.getLong()));
+        }
+    }
+
+    private void openSegment(long nextSequence) throws IOException {
+        Path next = directory.resolve(String.format("partition-%03d-%019d.journal", partitionId, nextSequence));
+        // Fields are only replaced once the segment exists, so a failed rotation keeps the sealed one current.
+        channel = FileChannel.open(next, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+        segment = next;
+        segmentRecords = 0;
+    }
+
+    private void write() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+}
@@ -0,0 +1,470 @@
+package com.ems.finance_tracker.service.authorization;
+
+import com.ems.finance_tracker.exception.ResourceNotFoundException;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.util.*;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongFunction;
+
+/**
+ * Single-writer partition of the authorization engine.
+ * <p>
+ * All state of the cards routed to a partition is owned by one thread, so authorizations are
+ * checked and applied without locks. Commands are processed in batches: every approval of a batch
+ * is appended to the journal, the journal is forced once, and only then are the callers answered.
+ * </p>
+ * <p>
+ * The partition thread never waits on the database: a card not in memory yet is loaded on a virtual
+ * thread, its authorizations are parked meanwhile, and the loaded limit is handed back as a command,
+ * so the other cards of the partition keep being served.
+ * </p>
+ * <p>
+ * Approved amounts wait in {@code pending} until the engine drains them to the database; drained
+ * amounts stay in {@code inFlight} until the engine confirms they are committed. A card loaded from
+ * the database adds both back, so its state never forgets an authorization not yet settled.
+ * </p>
+ * <p>
+ * When the journal fails, the batch is failed and its approvals are undone, the journal is truncated
+ * back to the last acknowledged record, and the partition resumes. Until the journal is recovered,
+ * new authorizations are rejected and {@link #isAvailable()} reports the partition as unavailable.
+ * </p>
+ *
+ * @author Evandro Machado
+ */
+@Slf4j
+final class AuthorizationPartition implements Runnable {
+
+    private static final long POLL_MILLIS = 100;
+
+    private static final long MAX_RECOVERY_BACKOFF_MILLIS = 10_000;
+
+    private final int id;
+    private final AuthorizationJournal journal;
+    private final LongFunction<OptionalLong> availableLimitLoader;
+    private final BlockingQueue<Command> commands;
+    private final int maxBatchSize;
+    private final ExecutorService loader;
+    private final Thread thread;
+
+    private final Map<Long, CardState> cards = new HashMap<>();
+    private final Map<Long, List<Authorize>> loading = new HashMap<>();
+    private final Map<Long, Long> pending = new HashMap<>();
+    private final Map<Long, Long> inFlight = new HashMap<>();
+    private final List<Acknowledgement<?>> acknowledgements = new ArrayList<>();
+    private final List<Authorize> unacknowledgedApprovals = new ArrayList<>();
+
+    private long lastSequence;
+    private long acknowledgedSequence;
+    private long settlements;
+    private volatile boolean running = true;
+    private volatile boolean recovering;
+
+    /**
+     * Result of one authorization.
+     *
+     * @param approved whether the amount was within the available limit
+     * @param sequence the journal sequence of an approval, or {@code 0} if declined
+     * @param availableLimitInCents the available limit after the authorization, in cents
+     */
+    record Result(boolean approved, long sequence, long availableLimitInCents) {}
+
+    /**
+     * Approved amounts handed to the engine to be settled in the database.
+     *
+     * @param partitionId the partition identifier
+     * @param deltas the net change of available limit per credit card, in cents
+     * @param lastSequence the last journal sequence covered by the deltas
+     */
+    record Drain(int partitionId, Map<Long, Long> deltas, long lastSequence) {}
+
+    private sealed interface Command permits Authorize, DrainRequest, Settled, DrainFailed, Loaded {}
+
+    private record Authorize(long creditCardId, long amountInCents, CompletableFuture<Result> result) implements Command {}
+
+    private record DrainRequest(CompletableFuture<Drain> result) implements Command {}
+
+    private record Settled(Set<Long> staleCards) implements Command {}
+
+    private record DrainFailed() implements Command {}
+
+    /**
+     * Persisted available limit of a card, loaded off the partition thread.
+     *
+     * @param creditCardId the credit card identifier
+     * @param settlements the number of settlements confirmed when the load started
+     * @param availableLimitInCents the persisted available limit, or empty if the card does not exist
+     * @param failure the load failure, or {@code null}
+     */
+    private record Loaded(long creditCardId,
+                          long settlements,
+                          OptionalLong availableLimitInCents,
+                          Throwable failure) implements Command {}
+
+    /**
+     * Answer to a command, given once the journal records it depends on are durable.
+     */
+    private record Acknowledgement<T>(CompletableFuture<T> result, T value) {
+        void complete() {
+            result.complete(value);
+        }
+    }
+
+    private static final class CardState {
+        private long availableLimitInCents;
+    }
+
+    /**
+     * Creates a partition and starts its thread.
+     *
+     * @param id the partition identifier
+     * @param journal the partition journal, positioned after {@code lastSequence}
+     * @param lastSequence the last sequence already used by this partition
+     * @param availableLimitLoader loads the persisted available limit of a card, in cents
+     * @param queueCapacity the maximum number of queued commands
+     * @param maxBatchSize the maximum number of commands processed per journal commit
+     */
+    AuthorizationPartition(int id,
+                           AuthorizationJournal journal,
+                           long lastSequence,
+                           LongFunction<OptionalLong> availableLimitLoader,
+                           int queueCapacity,
+                           int maxBatchSize) {
+        this.id = id;
+        this.journal = journal;
+        this.lastSequence = lastSequence;
+        this.acknowledgedSequence = lastSequence;
+        this.availableLimitLoader = availableLimitLoader;
+        this.commands = new ArrayBlockingQueue<>(queueCapacity);
+        this.maxBatchSize = maxBatchSize;
+        this.loader = Executors.newThreadPerTaskExecutor(
+                Thread.ofVirtual().name("authorization-loader-" + id + "-", 0).factory());
+        this.thread = Thread.ofPlatform().name("authorization-partition-" + id).start(this);
+    }
+
+    /**
+     * Queues the authorization of a purchase.
+     *
+     * @param creditCardId the credit card identifier
+     * @param amountInCents the purchase amount, in cents
+     * @return a future completed once the decision is durable
+     */
+    CompletableFuture<Result> authorize(long creditCardId, long amountInCents) {
+        CompletableFuture<Result> result = new CompletableFuture<>();
+        submit(new Authorize(creditCardId, amountInCents, result), result);
+        return result;
+    }
+
+    /**
+     * Hands the approved amounts over to be settled, sealing the current journal segment.
+     *
+     * @return a future completed with the amounts to settle
+     */
+    CompletableFuture<Drain> drain() {
+        CompletableFuture<Drain> result = new CompletableFuture<>();
+        submit(new DrainRequest(result), result);
+        return result;
+    }
+
+    /**
+     * Confirms that the last drain is committed, so its sealed journal segments can be deleted.
+     *
+     * @param staleCards cards whose database state diverged and must be reloaded
+     */
+    void settled(Set<Long> staleCards) {
+        enqueue(new Settled(staleCards));
+    }
+
+    /**
+     * Reports that the last drain was rolled back, so its amounts are drained again later.
+     */
+    void drainFailed() {
+        enqueue(new DrainFailed());
+    }
+
+    /**
+     * Returns whether the partition accepts authorizations: it is running and its journal is writable.
+     *
+     * @return {@code false} while the journal is being recovered or after the partition stopped
+     */
+    boolean isAvailable() {
+        return running && !recovering && thread.isAlive();
+    }
+
+    /**
+     * Stops the partition after the queued commands are processed.
+     *
+     * @throws InterruptedException if interrupted while waiting for the thread
+     */
+    void stop() throws InterruptedException {
+        running = false;
+        thread.join();
+    }
+
+    @Override
+    public void run() {
+        List<Command> batch = new ArrayList<>(maxBatchSize);
+
+        try (journal) {
+            while (running || !commands.isEmpty()) {
+                Command first = commands.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+
+                batch.add(first);
+                commands.drainTo(batch, maxBatchSize - 1);
+                try {
+                    process(batch);
+                } catch (IOException e) {
+                    recover(e);
+                }
+                batch.clear();
+            }
+            failQueued(new IllegalStateException("Authorization partition " + id + " is stopped."));
+        } catch (IOException | InterruptedException e) {
+            running = false;
+            failQueued(e);
+        } finally {
+            loader.shutdownNow();
+        }
+    }
+
+    private void process(List<Command> batch) throws IOException {
+        try {
+            for (Command command : batch) {
+                switch (command) {
+                    case Authorize authorize -> authorize(authorize);
+                    case DrainRequest drainRequest -> drain(drainRequest);
+                    case Settled settled -> settled(settled);
+                    case DrainFailed ignored -> requeueInFlight();
+                    case Loaded loaded -> loaded(loaded);
+                }
+            }
+
+            journal.commit();
+        } catch (IOException e) {
+            recovering = true;
+            for (Command command : batch) {
+                fail(command, e);
+            }
+            // Parked authorizations processed in this batch are only reachable through their answers.
+            acknowledgements.forEach(acknowledgement -> acknowledgement.result().completeExceptionally(
+                    new IllegalStateException("Authorization partition " + id + " failed.", e)));
+            throw e;
+        }
+
+        acknowledge();
+    }
+
+    private void authorize(Authorize command) throws IOException {
+        // Parked authorizations may have been failed with an earlier batch.
+        if (command.result().isDone()) {
+            return;
+        }
+
+        CardState card = cards.get(command.creditCardId());
+        if (card == null) {
+            park(command);
+            return;
+        }
+
+        if (card.availableLimitInCents < command.amountInCents()) {
+            Result declined = new Result(false, 0, card.availableLimitInCents);
+            acknowledgements.add(new Acknowledgement<>(command.result(), declined));
+            return;
+        }
+
+        card.availableLimitInCents -= command.amountInCents();
+        lastSequence++;
+        journal.append(new AuthorizationJournal.Entry(lastSequence, command.creditCardId(), command.amountInCents()));
+        pending.merge(command.creditCardId(), -command.amountInCents(), Long::sum);
+        unacknowledgedApprovals.add(command);
+
+        Result approved = new Result(true, lastSequence, card.availableLimitInCents);
+        acknowledgements.add(new Acknowledgement<>(command.result(), approved));
+    }
+
+    private void drain(DrainRequest command) throws IOException {
+        journal.rotate(lastSequence + 1);
+        // Rotating committed the approvals processed so far, so they are answered now.
+        acknowledge();
+
+        pending.forEach((creditCardId, delta) -> inFlight.merge(creditCardId, delta, Long::sum));
+        pending.clear();
+
+        Drain drain = new Drain(id, Map.copyOf(inFlight), lastSequence);
+        acknowledgements.add(new Acknowledgement<>(command.result(), drain));
+    }
+
+    private void settled(Settled command) throws IOException {
+        settlements++;
+        inFlight.clear();
+        command.staleCards().forEach(cards::remove);
+        journal.deleteSealedSegments();
+    }
+
+    private void requeueInFlight() {
+        inFlight.forEach((creditCardId, delta) -> pending.merge(creditCardId, delta, Long::sum));
+        inFlight.clear();
+    }
+
+    /**
+     * Parks an authorization of a card not in memory, starting the card's load unless one is running.
+     */
+    private void park(Authorize command) {
+        List<Authorize> waiting = loading.get(command.creditCardId());
+        if (waiting != null) {
+            waiting.add(command);
+            return;
+        }
+
+        waiting = new ArrayList<>();
+        waiting.add(command);
+        loading.put(command.creditCardId(), waiting);
+        load(command.creditCardId());
+    }
+
+    private void load(long creditCardId) {
+        long settlementsAtLoad = settlements;
+        loader.execute(() -> {
+            Loaded loaded;
+            try {
+                loaded = new Loaded(creditCardId, settlementsAtLoad, availableLimitLoader.apply(creditCardId), null);
+            } catch (RuntimeException e) {
+                loaded = new Loaded(creditCardId, settlementsAtLoad, OptionalLong.empty(), e);
+            }
+            enqueue(loaded);
+        });
+    }
+
+    /**
+     * Installs a loaded card and processes the authorizations parked for it.
+     */
+    private void loaded(Loaded command) throws IOException {
+        long creditCardId = command.creditCardId();
+        if (!loading.containsKey(creditCardId)) {
+            // A duplicate of a load restarted by a recovery, already installed.
+            return;
+        }
+
+        // A settlement confirmed during the load may be missing from the limit read, or counted twice.
+        if (command.failure() == null && command.settlements() != settlements) {
+            load(creditCardId);
+            return;
+        }
+
+        List<Authorize> waiting = loading.remove(creditCardId);
+        if (command.failure() != null || command.availableLimitInCents().isEmpty()) {
+            RuntimeException failure = command.failure() != null
+                    ? new IllegalStateException("Could not load credit card " + creditCardId + ".", command.failure())
+                    : new ResourceNotFoundException("Credit Card not found. ID = " + creditCardId);
+            waiting.forEach(authorize -> authorize.result().completeExceptionally(failure));
+            return;
+        }
+
+        CardState card = new CardState();
+        card.availableLimitInCents = command.availableLimitInCents().getAsLong()
+                + pending.getOrDefault(creditCardId, 0L)
+                + inFlight.getOrDefault(creditCardId, 0L);
+        cards.put(creditCardId, card);
+
+        for (Authorize authorize : waiting) {
+            authorize(authorize);
+        }
+    }
+
+    private void acknowledge() {
+        acknowledgedSequence = lastSequence;
+        unacknowledgedApprovals.clear();
+        acknowledgements.forEach(Acknowledgement::complete);
+        acknowledgements.clear();
+    }
+
+    /**
+     * Undoes the approvals of a failed batch and truncates the journal back to the last acknowledged
+     * record, retrying with a backoff until it succeeds or the partition is stopped.
+     *
+     * @throws IOException if the partition is stopped before the journal is recovered
+     * @throws InterruptedException if interrupted while waiting to retry
+     */
+    private void recover(IOException cause) throws IOException, InterruptedException {
+        log.error("Journal of authorization partition {} failed; recovering", id, cause);
+        recovering = true;
+
+        for (Authorize approval : unacknowledgedApprovals) {
+            CardState card = cards.get(approval.creditCardId());
+            if (card != null) {
+                card.availableLimitInCents += approval.amountInCents();
+            }
+            pending.merge(approval.creditCardId(), approval.amountInCents(), Long::sum);
+        }
+        unacknowledgedApprovals.clear();
+        acknowledgements.clear();
+        lastSequence = acknowledgedSequence;
+        // Loads whose result was dropped with the failed batch would leave their cards parked forever.
+        loading.keySet().forEach(this::load);
+
+        long backoff = POLL_MILLIS;
+        while (true) {
+            try {
+                journal.recover(acknowledgedSequence);
+                recovering = false;
+                log.info("Recovered the journal of authorization partition {}", id);
+                return;
+            } catch (IOException e) {
+                if (!running) {
+                    throw e;
+                }
+                log.warn("Could not recover the journal of authorization partition {}; retrying in {} ms", id, backoff, e);
+                Thread.sleep(backoff);
+                backoff = Math.min(backoff * 2, MAX_RECOVERY_BACKOFF_MILLIS);
+            }
+        }
+    }
+
+    private void submit(Command command, CompletableFuture<?> result) {
+        if (!running) {
+            result.completeExceptionally(new IllegalStateException("Authorization partition " + id + " is stopped."));
+        } else if (recovering) {
+            result.completeExceptionally(new IllegalStateException("Authorization partition " + id + " is recovering."));
+        } else if (!commands.offer(command)) {
+            result.completeExceptionally(new IllegalStateException("Authorization partition " + id + " is overloaded."));
+        }
+    }
+
+    private void enqueue(Command command) {
+        try {
+            commands.put(command);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void failQueued(Exception cause) {
+        List<Command> remaining = new ArrayList<>();
+        commands.drainTo(remaining);
+        remaining.forEach(command -> fail(command, cause));
+        loading.values().forEach(waiting -> waiting.forEach(authorize -> fail(authorize, cause)));
+        loading.clear();
+    }
+
+    private void fail(Command command, Exception cause) {
+        IllegalStateException failure =
+                new IllegalStateException("Authorization partition " + id + " failed.", cause);
+        switch (command) {
+            case Authorize authorize -> authorize.result().completeExceptionally(failure);
+            case DrainRequest drainRequest -> drainRequest.result().completeExceptionally(failure);
+            case Settled ignored -> { }
+            case DrainFailed ignored -> { }
+            case Loaded ignored -> { }
+        }
+    }
+
+}
@@ -0,0 +1,187 @@
+package com.ems.finance_tracker.service.parser;
+
+import com.ems.finance_tracker.exception.BusinessException;
+import com.ems.finance_tracker.model.enums.CreditCardTransactionType;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * {@link StatementParser} for CSV statement files.
+ * <p>
+ * Expected columns are {@code purchase_date, description, amount[, installment[, comment]]},
+ * separated by commas or semicolons. Dates may be ISO ({@code 2025-01-31}) or
+ * {@code dd/MM/yyyy}, installments use the {@code current/total} notation and an optional
+ * header line is skipped. Positive amounts are purchases and negative amounts are refunds.
+ * </p>
+ *
+ * @author Evandro Machado
+ */
+public class CsvStatementParser implements StatementParser {
+
+    private static final List<DateTimeFormatter> DATE_FORMATS = List.of(
+            DateTimeFormatter.ISO_LOCAL_DATE,
+            DateTimeFormatter.ofPattern("dd/MM/yyyy")
+    );
+
+    private static final Pattern INSTALLMENT = Pattern.compile("(\\d{1,3})\\s*/\\s*(\\d{1,3})");
+
+    private final BufferedReader reader;
+    private char delimiter;
+    private long lineNumber;
+    private long recordNumber;
+
+    public CsvStatementParser(BufferedReader reader) {
+        this.reader = reader;
+    }
+
+    @Override
+    public StatementRecord next() throws IOException {
+        String line;
+
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+
+            if (lineNumber == 1) {
+                line = line.replace("\uFEFF", "");
+            }
+
+            if (line.isBlank()) {
+                continue;
+            }
+
+            if (delimiter == 0) {
+                delimiter = (line.indexOf(';') >= 0 && line.indexOf(',') < 0) ? ';' : ',';
+            }
+
+            List<String> fields = split(line);
+
+            if (recordNumber == 0 && parseDate(fields.get(0)) == null) {
+                continue;
+            }
+
+            return toRecord(fields);
+        }
+
+        return null;
+    }
+
+    private StatementRecord toRecord(List<String> fields) {
+        if (fields.size() < 3) {
+            throw invalid("date, description and amount are required");
+        }
+
+        LocalDate purchaseDate = parseDate(fields.get(0));
+        if (purchaseDate == null) {
+            throw invalid("invalid date '" + fields.get(0).trim() + "'");
+        }
+
+        BigDecimal amount = parseAmount(fields.get(2));
+        if (amount.signum() == 0) {
+            throw invalid("amount must not be zero");
+        }
+
+        int currentInstallment = 1;
+        int totalInstallments = 1;
+        if (fields.size() > 3 && !fields.get(3).isBlank()) {
+            Matcher matcher = INSTALLMENT.matcher(fields.get(3).trim());
+            if (!matcher.matches()) {
+                throw invalid("invalid installment '" + fields.get(3).trim() + "'");
+            }
+            currentInstallment = Integer.parseInt(matcher.group(1));
+            totalInstallments = Integer.parseInt(matcher.group(2));
+        }
+
+        String comment = (fields.size() > 4 && !fields.get(4).isBlank()) ? fields.get(4).trim() : null;
+
+        recordNumber++;
+        return new StatementRecord(
+                recordNumber,
+                purchaseDate,
+                fields.get(1).trim(),
+                amount.signum() > 0 ? CreditCardTransactionType.PURCHASE : CreditCardTransactionType.REFUND,
+                amount.abs(),
+                currentInstallment,
+                totalInstallments,
+                comment
+        );
+    }
+
+    /**
+     * Splits a CSV line, honoring double-quoted fields and escaped quotes.
+     */
+    private List<String> split(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == delimiter) {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+
+        fields.add(field.toString());
+        return fields;
+    }
+
+    private LocalDate parseDate(String value) {
+        for (DateTimeFormatter format : DATE_FORMATS) {
+            try {
+                return LocalDate.parse(value.trim(), format);
+            } catch (DateTimeParseException ignored) {
+                // Try the next supported format.
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Parses an amount written with either a dot or a comma as decimal separator.
+     * The separator appearing last is taken as the decimal one.
+     */
+    private BigDecimal parseAmount(String value) {
+        String normalized = value.trim().replace(" ", "");
+
+        if (normalized.lastIndexOf(',') > normalized.lastIndexOf('.')) {
+            normalized = normalized.replace(".", "").replace(',', '.');
+        } else {
+            normalized = normalized.replace(",", "");
+        }
+
+        try {
+            return new BigDecimal(normalized);
+        } catch (NumberFormatException e) {
+            throw invalid("invalid amount '" + value.trim() + "'");
+        }
+    }
+
+    private BusinessException invalid(String reason) {
+        return new BusinessException(String.format("Invalid CSV record at line %d: %s.", lineNumber, reason));
+    }
+
+}
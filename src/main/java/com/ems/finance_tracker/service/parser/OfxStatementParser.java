@@ -0,0 +1,162 @@
+package com.ems.finance_tracker.service.parser;
+
+import com.ems.finance_tracker.exception.BusinessException;
+import com.ems.finance_tracker.model.enums.CreditCardTransactionType;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * {@link StatementParser} for OFX statement files.
+ * <p>
+ * Reads the file as a stream of tags, which covers both the SGML (1.x) variant, where
+ * element values are not closed, and the XML (2.x) variant. Each {@code STMTTRN} block
+ * becomes one record; negative {@code TRNAMT} values are purchases and positive values refunds.
+ * </p>
+ *
+ * @author Evandro Machado
+ */
+public class OfxStatementParser implements StatementParser {
+
+    private static final int MAX_VALUE_LENGTH = 255;
+
+    private static final String TRANSACTION_TAG = "STMTTRN";
+
+    private final BufferedReader reader;
+    private long recordNumber;
+
+    public OfxStatementParser(BufferedReader reader) {
+        this.reader = reader;
+    }
+
+    @Override
+    public StatementRecord next() throws IOException {
+        Map<String, String> fields = null;
+        String tag;
+
+        while ((tag = nextTag()) != null) {
+            if (tag.equals(TRANSACTION_TAG)) {
+                fields = new HashMap<>();
+            } else if (tag.equals("/" + TRANSACTION_TAG)) {
+                if (fields != null) {
+                    return toRecord(fields);
+                }
+            } else if (fields != null && !tag.startsWith("/")) {
+                fields.put(tag, readValue());
+            }
+        }
+
+        return null;
+    }
+
+    private StatementRecord toRecord(Map<String, String> fields) {
+        recordNumber++;
+
+        String name = fields.getOrDefault("NAME", "");
+        String memo = fields.getOrDefault("MEMO", "");
+        BigDecimal amount = parseAmount(fields.get("TRNAMT"));
+
+        if (amount.signum() == 0) {
+            throw invalid("amount must not be zero");
+        }
+
+        return new StatementRecord(
+                recordNumber,
+                parseDate(fields.get("DTPOSTED")),
+                name.isBlank() ? memo : name,
+                amount.signum() < 0 ? CreditCardTransactionType.PURCHASE : CreditCardTransactionType.REFUND,
+                amount.abs(),
+                1,
+                1,
+                (name.isBlank() || memo.isBlank() || memo.equals(name)) ? null : memo
+        );
+    }
+
+    /**
+     * Skips any text up to the next tag and returns its upper-cased name,
+     * or {@code null} at the end of the stream.
+     */
+    private String nextTag() throws IOException {
+        int c;
+        while ((c = reader.read()) != -1 && c != '<') {
+            // Skip headers and text outside of transaction values.
+        }
+
+        if (c == -1) {
+            return null;
+        }
+
+        StringBuilder tag = new StringBuilder();
+        while ((c = reader.read()) != -1 && c != '>') {
+            if (tag.length() < MAX_VALUE_LENGTH) {
+                tag.append((char) c);
+            }
+        }
+
+        return tag.toString().trim().toUpperCase(Locale.ROOT);
+    }
+
+    /**
+     * Reads the value of the current element, stopping before the next tag.
+     */
+    private String readValue() throws IOException {
+        StringBuilder value = new StringBuilder();
+
+        while (true) {
+            reader.mark(1);
+            int c = reader.read();
+
+            if (c == -1) {
+                break;
+            }
+            if (c == '<') {
+                reader.reset();
+                break;
+            }
+            if (value.length() < MAX_VALUE_LENGTH) {
+                value.append((char) c);
+            }
+        }
+
+        return value.toString().trim();
+    }
+
+    /**
+     * Parses an OFX date, which starts with {@code yyyyMMdd} optionally followed by time and zone.
+     */
+    private LocalDate parseDate(String value) {
+        if (value == null || value.length() < 8) {
+            throw invalid("missing or invalid DTPOSTED");
+        }
+
+        try {
+            return LocalDate.parse(value.substring(0, 8), DateTimeFormatter.BASIC_ISO_DATE);
+        } catch (DateTimeParseException e) {
+            throw invalid("invalid DTPOSTED '" + value + "'");
+        }
+    }
+
+    private BigDecimal parseAmount(String value) {
+        if (value == null || value.isBlank()) {
+            throw invalid("missing TRNAMT");
+        }
+
+        try {
+            return new BigDecimal(value.replace(',', '.'));
+        } catch (NumberFormatException e) {
+            throw invalid("invalid TRNAMT '" + value + "'");
+        }
+    }
+
+    private BusinessException invalid(String reason) {
+        return new BusinessException(String.format("Invalid OFX transaction %d: %s.", recordNumber, reason));
+    }
+
+}
@@ -0,0 +1,41 @@
+package com.ems.finance_tracker.service.parser;
+
+import com.ems.finance_tracker.model.enums.StatementImportFormat;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+
+/**
+ * Forward-only reader of {@link StatementRecord}s from a bank statement file.
+ * <p>
+ * Implementations read the underlying stream incrementally and never buffer the whole file.
+ * </p>
+ *
+ * @author Evandro Machado
+ */
+public interface StatementParser {
+
+    /**
+     * Reads the next transaction record.
+     *
+     * @return the next record, or {@code null} when the end of the file is reached
+     * @throws IOException if the stream cannot be read
+     * @throws com.ems.finance_tracker.exception.BusinessException if the record is malformed
+     */
+    StatementRecord next() throws IOException;
+
+    /**
+     * Creates the parser for the given file format.
+     *
+     * @param format the statement file format
+     * @param reader the reader over the statement file
+     * @return a parser reading records from {@code reader}
+     */
+    static StatementParser of(StatementImportFormat format, BufferedReader reader) {
+        return switch (format) {
+            case CSV -> new CsvStatementParser(reader);
+            case OFX -> new OfxStatementParser(reader);
+        };
+    }
+
+}
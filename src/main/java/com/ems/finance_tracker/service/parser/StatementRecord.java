@@ -0,0 +1,31 @@
+package com.ems.finance_tracker.service.parser;
+
+import com.ems.finance_tracker.model.enums.CreditCardTransactionType;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Transaction record read from a bank statement file.
+ *
+ * @param recordNumber the 1-based position of the record in the file, used as the resume checkpoint
+ * @param purchaseDate the purchase date
+ * @param description the transaction description as provided by the bank
+ * @param type the transaction type derived from the amount sign
+ * @param amount the absolute transaction amount
+ * @param currentInstallment the current installment, 1 for single payments
+ * @param totalInstallments the total installments, 1 for single payments
+ * @param comment an optional free-text comment
+ *
+ * @author Evandro Machado
+ */
+public record StatementRecord(
+        long recordNumber,
+        LocalDate purchaseDate,
+        String description,
+        CreditCardTransactionType type,
+        BigDecimal amount,
+        int currentInstallment,
+        int totalInstallments,
+        String comment
+) {}
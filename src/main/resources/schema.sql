@@ -0,0 +1,45 @@
+-- Objects Hibernate's schema update cannot create. Runs after it on every startup, so each statement is idempotent.
+
+-- Transaction search: prefix full-text matching on search_vector, fuzzy matching on trigrams.
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+ALTER TABLE credit_card_transactions
+    ADD COLUMN IF NOT EXISTS search_vector tsvector
+        GENERATED ALWAYS AS (to_tsvector('simple', description || ' ' || coalesce(comment, ''))) STORED;
+
+CREATE INDEX IF NOT EXISTS idx_credit_card_transactions_search_vector
+    ON credit_card_transactions USING gin (search_vector);
+
+CREATE INDEX IF NOT EXISTS idx_credit_card_transactions_search_text_trgm
+    ON credit_card_transactions USING gin ((description || ' ' || coalesce(comment, '')) gin_trgm_ops);
+
+-- Transaction identifiers moved from an identity column to credit_card_transactions_seq, which Hibernate's
+-- schema update creates at 1. Moves the sequence past the existing rows; a no-op once it already is.
+SELECT setval('credit_card_transactions_seq',
+              GREATEST((SELECT coalesce(max(id), 0) FROM credit_card_transactions) + 50,
+                       nextval('credit_card_transactions_seq')));
+
+-- Purchase date range filters are served by the (purchase_date, id) B-tree, which the planner always
+-- preferred over this BRIN index.
+DROP INDEX IF EXISTS idx_credit_card_transactions_purchase_date_brin;
+
+-- Statement reference months were stored as serialized YearMonth objects before YearMonthConverter.
+-- Converts them once to yyyy-MM text: the serialized form ends with the year as a 4-byte integer,
+-- the month as one byte and an end-of-block marker. The DO body is single-quoted so the script
+-- runner does not split it.
+DO '
+BEGIN
+    IF (SELECT data_type FROM information_schema.columns
+        WHERE table_schema = current_schema()
+          AND table_name = ''credit_card_statements''
+          AND column_name = ''reference_month'') = ''bytea'' THEN
+        ALTER TABLE credit_card_statements ALTER COLUMN reference_month TYPE varchar(7)
+            USING to_char(make_date(
+                (get_byte(reference_month, length(reference_month) - 6) << 24)
+                    | (get_byte(reference_month, length(reference_month) - 5) << 16)
+                    | (get_byte(reference_month, length(reference_month) - 4) << 8)
+                    | get_byte(reference_month, length(reference_month) - 3),
+                get_byte(reference_month, length(reference_month) - 2),
+                1), ''YYYY-MM'');
+    END IF;
+END';
@@ -0,0 +1,18 @@
+package com.ems.finance_tracker.benchmark;
+
+import org.springframework.test.context.TestPropertySource;
+
+/**
+ * Runs the {@link ThreadModelBenchmark} with requests handled on Tomcat's platform thread pool.
+ *
+ * @author Evandro Machado
+ */
+@TestPropertySource(properties = "spring.threads.virtual.enabled=false")
+class PlatformThreadsBenchmark extends ThreadModelBenchmark {
+
+    @Override
+    String threadModel() {
+        return "Platform";
+    }
+
+}
@@ -0,0 +1,235 @@
+package com.ems.finance_tracker.benchmark;
+
+import com.ems.finance_tracker.TestcontainersConfiguration;
+import com.ems.finance_tracker.dto.CategoryDTO;
+import com.ems.finance_tracker.dto.CreditCardDTO;
+import com.ems.finance_tracker.dto.UserDTO;
+import com.ems.finance_tracker.service.CategoryService;
+import com.ems.finance_tracker.service.CreditCardService;
+import com.ems.finance_tracker.service.UserService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Load test of the CRUD endpoints at high concurrency, run once per thread model by its subclasses.
+ * <p>
+ * Every client has its own credit card, so clients do not queue on one card's row lock, and repeatedly
+ * creates a transaction on it, reads it, deletes it and reads the card, so the card's available limit
+ * stays constant for the whole run. Requests go over HTTP to the embedded server, authenticated with a
+ * JWT, and each request's latency is recorded after a warm-up. The throughput, median and 99th percentile
+ * latencies and error count are logged per thread model.
+ * </p>
+ * <p>
+ * Excluded from the default build; run with {@code mvn test -Pbenchmark}. The load is tuned with the
+ * {@code benchmark.clients}, {@code benchmark.warm-up} and {@code benchmark.duration} system properties.
+ * </p>
+ *
+ * @author Evandro Machado
+ */
+@Slf4j
+@Tag("benchmark")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@Testcontainers(disabledWithoutDocker = true)
+@Import(TestcontainersConfiguration.class)
+@ActiveProfiles("test")
+abstract class ThreadModelBenchmark {
+
+    private static final int CLIENTS = Integer.getInteger("benchmark.clients", 400);
+    private static final Duration WARM_UP = Duration.parse(System.getProperty("benchmark.warm-up", "PT10S"));
+    private static final Duration DURATION = Duration.parse(System.getProperty("benchmark.duration", "PT30S"));
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .build();
+
+    @LocalServerPort
+    private int port;
+
+    @Value("${security.config.key}")
+    private String key;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private CreditCardService creditCardService;
+
+    @Autowired
+    private CategoryService categoryService;
+
+    private String authorization;
+    private List<Long> creditCardIds;
+    private Long categoryId;
+
+    /**
+     * Latencies and errors of the requests sent by one client during the measured period.
+     */
+    private static final class ClientResults {
+        private final List<Long> latencyNanos = new ArrayList<>();
+        private long errors;
+    }
+
+    /**
+     * @return the thread model under test, as logged with the results
+     */
+    abstract String threadModel();
+
+    @Test
+    void crudEndpoints() throws Exception {
+        createFixtures();
+
+        Instant measureFrom = Instant.now().plus(WARM_UP);
+        Instant measureUntil = measureFrom.plus(DURATION);
+
+        List<ClientResults> results = new ArrayList<>(CLIENTS);
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < CLIENTS; i++) {
+                ClientResults clientResults = new ClientResults();
+                Long creditCardId = creditCardIds.get(i);
+                results.add(clientResults);
+                clients.submit(() -> runClient(clientResults, creditCardId, measureFrom, measureUntil));
+            }
+        }
+
+        long[] latencies = results.stream()
+                .flatMap(clientResults -> clientResults.latencyNanos.stream())
+                .mapToLong(Long::longValue)
+                .sorted()
+                .toArray();
+        long errors = results.stream().mapToLong(clientResults -> clientResults.errors).sum();
+
+        log.info(String.format("%s threads, %d clients: %d requests in %ds, %.0f req/s, p50 %.1f ms, p99 %.1f ms, %d errors",
+                threadModel(), CLIENTS, latencies.length, DURATION.toSeconds(),
+                latencies.length / (double) DURATION.toSeconds(),
+                percentile(latencies, 0.50) / 1e6, percentile(latencies, 0.99) / 1e6, errors));
+
+        assertThat(latencies).isNotEmpty();
+    }
+
+    private Void runClient(ClientResults results, Long creditCardId, Instant measureFrom, Instant measureUntil) {
+        String purchase = """
+                {"description": "Benchmark purchase", "type": "PURCHASE", "amount": 1.00, "isInstallment": false,
+                 "currentInstallment": 1, "totalInstallments": 1, "purchaseDate": "%s",
+                 "creditCard": {"id": %d}, "category": {"id": %d}}
+                """.formatted(LocalDate.now(), creditCardId, categoryId);
+
+        Instant now;
+        while ((now = Instant.now()).isBefore(measureUntil)) {
+            boolean measured = !now.isBefore(measureFrom);
+
+            HttpResponse<String> created = send(results, measured, request("/credit-card-transactions")
+                    .POST(HttpRequest.BodyPublishers.ofString(purchase)));
+            if (created == null || created.statusCode() != 201) {
+                continue;
+            }
+
+            String transaction = "/credit-card-transactions/" + id(created);
+            send(results, measured, request(transaction).GET());
+            send(results, measured, request(transaction).DELETE());
+            send(results, measured, request("/credit-cards/" + creditCardId).GET());
+        }
+        return null;
+    }
+
+    /**
+     * Sends a request, recording its latency and whether it failed when measured.
+     *
+     * @return the response, or {@code null} if the request could not be sent
+     */
+    private HttpResponse<String> send(ClientResults results, boolean measured, HttpRequest.Builder request) {
+        long start = System.nanoTime();
+        HttpResponse<String> response;
+        try {
+            response = httpClient.send(request.build(), HttpResponse.BodyHandlers.ofString());
+        } catch (IOException e) {
+            response = null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+
+        if (measured) {
+            results.latencyNanos.add(System.nanoTime() - start);
+            if (response == null || response.statusCode() >= 400) {
+                results.errors++;
+            }
+        }
+        return response;
+    }
+
+    private HttpRequest.Builder request(String path) {
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                .header(HttpHeaders.AUTHORIZATION, authorization)
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE);
+    }
+
+    private long id(HttpResponse<String> response) {
+        try {
+            JsonNode body = objectMapper.readTree(response.body());
+            return body.get("id").asLong();
+        } catch (IOException e) {
+            throw new IllegalStateException("Unexpected response: " + response.body(), e);
+        }
+    }
+
+    private void createFixtures() {
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        UserDTO.Response user = userService.saveUser(
+                new UserDTO.Request("Benchmark " + suffix, suffix + "@example.com", "password-" + suffix));
+        BigDecimal limit = new BigDecimal("1000000000.00");
+        creditCardIds = new ArrayList<>(CLIENTS);
+        for (int i = 0; i < CLIENTS; i++) {
+            creditCardIds.add(creditCardService.saveCreditCard(new CreditCardDTO.Request(
+                    "Card " + suffix + "-" + i, limit, 10, 20, limit,
+                    new CreditCardDTO.UserRef(user.id(), user.name()))).id());
+        }
+        categoryId = categoryService.saveCategory(new CategoryDTO.Request("Category " + suffix)).id();
+
+        Instant now = Instant.now();
+        authorization = "Bearer " + Jwts.builder()
+                .subject(user.email())
+                .issuedAt(Date.from(now))
+                .expiration(Date.from(now.plus(Duration.ofHours(1))))
+                .signWith(Keys.hmacShaKeyFor(key.getBytes(StandardCharsets.UTF_8)))
+                .compact();
+    }
+
+    private static long percentile(long[] sorted, double percentile) {
+        return sorted.length == 0 ? 0 : sorted[(int) Math.ceil(percentile * sorted.length) - 1];
+    }
+
+}
@@ -0,0 +1,56 @@
+package com.ems.finance_tracker.controller;
+
+import com.ems.finance_tracker.config.SecurityConfig;
+import com.ems.finance_tracker.exception.ServiceOverloadedException;
+import com.ems.finance_tracker.security.JwtService;
+import com.ems.finance_tracker.service.UserService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.Duration;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Checks how user registration is answered when the password hashing pool is saturated.
+ *
+ * @author Evandro Machado
+ */
+@WebMvcTest(UserController.class)
+@Import(SecurityConfig.class)
+class UserControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private UserService userService;
+
+    @MockitoBean
+    private JwtService jwtService;
+
+    @Test
+    void registrationIsAnswered503WithRetryAfterWhenHashingIsOverloaded() throws Exception {
+        when(userService.saveUser(any())).thenThrow(new ServiceOverloadedException(
+                "Too many registrations in progress. Please retry later.", Duration.ofSeconds(5)));
+
+        mockMvc.perform(post("/users")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"name": "New user", "email": "new.user@example.com", "password": "a-long-password"}
+                                """))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string(HttpHeaders.RETRY_AFTER, "5"));
+    }
+
+}
@@ -0,0 +1,109 @@
+package com.ems.finance_tracker.repository;
+
+import com.ems.finance_tracker.TestcontainersConfiguration;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks with {@code EXPLAIN} that the transaction filters and keyset pages are served by the indexes
+ * declared for them.
+ * <p>
+ * The queries have the shape generated by
+ * {@link com.ems.finance_tracker.repository.specification.CreditCardTransactionSpecifications}: criteria
+ * on the foreign key columns, an order by purchase date or identifier and the page limit. Sequential
+ * scans are disabled within each plan's transaction, so the assertions do not depend on the size of
+ * the test data.
+ * </p>
+ *
+ * @author Evandro Machado
+ */
+@SpringBootTest
+@Testcontainers(disabledWithoutDocker = true)
+@Import(TestcontainersConfiguration.class)
+@ActiveProfiles("test")
+class CreditCardTransactionIndexTest {
+
+    private static final LocalDate FROM = LocalDate.of(2025, 1, 1);
+    private static final LocalDate TO = LocalDate.of(2025, 3, 31);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void creditCardFilterUsesCardPurchaseDateIndex() {
+        assertThat(explain("""
+                SELECT * FROM credit_card_transactions
+                WHERE credit_card_id = ? AND purchase_date >= ? AND purchase_date <= ?
+                ORDER BY purchase_date, id
+                LIMIT 51""", 1L, FROM, TO))
+                .contains("idx_credit_card_transactions_card_purchase_date_id");
+    }
+
+    @Test
+    void statementFilterUsesStatementIndex() {
+        assertThat(explain("""
+                SELECT * FROM credit_card_transactions
+                WHERE statement_id = ? AND id > ?
+                ORDER BY id
+                LIMIT 51""", 1L, 0L))
+                .contains("idx_credit_card_transactions_statement_id");
+    }
+
+    @Test
+    void categoryFilterUsesCategoryPurchaseDateIndex() {
+        assertThat(explain("""
+                SELECT * FROM credit_card_transactions
+                WHERE category_id = ? AND purchase_date >= ? AND purchase_date <= ?
+                ORDER BY purchase_date, id
+                LIMIT 51""", 1L, FROM, TO))
+                .contains("idx_credit_card_transactions_category_purchase_date_id");
+    }
+
+    @Test
+    void purchaseDateKeysetPageStartsTheIndexScanAtTheCursor() {
+        assertThat(explain("""
+                SELECT * FROM credit_card_transactions
+                WHERE purchase_date >= ? AND (purchase_date > ? OR (purchase_date = ? AND id > ?))
+                ORDER BY purchase_date, id
+                LIMIT 51""", FROM, FROM, FROM, 100L))
+                .contains("Index Scan using idx_credit_card_transactions_purchase_date_id")
+                .containsPattern("Index Cond: \\(purchase_date >= ");
+    }
+
+    @Test
+    void purchaseDateRangeUsesPurchaseDateIndex() {
+        assertThat(explain("""
+                SELECT * FROM credit_card_transactions
+                WHERE purchase_date >= ? AND purchase_date <= ?""", FROM, TO))
+                .contains("idx_credit_card_transactions_purchase_date_id");
+    }
+
+    /**
+     * Plans a query with sequential scans disabled, in a transaction that is rolled back.
+     *
+     * @param sql the query to plan
+     * @param args the query parameters
+     * @return the text of the plan
+     */
+    private String explain(String sql, Object... args) {
+        return transactionTemplate.execute(status -> {
+            status.setRollbackOnly();
+            jdbcTemplate.execute("SET LOCAL enable_seqscan = off");
+            return String.join("\n", jdbcTemplate.queryForList("EXPLAIN (COSTS OFF) " + sql, String.class, args));
+        });
+    }
+
+}
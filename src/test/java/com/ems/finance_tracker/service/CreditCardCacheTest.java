@@ -0,0 +1,82 @@
+package com.ems.finance_tracker.service;
+
+import com.ems.finance_tracker.TestcontainersConfiguration;
+import com.ems.finance_tracker.dto.CategoryDTO;
+import com.ems.finance_tracker.dto.CreditCardDTO;
+import com.ems.finance_tracker.dto.CreditCardTransactionDTO;
+import com.ems.finance_tracker.dto.UserDTO;
+import com.ems.finance_tracker.model.entity.CreditCard;
+import com.ems.finance_tracker.model.enums.CreditCardTransactionType;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks that a limit update evicts only its own card from the {@code credit-cards} region.
+ *
+ * @author Evandro Machado
+ */
+@SpringBootTest
+@Testcontainers(disabledWithoutDocker = true)
+@Import(TestcontainersConfiguration.class)
+@ActiveProfiles("test")
+class CreditCardCacheTest {
+
+    @Autowired
+    private CreditCardTransactionService creditCardTransactionService;
+
+    @Autowired
+    private CreditCardService creditCardService;
+
+    @Autowired
+    private CategoryService categoryService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void purchaseEvictsOnlyItsOwnCard() {
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        UserDTO.Response user = userService.saveUser(
+                new UserDTO.Request("Cached " + suffix, suffix + "@example.com", "password-" + suffix));
+        Long purchased = saveCreditCard(user, "Purchased " + suffix);
+        Long untouched = saveCreditCard(user, "Untouched " + suffix);
+        Long categoryId = categoryService.saveCategory(new CategoryDTO.Request("Category " + suffix)).id();
+
+        creditCardService.findCreditCardById(purchased);
+        creditCardService.findCreditCardById(untouched);
+        assertThat(entityManagerFactory.getCache().contains(CreditCard.class, untouched)).isTrue();
+
+        creditCardTransactionService.saveCreditCardTransaction(new CreditCardTransactionDTO.Request(
+                "Purchase", CreditCardTransactionType.PURCHASE, new BigDecimal("25.00"), false, 1, 1,
+                LocalDate.now(), null,
+                new CreditCardTransactionDTO.CreditCardRef(purchased),
+                new CreditCardTransactionDTO.CategoryRef(categoryId),
+                null));
+
+        assertThat(entityManagerFactory.getCache().contains(CreditCard.class, purchased)).isFalse();
+        assertThat(entityManagerFactory.getCache().contains(CreditCard.class, untouched)).isTrue();
+        assertThat(creditCardService.findCreditCardById(purchased).availableLimit())
+                .isEqualByComparingTo("975.00");
+    }
+
+    private Long saveCreditCard(UserDTO.Response user, String name) {
+        return creditCardService.saveCreditCard(new CreditCardDTO.Request(
+                name, new BigDecimal("1000.00"), 10, 20, new BigDecimal("1000.00"),
+                new CreditCardDTO.UserRef(user.id(), user.name()))).id();
+    }
+
+}
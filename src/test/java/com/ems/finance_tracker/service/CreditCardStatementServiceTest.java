@@ -0,0 +1,84 @@
+package com.ems.finance_tracker.service;
+
+import com.ems.finance_tracker.TestcontainersConfiguration;
+import com.ems.finance_tracker.dto.CategoryDTO;
+import com.ems.finance_tracker.dto.CreditCardDTO;
+import com.ems.finance_tracker.dto.CreditCardTransactionDTO;
+import com.ems.finance_tracker.dto.UserDTO;
+import com.ems.finance_tracker.exception.BusinessException;
+import com.ems.finance_tracker.model.enums.CreditCardTransactionType;
+import com.ems.finance_tracker.repository.CreditCardStatementRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Checks that a statement is only deleted once its transactions are, so their spending and limit
+ * impact are never dropped with it.
+ *
+ * @author Evandro Machado
+ */
+@SpringBootTest
+@Testcontainers(disabledWithoutDocker = true)
+@Import(TestcontainersConfiguration.class)
+@ActiveProfiles("test")
+class CreditCardStatementServiceTest {
+
+    @Autowired
+    private CreditCardStatementService creditCardStatementService;
+
+    @Autowired
+    private CreditCardTransactionService creditCardTransactionService;
+
+    @Autowired
+    private CreditCardService creditCardService;
+
+    @Autowired
+    private CategoryService categoryService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private CreditCardStatementRepository creditCardStatementRepository;
+
+    @Test
+    void statementWithTransactionsIsOnlyDeletedOnceTheyAre() {
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        UserDTO.Response user = userService.saveUser(
+                new UserDTO.Request("Holder " + suffix, suffix + "@example.com", "password-" + suffix));
+        BigDecimal limit = new BigDecimal("1000.00");
+        CreditCardDTO.Response creditCard = creditCardService.saveCreditCard(new CreditCardDTO.Request(
+                "Card " + suffix, limit, 10, 20, limit, new CreditCardDTO.UserRef(user.id(), user.name())));
+        Long categoryId = categoryService.saveCategory(new CategoryDTO.Request("Category " + suffix)).id();
+
+        CreditCardTransactionDTO.Response transaction = creditCardTransactionService.saveCreditCardTransaction(
+                new CreditCardTransactionDTO.Request(
+                        "Purchase", CreditCardTransactionType.PURCHASE, new BigDecimal("10.00"), false, 1, 1,
+                        LocalDate.now(), null,
+                        new CreditCardTransactionDTO.CreditCardRef(creditCard.id()),
+                        new CreditCardTransactionDTO.CategoryRef(categoryId),
+                        null));
+        Long statementId = transaction.statement().id();
+
+        assertThatThrownBy(() -> creditCardStatementService.deleteCreditCardStatement(statementId))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining("still has transactions");
+
+        creditCardTransactionService.deleteCreditCardTransaction(transaction.id());
+        creditCardStatementService.deleteCreditCardStatement(statementId);
+
+        assertThat(creditCardStatementRepository.existsById(statementId)).isFalse();
+    }
+
+}
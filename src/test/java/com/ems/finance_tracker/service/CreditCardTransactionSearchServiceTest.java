@@ -0,0 +1,119 @@
+package com.ems.finance_tracker.service;
+
+import com.ems.finance_tracker.TestcontainersConfiguration;
+import com.ems.finance_tracker.dto.CategoryDTO;
+import com.ems.finance_tracker.dto.CreditCardDTO;
+import com.ems.finance_tracker.dto.CreditCardTransactionDTO;
+import com.ems.finance_tracker.dto.UserDTO;
+import com.ems.finance_tracker.model.enums.CreditCardTransactionType;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks the prefix, fuzzy and ranked matching of transaction search, scoped to one user.
+ *
+ * @author Evandro Machado
+ */
+@SpringBootTest
+@Testcontainers(disabledWithoutDocker = true)
+@Import(TestcontainersConfiguration.class)
+@ActiveProfiles("test")
+class CreditCardTransactionSearchServiceTest {
+
+    @Autowired
+    private CreditCardTransactionSearchService creditCardTransactionSearchService;
+
+    @Autowired
+    private CreditCardTransactionService creditCardTransactionService;
+
+    @Autowired
+    private CreditCardService creditCardService;
+
+    @Autowired
+    private CategoryService categoryService;
+
+    @Autowired
+    private UserService userService;
+
+    @Test
+    void prefixOfAWordMatches() {
+        Owner owner = createOwner();
+        Long amazon = purchase(owner, "Amazon Prime", null);
+        purchase(owner, "Grocery store", null);
+
+        assertThat(search(owner, "amaz")).containsExactly(amazon);
+    }
+
+    @Test
+    void commentIsSearchedToo() {
+        Owner owner = createOwner();
+        Long withComment = purchase(owner, "Online order", "Amazon gift");
+        purchase(owner, "Online order", null);
+
+        assertThat(search(owner, "amazon")).containsExactly(withComment);
+    }
+
+    @Test
+    void misspelledWordMatchesFuzzily() {
+        Owner owner = createOwner();
+        Long misspelled = purchase(owner, "Marketplce refund", null);
+
+        assertThat(search(owner, "marketplace")).containsExactly(misspelled);
+    }
+
+    @Test
+    void exactMatchesRankAboveFuzzyOnesAndOtherUsersAreExcluded() {
+        Owner owner = createOwner();
+        Long fuzzy = purchase(owner, "Marketplce refund", null);
+        Long exact = purchase(owner, "Marketplace order", null);
+        purchase(owner, "Grocery store", null);
+        purchase(createOwner(), "Marketplace order", null);
+
+        assertThat(search(owner, "marketplace")).containsExactly(exact, fuzzy);
+    }
+
+    private List<Long> search(Owner owner, String term) {
+        return creditCardTransactionSearchService.searchCreditCardTransactions(owner.userId(), term, null, null)
+                .content().stream()
+                .map(CreditCardTransactionDTO.Response::id)
+                .toList();
+    }
+
+    private Long purchase(Owner owner, String description, String comment) {
+        return creditCardTransactionService.saveCreditCardTransaction(new CreditCardTransactionDTO.Request(
+                description, CreditCardTransactionType.PURCHASE, BigDecimal.TEN, false, 1, 1,
+                LocalDate.now(), comment,
+                new CreditCardTransactionDTO.CreditCardRef(owner.creditCardId()),
+                new CreditCardTransactionDTO.CategoryRef(owner.categoryId()),
+                null)).id();
+    }
+
+    /**
+     * User with one credit card and one category to record purchases with.
+     */
+    private record Owner(Long userId, Long creditCardId, Long categoryId) {}
+
+    private Owner createOwner() {
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        UserDTO.Response user = userService.saveUser(
+                new UserDTO.Request("Searcher " + suffix, suffix + "@example.com", "password-" + suffix));
+        CreditCardDTO.Response creditCard = creditCardService.saveCreditCard(new CreditCardDTO.Request(
+                "Card " + suffix, new BigDecimal("1000.00"), 10, 20, new BigDecimal("1000.00"),
+                new CreditCardDTO.UserRef(user.id(), user.name())));
+        CategoryDTO.Response category = categoryService.saveCategory(new CategoryDTO.Request("Category " + suffix));
+
+        return new Owner(user.id(), creditCard.id(), category.id());
+    }
+
+}
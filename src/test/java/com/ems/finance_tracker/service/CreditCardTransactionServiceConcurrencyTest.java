@@ -0,0 +1,138 @@
+package com.ems.finance_tracker.service;
+
+import com.ems.finance_tracker.TestcontainersConfiguration;
+import com.ems.finance_tracker.dto.CategoryDTO;
+import com.ems.finance_tracker.dto.CreditCardDTO;
+import com.ems.finance_tracker.dto.CreditCardTransactionDTO;
+import com.ems.finance_tracker.dto.UserDTO;
+import com.ems.finance_tracker.exception.BusinessException;
+import com.ems.finance_tracker.model.enums.CreditCardTransactionType;
+import com.ems.finance_tracker.repository.CreditCardRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Fires purchases at one credit card from many writers at once and checks that the atomic
+ * {@code available_limit} updates neither lose a purchase nor let the card go over its limit.
+ *
+ * @author Evandro Machado
+ */
+@SpringBootTest
+@Testcontainers(disabledWithoutDocker = true)
+@Import(TestcontainersConfiguration.class)
+@ActiveProfiles("test")
+class CreditCardTransactionServiceConcurrencyTest {
+
+    private static final int WRITERS = 64;
+    private static final BigDecimal AMOUNT = new BigDecimal("10.00");
+
+    @Autowired
+    private CreditCardTransactionService creditCardTransactionService;
+
+    @Autowired
+    private CreditCardService creditCardService;
+
+    @Autowired
+    private CategoryService categoryService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private CreditCardRepository creditCardRepository;
+
+    @Test
+    void concurrentPurchasesWithinTheLimitAreAllApplied() throws Exception {
+        CreditCardDTO.Response creditCard = createCreditCard(new BigDecimal("1000.00"));
+        Long categoryId = createCategory();
+
+        List<Throwable> failures = purchaseConcurrently(creditCard.id(), categoryId);
+
+        assertThat(failures).isEmpty();
+        assertThat(availableLimit(creditCard.id())).isEqualByComparingTo("360.00");
+    }
+
+    @Test
+    void concurrentPurchasesOverTheLimitAreRejected() throws Exception {
+        CreditCardDTO.Response creditCard = createCreditCard(new BigDecimal("100.00"));
+        Long categoryId = createCategory();
+
+        List<Throwable> failures = purchaseConcurrently(creditCard.id(), categoryId);
+
+        assertThat(failures).hasSize(WRITERS - 10).allMatch(BusinessException.class::isInstance);
+        assertThat(availableLimit(creditCard.id())).isEqualByComparingTo("0.00");
+    }
+
+    /**
+     * Runs one purchase of {@link #AMOUNT} per writer, all released at the same time.
+     *
+     * @return the exceptions of the rejected purchases
+     */
+    private List<Throwable> purchaseConcurrently(Long creditCardId, Long categoryId) throws InterruptedException {
+        CreditCardTransactionDTO.Request request = new CreditCardTransactionDTO.Request(
+                "Concurrent purchase", CreditCardTransactionType.PURCHASE, AMOUNT, false, 1, 1,
+                LocalDate.now(), null,
+                new CreditCardTransactionDTO.CreditCardRef(creditCardId),
+                new CreditCardTransactionDTO.CategoryRef(categoryId),
+                null);
+
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> purchases = new ArrayList<>(WRITERS);
+        try (ExecutorService executor = Executors.newFixedThreadPool(WRITERS)) {
+            for (int i = 0; i < WRITERS; i++) {
+                purchases.add(executor.submit(() -> {
+                    start.await();
+                    return creditCardTransactionService.saveCreditCardTransaction(request);
+                }));
+            }
+            start.countDown();
+        }
+
+        List<Throwable> failures = new ArrayList<>();
+        for (Future<?> purchase : purchases) {
+            try {
+                purchase.get();
+            } catch (ExecutionException e) {
+                failures.add(e.getCause());
+            }
+        }
+        return failures;
+    }
+
+    private CreditCardDTO.Response createCreditCard(BigDecimal creditLimit) {
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        UserDTO.Response user = userService.saveUser(
+                new UserDTO.Request("Writer " + suffix, suffix + "@example.com", "password-" + suffix));
+
+        return creditCardService.saveCreditCard(new CreditCardDTO.Request(
+                "Card " + suffix, creditLimit, 10, 20, creditLimit,
+                new CreditCardDTO.UserRef(user.id(), user.name())));
+    }
+
+    private Long createCategory() {
+        return categoryService.saveCategory(
+                new CategoryDTO.Request("Category " + UUID.randomUUID().toString().substring(0, 8))).id();
+    }
+
+    private BigDecimal availableLimit(Long creditCardId) {
+        return creditCardRepository.findAvailableLimitById(creditCardId).orElseThrow();
+    }
+
+}
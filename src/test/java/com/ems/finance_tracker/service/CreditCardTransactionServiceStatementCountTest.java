@@ -0,0 +1,95 @@
+package com.ems.finance_tracker.service;
+
+import com.ems.finance_tracker.TestcontainersConfiguration;
+import com.ems.finance_tracker.dto.CategoryDTO;
+import com.ems.finance_tracker.dto.CreditCardDTO;
+import com.ems.finance_tracker.dto.CreditCardTransactionDTO;
+import com.ems.finance_tracker.dto.UserDTO;
+import com.ems.finance_tracker.model.enums.CreditCardTransactionType;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Pins the number of SQL statements of a purchase once the category cache and the statement
+ * calendar are warm, counted with Hibernate {@link Statistics}.
+ * <p>
+ * A purchase costs the card {@code SELECT}, the transaction {@code INSERT}, the statement totals
+ * {@code UPDATE}, the spending upsert, the {@code available_limit} {@code UPDATE} and the ledger
+ * {@code INSERT}. Transaction identifiers come from a pooled sequence with an allocation size of 50,
+ * so 50 consecutive purchases fetch exactly one block of identifiers.
+ * </p>
+ *
+ * @author Evandro Machado
+ */
+@SpringBootTest
+@Testcontainers(disabledWithoutDocker = true)
+@Import(TestcontainersConfiguration.class)
+@ActiveProfiles("test")
+class CreditCardTransactionServiceStatementCountTest {
+
+    private static final int STATEMENTS_PER_PURCHASE = 6;
+    private static final int PURCHASES = 50;
+
+    @Autowired
+    private CreditCardTransactionService creditCardTransactionService;
+
+    @Autowired
+    private CreditCardService creditCardService;
+
+    @Autowired
+    private CategoryService categoryService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void warmPurchaseRunsSixStatements() {
+        CreditCardTransactionDTO.Request request = purchaseRequest();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        // Loads the category snapshot and resolves, or creates, the statement of the cycle.
+        creditCardTransactionService.saveCreditCardTransaction(request);
+
+        statistics.clear();
+        for (int i = 0; i < PURCHASES; i++) {
+            creditCardTransactionService.saveCreditCardTransaction(request);
+        }
+
+        assertThat(statistics.getPrepareStatementCount())
+                .isEqualTo(PURCHASES * STATEMENTS_PER_PURCHASE + 1L);
+    }
+
+    private CreditCardTransactionDTO.Request purchaseRequest() {
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        UserDTO.Response user = userService.saveUser(
+                new UserDTO.Request("Buyer " + suffix, suffix + "@example.com", "password-" + suffix));
+        CreditCardDTO.Response creditCard = creditCardService.saveCreditCard(new CreditCardDTO.Request(
+                "Card " + suffix, new BigDecimal("10000.00"), 10, 20, new BigDecimal("10000.00"),
+                new CreditCardDTO.UserRef(user.id(), user.name())));
+        CategoryDTO.Response category = categoryService.saveCategory(new CategoryDTO.Request("Category " + suffix));
+
+        return new CreditCardTransactionDTO.Request(
+                "Warm purchase", CreditCardTransactionType.PURCHASE, BigDecimal.ONE, false, 1, 1,
+                LocalDate.now(), null,
+                new CreditCardTransactionDTO.CreditCardRef(creditCard.id()),
+                new CreditCardTransactionDTO.CategoryRef(category.id()),
+                null);
+    }
+
+}
@@ -0,0 +1,117 @@
+package com.ems.finance_tracker.service;
+
+import com.ems.finance_tracker.exception.ServiceOverloadedException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Checks that password hashing rejects work with a 503 and {@code Retry-After} instead of queueing
+ * it when the hashing pool is saturated.
+ *
+ * @author Evandro Machado
+ */
+class PasswordHashingServiceTest {
+
+    private final CountDownLatch hashingStarted = new CountDownLatch(1);
+    private final CountDownLatch releaseHashing = new CountDownLatch(1);
+
+    /**
+     * Encoder whose hashes block until released, so the pool can be held busy.
+     */
+    private final PasswordEncoder blockingEncoder = new PasswordEncoder() {
+        @Override
+        public String encode(CharSequence rawPassword) {
+            hashingStarted.countDown();
+            try {
+                releaseHashing.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return "hash:" + rawPassword;
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            return encodedPassword.equals("hash:" + rawPassword);
+        }
+    };
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private PasswordHashingService passwordHashingService;
+
+    @AfterEach
+    void releaseAndShutDown() {
+        releaseHashing.countDown();
+        if (passwordHashingService != null) {
+            passwordHashingService.shutdown();
+        }
+    }
+
+    @Test
+    void hashesOnThePool() {
+        releaseHashing.countDown();
+        passwordHashingService = service(Duration.ofSeconds(10));
+
+        assertThat(passwordHashingService.hash("password")).isEqualTo("hash:password");
+    }
+
+    @Test
+    void rejectsWith503AndRetryAfterWhenTheQueueIsFull() throws InterruptedException {
+        passwordHashingService = service(Duration.ofSeconds(10));
+
+        // One hash occupies the only thread and a second one fills the queue.
+        CompletableFuture.runAsync(() -> passwordHashingService.hash("running"));
+        assertThat(hashingStarted.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture.runAsync(() -> passwordHashingService.hash("queued"));
+        awaitQueued(1);
+
+        assertThatThrownBy(() -> passwordHashingService.hash("rejected"))
+                .isInstanceOfSatisfying(ServiceOverloadedException.class, rejection -> {
+                    assertThat(rejection.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+                    assertThat(rejection.getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("5");
+                });
+    }
+
+    @Test
+    void rejectsWith503AndRetryAfterWhenTheHashIsNotReadyInTime() {
+        passwordHashingService = service(Duration.ofMillis(100));
+
+        assertThatThrownBy(() -> passwordHashingService.hash("slow"))
+                .isInstanceOfSatisfying(ServiceOverloadedException.class, rejection -> {
+                    assertThat(rejection.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+                    assertThat(rejection.getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("5");
+                });
+    }
+
+    private PasswordHashingService service(Duration waitTimeout) {
+        return new PasswordHashingService(blockingEncoder, meterRegistry,
+                1, 1, 10, Duration.ofMillis(250), waitTimeout, Duration.ofSeconds(5));
+    }
+
+    /**
+     * Waits until the hashing pool reports the given number of queued hashes.
+     */
+    private void awaitQueued(int queued) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (meterRegistry.get("executor.queued").tag("name", "password-hashing").gauge().value() < queued) {
+            if (System.nanoTime() > deadline) {
+                throw new AssertionError("The hashing queue never held " + queued + " hashes.");
+            }
+            Thread.sleep(10);
+        }
+    }
+
+}
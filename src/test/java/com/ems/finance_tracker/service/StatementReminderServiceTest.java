@@ -0,0 +1,88 @@
+package com.ems.finance_tracker.service;
+
+import com.ems.finance_tracker.TestcontainersConfiguration;
+import com.ems.finance_tracker.dto.CreditCardDTO;
+import com.ems.finance_tracker.dto.CreditCardStatementDTO;
+import com.ems.finance_tracker.dto.UserDTO;
+import com.ems.finance_tracker.model.entity.CreditCardStatement;
+import com.ems.finance_tracker.repository.CreditCardRepository;
+import com.ems.finance_tracker.repository.CreditCardStatementRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks that due-date reminders published by the statement lifecycle reach the card holder,
+ * and are queued once per statement.
+ *
+ * @author Evandro Machado
+ */
+@SpringBootTest
+@Testcontainers(disabledWithoutDocker = true)
+@Import(TestcontainersConfiguration.class)
+@ActiveProfiles("test")
+class StatementReminderServiceTest {
+
+    @Autowired
+    private CreditCardStatementLifecycleService creditCardStatementLifecycleService;
+
+    @Autowired
+    private StatementReminderService statementReminderService;
+
+    @Autowired
+    private CreditCardService creditCardService;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private CreditCardRepository creditCardRepository;
+
+    @Autowired
+    private CreditCardStatementRepository creditCardStatementRepository;
+
+    @Test
+    void closedStatementFallingDueIsQueuedForItsHolderOnce() {
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        UserDTO.Response user = userService.saveUser(
+                new UserDTO.Request("Holder " + suffix, suffix + "@example.com", "password-" + suffix));
+        BigDecimal limit = new BigDecimal("1000.00");
+        CreditCardDTO.Response creditCard = creditCardService.saveCreditCard(new CreditCardDTO.Request(
+                "Card " + suffix, limit, 10, 20, limit, new CreditCardDTO.UserRef(user.id(), user.name())));
+
+        LocalDate today = LocalDate.now();
+        int dueDay = Math.max(today.getDayOfMonth(), 2);
+        CreditCardStatement statement = CreditCardStatement.builder()
+                .referenceMonth(YearMonth.from(today))
+                .closingDay(dueDay - 1)
+                .dueDay(dueDay)
+                .creditCard(creditCardRepository.findById(creditCard.id()).orElseThrow())
+                .build();
+        statement.close();
+        Long statementId = creditCardStatementRepository.save(statement).getId();
+
+        creditCardStatementLifecycleService.sendDueReminders();
+        creditCardStatementLifecycleService.sendDueReminders();
+
+        List<CreditCardStatementDTO.DueReminder> reminders = statementReminderService.findPendingReminders(user.id());
+        assertThat(reminders).singleElement().satisfies(reminder -> {
+            assertThat(reminder.statementId()).isEqualTo(statementId);
+            assertThat(reminder.creditCardId()).isEqualTo(creditCard.id());
+            assertThat(reminder.dueDate()).isEqualTo(YearMonth.from(today).atDay(dueDay));
+            assertThat(reminder.balance()).isEqualByComparingTo("0");
+        });
+        assertThat(creditCardStatementRepository.findById(statementId).orElseThrow().isDueReminderSent()).isTrue();
+    }
+
+}
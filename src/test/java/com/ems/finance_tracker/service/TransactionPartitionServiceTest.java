@@ -0,0 +1,51 @@
+package com.ems.finance_tracker.service;
+
+import com.ems.finance_tracker.exception.BusinessException;
+import com.ems.finance_tracker.model.entity.CreditCardTransaction;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Checks which purchase dates are accepted once old partitions are detached.
+ *
+ * @author Evandro Machado
+ */
+class TransactionPartitionServiceTest {
+
+    @Test
+    void acceptsEveryValidDateWithoutRetention() {
+        TransactionPartitionService service = new TransactionPartitionService(null, null, true, 0);
+
+        assertThat(service.minPurchaseDate()).isEqualTo(CreditCardTransaction.MIN_PURCHASE_DATE);
+        assertThatCode(() -> service.requireRetained(CreditCardTransaction.MIN_PURCHASE_DATE))
+                .doesNotThrowAnyException();
+    }
+
+    @Test
+    void rejectsDatesInArchivedMonths() {
+        TransactionPartitionService service = new TransactionPartitionService(null, null, true, 12);
+        LocalDate cutoff = YearMonth.now().minusMonths(12).atDay(1);
+
+        assertThat(service.minPurchaseDate()).isEqualTo(cutoff);
+        assertThatCode(() -> service.requireRetained(cutoff)).doesNotThrowAnyException();
+        assertThatThrownBy(() -> service.requireRetained(cutoff.minusDays(1)))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining("archived month");
+    }
+
+    @Test
+    void ignoresRetentionWhilePartitioningIsDisabled() {
+        TransactionPartitionService service = new TransactionPartitionService(null, null, false, 12);
+
+        assertThat(service.minPurchaseDate()).isEqualTo(CreditCardTransaction.MIN_PURCHASE_DATE);
+        assertThatCode(() -> service.requireRetained(CreditCardTransaction.MIN_PURCHASE_DATE))
+                .doesNotThrowAnyException();
+    }
+
+}
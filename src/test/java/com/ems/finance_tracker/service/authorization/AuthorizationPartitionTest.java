@@ -0,0 +1,223 @@
+package com.ems.finance_tracker.service.authorization;
+
+import com.ems.finance_tracker.exception.ResourceNotFoundException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Checks the decisions, journaling and settlement of one authorization engine partition.
+ *
+ * @author Evandro Machado
+ */
+class AuthorizationPartitionTest {
+
+    private static final long CREDIT_CARD_ID = 1;
+
+    private static final long SLOW_CREDIT_CARD_ID = 2;
+
+    @TempDir
+    private Path journalDirectory;
+
+    private final AtomicLong persistedLimitInCents = new AtomicLong(10_000);
+
+    private final CountDownLatch releaseSlowLoad = new CountDownLatch(1);
+
+    private FailingJournal journal;
+
+    private AuthorizationPartition partition;
+
+    /**
+     * Journal whose next commit can be made to fail after writing its records, as a failed force would.
+     */
+    private static final class FailingJournal extends AuthorizationJournal {
+
+        private final AtomicBoolean failNextCommit = new AtomicBoolean();
+
+        FailingJournal(Path directory) throws IOException {
+            super(directory, 0, 1, 64);
+        }
+
+        @Override
+        void commit() throws IOException {
+            super.commit();
+            if (failNextCommit.getAndSet(false)) {
+                throw new IOException("Simulated disk failure");
+            }
+        }
+    }
+
+    @BeforeEach
+    void startPartition() throws IOException {
+        journal = new FailingJournal(journalDirectory);
+        partition = new AuthorizationPartition(0, journal, 0, this::loadAvailableLimit, 1024, 64);
+    }
+
+    @AfterEach
+    void stopPartition() throws InterruptedException {
+        releaseSlowLoad.countDown();
+        partition.stop();
+    }
+
+    @Test
+    void approvesWithinTheAvailableLimitAndDeclinesBeyondIt() throws Exception {
+        AuthorizationPartition.Result first = authorize(6_000);
+        AuthorizationPartition.Result declined = authorize(5_000);
+        AuthorizationPartition.Result second = authorize(4_000);
+
+        assertThat(first).isEqualTo(new AuthorizationPartition.Result(true, 1, 4_000));
+        assertThat(declined).isEqualTo(new AuthorizationPartition.Result(false, 0, 4_000));
+        assertThat(second).isEqualTo(new AuthorizationPartition.Result(true, 2, 0));
+    }
+
+    @Test
+    void rejectsUnknownCards() {
+        assertThatThrownBy(() -> partition.authorize(99, 100).get(5, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(ResourceNotFoundException.class);
+    }
+
+    @Test
+    void journalsEveryApproval() throws Exception {
+        authorize(1_000);
+        authorize(20_000);
+        authorize(2_000);
+        partition.stop();
+
+        List<AuthorizationJournal.Entry> entries = new ArrayList<>();
+        for (Path segment : AuthorizationJournal.segments(journalDirectory)) {
+            AuthorizationJournal.read(segment, entries::add);
+        }
+
+        assertThat(entries).containsExactly(
+                new AuthorizationJournal.Entry(1, CREDIT_CARD_ID, 1_000),
+                new AuthorizationJournal.Entry(2, CREDIT_CARD_ID, 2_000));
+    }
+
+    @Test
+    void drainsTheNetDeltaOfApprovals() throws Exception {
+        authorize(1_000);
+        authorize(2_500);
+
+        AuthorizationPartition.Drain drain = drain();
+
+        assertThat(drain).isEqualTo(new AuthorizationPartition.Drain(0, Map.of(CREDIT_CARD_ID, -3_500L), 2));
+    }
+
+    @Test
+    void failedDrainIsDrainedAgainWithLaterApprovals() throws Exception {
+        authorize(3_000);
+        drain();
+        partition.drainFailed();
+        authorize(1_000);
+
+        assertThat(drain().deltas()).isEqualTo(Map.of(CREDIT_CARD_ID, -4_000L));
+    }
+
+    @Test
+    void settledDrainDeletesSealedSegmentsAndReloadsStaleCards() throws Exception {
+        authorize(3_000);
+        drain();
+
+        // The database now holds the settled amount plus a change made outside the engine.
+        persistedLimitInCents.set(10_000 - 3_000 - 500);
+        partition.settled(Set.of(CREDIT_CARD_ID));
+
+        assertThat(authorize(1_000).availableLimitInCents()).isEqualTo(5_500);
+        assertThat(drain().deltas()).isEqualTo(Map.of(CREDIT_CARD_ID, -1_000L));
+        assertThat(AuthorizationJournal.segments(journalDirectory)).hasSize(2);
+    }
+
+    @Test
+    void reloadedCardKeepsApprovalsNotYetDrained() throws Exception {
+        authorize(3_000);
+        drain();
+        authorize(1_000);
+
+        persistedLimitInCents.set(10_000 - 3_000);
+        partition.settled(Set.of(CREDIT_CARD_ID));
+
+        assertThat(authorize(500).availableLimitInCents()).isEqualTo(5_500);
+    }
+
+    @Test
+    void coldCardLoadDoesNotHoldBackOtherCards() throws Exception {
+        CompletableFuture<AuthorizationPartition.Result> slow = partition.authorize(SLOW_CREDIT_CARD_ID, 1_000);
+
+        assertThat(authorize(2_000)).isEqualTo(new AuthorizationPartition.Result(true, 1, 8_000));
+        assertThat(slow).isNotDone();
+
+        releaseSlowLoad.countDown();
+        assertThat(slow.get(5, TimeUnit.SECONDS)).isEqualTo(new AuthorizationPartition.Result(true, 2, 4_000));
+    }
+
+    @Test
+    void recoversFromAJournalFailureWithoutKeepingTheFailedApprovals() throws Exception {
+        authorize(1_000);
+        journal.failNextCommit.set(true);
+
+        assertThatThrownBy(() -> authorize(2_000))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(IllegalStateException.class);
+        awaitAvailable();
+
+        assertThat(authorize(500)).isEqualTo(new AuthorizationPartition.Result(true, 2, 8_500));
+        assertThat(drain().deltas()).isEqualTo(Map.of(CREDIT_CARD_ID, -1_500L));
+
+        partition.stop();
+        List<AuthorizationJournal.Entry> entries = new ArrayList<>();
+        for (Path segment : AuthorizationJournal.segments(journalDirectory)) {
+            AuthorizationJournal.read(segment, entries::add);
+        }
+        assertThat(entries).containsExactly(
+                new AuthorizationJournal.Entry(1, CREDIT_CARD_ID, 1_000),
+                new AuthorizationJournal.Entry(2, CREDIT_CARD_ID, 500));
+    }
+
+    private OptionalLong loadAvailableLimit(long creditCardId) {
+        if (creditCardId == SLOW_CREDIT_CARD_ID) {
+            try {
+                releaseSlowLoad.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return OptionalLong.of(5_000);
+        }
+        return creditCardId == CREDIT_CARD_ID ? OptionalLong.of(persistedLimitInCents.get()) : OptionalLong.empty();
+    }
+
+    private void awaitAvailable() throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!partition.isAvailable() && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(partition.isAvailable()).isTrue();
+    }
+
+    private AuthorizationPartition.Result authorize(long amountInCents) throws Exception {
+        return partition.authorize(CREDIT_CARD_ID, amountInCents).get(5, TimeUnit.SECONDS);
+    }
+
+    private AuthorizationPartition.Drain drain() throws Exception {
+        return partition.drain().get(5, TimeUnit.SECONDS);
+    }
+
+}